@@ -16,12 +16,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import org.web3j.abi.datatypes.Address;
 import org.web3j.abi.datatypes.Array;
+import org.web3j.abi.datatypes.Bool;
 import org.web3j.abi.datatypes.Bytes;
 import org.web3j.abi.datatypes.BytesType;
 import org.web3j.abi.datatypes.DynamicArray;
 import org.web3j.abi.datatypes.DynamicBytes;
 import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.NumericType;
 import org.web3j.abi.datatypes.StaticArray;
 import org.web3j.abi.datatypes.StaticStruct;
 import org.web3j.abi.datatypes.Type;
@@ -33,7 +36,6 @@ import org.web3j.utils.Strings;
 import static org.web3j.abi.TypeDecoder.MAX_BYTE_LENGTH_FOR_HEX_STRING;
 import static org.web3j.abi.TypeDecoder.isDynamic;
 import static org.web3j.abi.Utils.getParameterizedTypeFromArray;
-import static org.web3j.abi.Utils.staticStructNestedPublicFieldsFlatList;
 
 /**
  * Ethereum Contract Application Binary Interface (ABI) encoding for functions. Further details are
@@ -63,8 +65,7 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
             Class<T> type = typeReference.getClassType();
 
             if (Bytes.class.isAssignableFrom(type)) {
-                Class<Bytes> bytesClass = (Class<Bytes>) Class.forName(type.getName());
-                return TypeDecoder.decodeBytes(input, bytesClass);
+                return TypeDecoder.decodeBytes(input, (Class<Bytes>) type);
             } else if (Array.class.isAssignableFrom(type)
                     || BytesType.class.isAssignableFrom(type)
                     || Utf8String.class.isAssignableFrom(type)) {
@@ -77,6 +78,76 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
         }
     }
 
+    /**
+     * Decode function return values directly from bytes. Elementary types are read straight from
+     * their 32 byte words; results containing arrays or structs are decoded via the hex string
+     * representation of the input.
+     */
+    @Override
+    public List<Type> decodeFunctionResult(
+            byte[] rawInput, List<TypeReference<Type>> outputParameters) {
+
+        if (rawInput.length == 0) {
+            return Collections.emptyList();
+        }
+
+        try {
+            for (TypeReference<Type> typeReference : outputParameters) {
+                if (!isElementary(typeReference.getClassType())) {
+                    return decodeFunctionResult(
+                            Numeric.toHexStringNoPrefix(rawInput), outputParameters);
+                }
+            }
+
+            List<Type> results = new ArrayList<>(outputParameters.size());
+            int offset = 0;
+            for (TypeReference<Type> typeReference : outputParameters) {
+                Class<Type> classType = typeReference.getClassType();
+                int dataOffset =
+                        isDynamic(classType)
+                                ? TypeDecoder.decodeUintAsInt(rawInput, offset)
+                                : offset;
+                results.add(TypeDecoder.decode(rawInput, dataOffset, classType));
+                offset += Type.MAX_BYTE_LENGTH;
+            }
+            return results;
+        } catch (ClassNotFoundException e) {
+            throw new UnsupportedOperationException("Invalid class reference provided", e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Type> Type decodeEventParameter(
+            byte[] rawInput, TypeReference<T> typeReference) {
+
+        try {
+            Class<T> type = typeReference.getClassType();
+
+            if (Bytes.class.isAssignableFrom(type)) {
+                return TypeDecoder.decodeBytes(rawInput, 0, (Class<Bytes>) type);
+            } else if (Array.class.isAssignableFrom(type)
+                    || BytesType.class.isAssignableFrom(type)
+                    || Utf8String.class.isAssignableFrom(type)) {
+                return TypeDecoder.decodeBytes(rawInput, 0, Bytes32.class);
+            } else if (isElementary(type)) {
+                return TypeDecoder.decode(rawInput, 0, type);
+            } else {
+                return decodeEventParameter(Numeric.toHexStringNoPrefix(rawInput), typeReference);
+            }
+        } catch (ClassNotFoundException e) {
+            throw new UnsupportedOperationException("Invalid class reference provided", e);
+        }
+    }
+
+    private static boolean isElementary(Class<?> type) {
+        return NumericType.class.isAssignableFrom(type)
+                || Address.class.isAssignableFrom(type)
+                || Bool.class.isAssignableFrom(type)
+                || BytesType.class.isAssignableFrom(type)
+                || Utf8String.class.isAssignableFrom(type);
+    }
+
     private static List<Type> build(String input, List<TypeReference<Type>> outputParameters) {
         List<Type> results = new ArrayList<>(outputParameters.size());
 
@@ -113,7 +184,7 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
                             TypeDecoder.decodeStaticStruct(
                                     input, hexStringDataOffset, typeReference);
                     offset +=
-                            staticStructNestedPublicFieldsFlatList(classType).size()
+                            TypeMetadata.getStaticStructSize(classType)
                                     * MAX_BYTE_LENGTH_FOR_HEX_STRING;
                 } else if (StaticArray.class.isAssignableFrom(classType)) {
                     int length =
@@ -130,10 +201,8 @@ public class DefaultFunctionReturnDecoder extends FunctionReturnDecoder {
                     } else if (StaticStruct.class.isAssignableFrom(
                             getParameterizedTypeFromArray(typeReference))) {
                         offset +=
-                                staticStructNestedPublicFieldsFlatList(
-                                                        getParameterizedTypeFromArray(
-                                                                typeReference))
-                                                .size()
+                                TypeMetadata.getStaticStructSize(
+                                                getParameterizedTypeFromArray(typeReference))
                                         * length
                                         * MAX_BYTE_LENGTH_FOR_HEX_STRING;
                     } else if (Utf8String.class.isAssignableFrom(
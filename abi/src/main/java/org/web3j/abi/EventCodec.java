@@ -0,0 +1,113 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Type;
+
+/**
+ * A reusable decoder for the logs of a single smart contract event.
+ *
+ * <p>The event signature and its topic are computed once when the codec is created, and the indexed
+ * and non-indexed parameters are split up front, so that decoding a log does not require re-hashing
+ * the signature.
+ *
+ * <p>Codecs are immutable and may be shared between threads.
+ */
+public final class EventCodec {
+
+    private final String name;
+    private final String signature;
+    private final String topic;
+    private final List<TypeReference<Type>> indexedParameters;
+    private final List<TypeReference<Type>> nonIndexedParameters;
+
+    private EventCodec(Event event) {
+        this.name = event.getName();
+        this.signature = EventEncoder.buildMethodSignature(name, event.getParameters());
+        this.topic = EventEncoder.buildEventSignature(signature);
+        this.indexedParameters = Collections.unmodifiableList(event.getIndexedParameters());
+        this.nonIndexedParameters = Collections.unmodifiableList(event.getNonIndexedParameters());
+    }
+
+    /**
+     * Create a codec for the given event.
+     *
+     * @param event event definition
+     * @return codec for the event
+     */
+    public static EventCodec of(Event event) {
+        return new EventCodec(event);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the canonical event signature, e.g. {@code Transfer(address,address,uint256)}
+     */
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * @return the hex encoded event topic, as per {@link EventEncoder#encode(Event)}
+     */
+    public String getTopic() {
+        return topic;
+    }
+
+    public List<TypeReference<Type>> getIndexedParameters() {
+        return indexedParameters;
+    }
+
+    public List<TypeReference<Type>> getNonIndexedParameters() {
+        return nonIndexedParameters;
+    }
+
+    /**
+     * @param topics topics of a log
+     * @return true if the first topic identifies this event
+     */
+    public boolean matches(List<String> topics) {
+        return topics != null && !topics.isEmpty() && topic.equals(topics.get(0));
+    }
+
+    /**
+     * Decode the parameters of a log emitted by this event.
+     *
+     * @param topics topics of the log
+     * @param data data of the log
+     * @return the decoded parameters, or null if the log was not emitted by this event
+     */
+    public EventValues decode(List<String> topics, String data) {
+        if (!matches(topics)) {
+            return null;
+        }
+
+        List<Type> nonIndexedValues = FunctionReturnDecoder.decode(data, nonIndexedParameters);
+
+        List<Type> indexedValues = new ArrayList<>(indexedParameters.size());
+        for (int i = 0; i < indexedParameters.size(); i++) {
+            indexedValues.add(
+                    FunctionReturnDecoder.decodeIndexedValue(
+                            topics.get(i + 1), indexedParameters.get(i)));
+        }
+        return new EventValues(indexedValues, nonIndexedValues);
+    }
+}
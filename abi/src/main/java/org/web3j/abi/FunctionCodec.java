@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.web3j.abi.datatypes.Array;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+
+/**
+ * A reusable encoder and decoder for calls to a single smart contract function.
+ *
+ * <p>The function signature and its selector are computed once when the codec is created, so that
+ * subsequent calls only encode their parameter values and decode their return values:
+ *
+ * <pre>{@code
+ * FunctionCodec balanceOf = FunctionCodec.of(
+ *         new Function("balanceOf",
+ *                 Arrays.asList(new Address(owner)),
+ *                 Arrays.asList(new TypeReference<Uint256>() {})));
+ *
+ * String data = balanceOf.encode(new Address(otherOwner));
+ * List<Type> result = balanceOf.decode(response.getValue());
+ * }</pre>
+ *
+ * <p>Codecs are immutable and may be shared between threads.
+ */
+public final class FunctionCodec {
+
+    private final String name;
+    private final String signature;
+    private final String selector;
+    private final Class<?>[] inputClasses;
+    // ABI type names of array parameters, whose element type is not given by their class
+    private final String[] inputTypeNames;
+    private final List<TypeReference<Type>> outputParameters;
+
+    private FunctionCodec(
+            String name,
+            String signature,
+            List<Type> inputParameters,
+            List<TypeReference<Type>> outputParameters) {
+        this.name = name;
+        this.signature = signature;
+        this.selector = FunctionEncoder.buildMethodId(signature);
+        this.inputClasses = new Class<?>[inputParameters.size()];
+        this.inputTypeNames = new String[inputParameters.size()];
+        for (int i = 0; i < inputParameters.size(); i++) {
+            Type parameter = inputParameters.get(i);
+            inputClasses[i] = parameter.getClass();
+            if (parameter instanceof Array) {
+                inputTypeNames[i] = parameter.getTypeAsString();
+            }
+        }
+        this.outputParameters = Collections.unmodifiableList(outputParameters);
+    }
+
+    /**
+     * Create a codec for the given function. The function's input parameter values are only used to
+     * determine its signature.
+     *
+     * @param function function definition
+     * @return codec for the function
+     */
+    public static FunctionCodec of(Function function) {
+        List<Type> inputParameters = function.getInputParameters();
+        return new FunctionCodec(
+                function.getName(),
+                FunctionEncoder.buildMethodSignature(function.getName(), inputParameters),
+                inputParameters,
+                function.getOutputParameters());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the canonical function signature, e.g. {@code transfer(address,uint256)}
+     */
+    public String getSignature() {
+        return signature;
+    }
+
+    /**
+     * @return the hex encoded 4 byte function selector, including the 0x prefix
+     */
+    public String getSelector() {
+        return selector;
+    }
+
+    public List<TypeReference<Type>> getOutputParameters() {
+        return outputParameters;
+    }
+
+    /**
+     * Encode a call to this function, as per {@link FunctionEncoder#encode(Function)}.
+     *
+     * @param inputParameters parameter values, of the same types as the function definition
+     * @return hex encoded call data
+     * @throws IllegalArgumentException if the number or types of the values do not match the
+     *     function definition
+     */
+    public String encode(List<Type> inputParameters) {
+        if (inputParameters.size() != inputClasses.length) {
+            throw new IllegalArgumentException(
+                    "Function "
+                            + signature
+                            + " expects "
+                            + inputClasses.length
+                            + " parameters, but "
+                            + inputParameters.size()
+                            + " were provided");
+        }
+        for (int i = 0; i < inputClasses.length; i++) {
+            Type parameter = inputParameters.get(i);
+            if (parameter.getClass() != inputClasses[i]
+                    || (inputTypeNames[i] != null
+                            && !inputTypeNames[i].equals(parameter.getTypeAsString()))) {
+                throw new IllegalArgumentException(
+                        "Function "
+                                + signature
+                                + " expects parameter "
+                                + i
+                                + " of type "
+                                + (inputTypeNames[i] != null
+                                        ? inputTypeNames[i]
+                                        : inputClasses[i].getSimpleName())
+                                + ", but "
+                                + parameter.getTypeAsString()
+                                + " was provided");
+            }
+        }
+        return FunctionEncoder.encode(selector, inputParameters);
+    }
+
+    public String encode(Type... inputParameters) {
+        return encode(Arrays.asList(inputParameters));
+    }
+
+    /**
+     * Decode the values returned by this function, as per {@link
+     * FunctionReturnDecoder#decode(String, List)}.
+     *
+     * @param rawOutput ABI encoded return value
+     * @return the decoded values
+     */
+    public List<Type> decode(String rawOutput) {
+        return FunctionReturnDecoder.decode(rawOutput, outputParameters);
+    }
+
+    public List<Type> decode(byte[] rawOutput) {
+        return FunctionReturnDecoder.decode(rawOutput, outputParameters);
+    }
+}
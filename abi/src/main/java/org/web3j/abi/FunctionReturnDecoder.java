@@ -12,6 +12,7 @@
  */
 package org.web3j.abi;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -22,6 +23,7 @@ import org.web3j.abi.datatypes.Address;
 import org.web3j.abi.datatypes.DynamicBytes;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.spi.FunctionReturnDecoderProvider;
+import org.web3j.utils.Numeric;
 
 /**
  * Decodes values returned by function or event calls.
@@ -108,9 +110,80 @@ public abstract class FunctionReturnDecoder {
         return decoder.decodeEventParameter(rawInput, typeReference);
     }
 
+    /**
+     * Decode ABI encoded return values from smart contract function call, as per {@link
+     * #decode(String, List)}, reading the 32 byte words directly from the provided bytes.
+     *
+     * @param rawInput ABI encoded input
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function, {@link Collections#emptyList()} if
+     *     invalid response
+     */
+    public static List<Type> decode(byte[] rawInput, List<TypeReference<Type>> outputParameters) {
+        return decoder.decodeFunctionResult(rawInput, outputParameters);
+    }
+
+    /**
+     * Decode ABI encoded return values from the remaining bytes of the provided buffer. The
+     * buffer's position is not modified.
+     *
+     * @param rawInput ABI encoded input
+     * @param outputParameters list of return types as {@link TypeReference}
+     * @return {@link List} of values returned by function, {@link Collections#emptyList()} if
+     *     invalid response
+     */
+    public static List<Type> decode(
+            ByteBuffer rawInput, List<TypeReference<Type>> outputParameters) {
+        return decoder.decodeFunctionResult(toByteArray(rawInput), outputParameters);
+    }
+
+    /**
+     * Decodes an indexed parameter associated with an event, as per {@link
+     * #decodeIndexedValue(String, TypeReference)}.
+     *
+     * @param rawInput ABI encoded topic
+     * @param typeReference of expected result type
+     * @param <T> type of TypeReference
+     * @return the decode value
+     */
+    public static <T extends Type> Type decodeIndexedValue(
+            byte[] rawInput, TypeReference<T> typeReference) {
+        return decoder.decodeEventParameter(rawInput, typeReference);
+    }
+
     protected abstract List<Type> decodeFunctionResult(
             String rawInput, List<TypeReference<Type>> outputParameters);
 
     protected abstract <T extends Type> Type decodeEventParameter(
             String rawInput, TypeReference<T> typeReference);
+
+    /**
+     * Decode function return values from bytes. Implementations which do not override this method
+     * decode via the hex string representation of the input.
+     */
+    protected List<Type> decodeFunctionResult(
+            byte[] rawInput, List<TypeReference<Type>> outputParameters) {
+        return decodeFunctionResult(Numeric.toHexStringNoPrefix(rawInput), outputParameters);
+    }
+
+    /**
+     * Decode an indexed event parameter from bytes. Implementations which do not override this
+     * method decode via the hex string representation of the input.
+     */
+    protected <T extends Type> Type decodeEventParameter(
+            byte[] rawInput, TypeReference<T> typeReference) {
+        return decodeEventParameter(Numeric.toHexStringNoPrefix(rawInput), typeReference);
+    }
+
+    private static byte[] toByteArray(ByteBuffer buffer) {
+        if (buffer.hasArray()
+                && buffer.arrayOffset() == 0
+                && buffer.position() == 0
+                && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
 }
@@ -35,10 +35,6 @@ import org.web3j.abi.datatypes.BytesType;
 import org.web3j.abi.datatypes.DynamicArray;
 import org.web3j.abi.datatypes.DynamicBytes;
 import org.web3j.abi.datatypes.DynamicStruct;
-import org.web3j.abi.datatypes.Fixed;
-import org.web3j.abi.datatypes.FixedPointType;
-import org.web3j.abi.datatypes.Int;
-import org.web3j.abi.datatypes.IntType;
 import org.web3j.abi.datatypes.NumericType;
 import org.web3j.abi.datatypes.StaticArray;
 import org.web3j.abi.datatypes.StaticStruct;
@@ -54,9 +50,7 @@ import org.web3j.utils.Numeric;
 
 import static org.web3j.abi.DefaultFunctionReturnDecoder.getDataOffset;
 import static org.web3j.abi.TypeReference.makeTypeReference;
-import static org.web3j.abi.Utils.findStructConstructor;
 import static org.web3j.abi.Utils.getSimpleTypeName;
-import static org.web3j.abi.Utils.staticStructNestedPublicFieldsFlatList;
 
 /**
  * Ethereum Contract Application Binary Interface (ABI) decoding for types. Decoding is not
@@ -144,28 +138,17 @@ public class TypeDecoder {
     }
 
     public static <T extends NumericType> T decodeNumeric(String input, Class<T> type) {
-        try {
-            byte[] inputByteArray = Numeric.hexStringToByteArray(input);
-            int typeLengthAsBytes = getTypeLengthInBytes(type);
-            int valueOffset = Type.MAX_BYTE_LENGTH - typeLengthAsBytes;
+        byte[] inputByteArray = Numeric.hexStringToByteArray(input);
+        int typeLengthAsBytes = getTypeLengthInBytes(type);
+        int valueOffset = Type.MAX_BYTE_LENGTH - typeLengthAsBytes;
 
-            BigInteger numericValue;
-            if (Uint.class.isAssignableFrom(type) || Ufixed.class.isAssignableFrom(type)) {
-                numericValue = new BigInteger(1, inputByteArray, valueOffset, typeLengthAsBytes);
-            } else {
-                numericValue = new BigInteger(inputByteArray, valueOffset, typeLengthAsBytes);
-            }
-            return type.getConstructor(BigInteger.class).newInstance(numericValue);
-
-        } catch (NoSuchMethodException
-                | SecurityException
-                | InstantiationException
-                | IllegalAccessException
-                | IllegalArgumentException
-                | InvocationTargetException e) {
-            throw new UnsupportedOperationException(
-                    "Unable to create instance of " + type.getName(), e);
+        BigInteger numericValue;
+        if (Uint.class.isAssignableFrom(type) || Ufixed.class.isAssignableFrom(type)) {
+            numericValue = new BigInteger(1, inputByteArray, valueOffset, typeLengthAsBytes);
+        } else {
+            numericValue = new BigInteger(inputByteArray, valueOffset, typeLengthAsBytes);
         }
+        return TypeMetadata.newNumeric(type, numericValue);
     }
 
     static <T extends NumericType> int getTypeLengthInBytes(Class<T> type) {
@@ -173,22 +156,7 @@ public class TypeDecoder {
     }
 
     static <T extends NumericType> int getTypeLength(Class<T> type) {
-        if (IntType.class.isAssignableFrom(type)) {
-            String regex = "(" + Uint.class.getSimpleName() + "|" + Int.class.getSimpleName() + ")";
-            String[] splitName = type.getSimpleName().split(regex);
-            if (splitName.length == 2) {
-                return Integer.parseInt(splitName[1]);
-            }
-        } else if (FixedPointType.class.isAssignableFrom(type)) {
-            String regex =
-                    "(" + Ufixed.class.getSimpleName() + "|" + Fixed.class.getSimpleName() + ")";
-            String[] splitName = type.getSimpleName().split(regex);
-            if (splitName.length == 2) {
-                String[] bitsCounts = splitName[1].split("x");
-                return Integer.parseInt(bitsCounts[0]) + Integer.parseInt(bitsCounts[1]);
-            }
-        }
-        return Type.MAX_BIT_LENGTH;
+        return TypeMetadata.getTypeLength(type);
     }
 
     static Type instantiateArrayType(TypeReference ref, Object value)
@@ -285,7 +253,7 @@ public class TypeDecoder {
             // length field + data value
             return (decodeUintAsInt(input, offset) / Type.MAX_BYTE_LENGTH) + 2;
         } else if (StaticStruct.class.isAssignableFrom(type)) {
-            return staticStructNestedPublicFieldsFlatList((Class<Type>) type).size();
+            return TypeMetadata.getStaticStructSize(type);
         } else {
             return 1;
         }
@@ -308,24 +276,12 @@ public class TypeDecoder {
     }
 
     public static <T extends Bytes> T decodeBytes(String input, int offset, Class<T> type) {
-        try {
-            String simpleName = type.getSimpleName();
-            String[] splitName = simpleName.split(Bytes.class.getSimpleName());
-            int length = Integer.parseInt(splitName[1]);
-            int hexStringLength = length << 1;
-
-            byte[] bytes =
-                    Numeric.hexStringToByteArray(input.substring(offset, offset + hexStringLength));
-            return type.getConstructor(byte[].class).newInstance(bytes);
-        } catch (NoSuchMethodException
-                | SecurityException
-                | InstantiationException
-                | IllegalAccessException
-                | IllegalArgumentException
-                | InvocationTargetException e) {
-            throw new UnsupportedOperationException(
-                    "Unable to create instance of " + type.getName(), e);
-        }
+        int length = TypeMetadata.getBytesLength(type);
+        int hexStringLength = length << 1;
+
+        byte[] bytes =
+                Numeric.hexStringToByteArray(input.substring(offset, offset + hexStringLength));
+        return TypeMetadata.newBytes(type, bytes);
     }
 
     public static DynamicBytes decodeDynamicBytes(String input, int offset) {
@@ -347,6 +303,115 @@ public class TypeDecoder {
         return new Utf8String(new String(bytes, StandardCharsets.UTF_8));
     }
 
+    /**
+     * Decode a value directly from ABI encoded bytes, without converting to a hex string first.
+     * Only the elementary types are supported, array and struct types must be decoded via {@link
+     * #decode(String, int, Class)}.
+     *
+     * @param input ABI encoded bytes
+     * @param offset byte offset of the value's 32 byte word, or of its length word for dynamic
+     *     types
+     * @param type type to decode
+     * @param <T> type to decode
+     * @return the decoded value
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends Type> T decode(byte[] input, int offset, Class<T> type) {
+        if (NumericType.class.isAssignableFrom(type)) {
+            return (T) decodeNumeric(input, offset, (Class<NumericType>) type);
+        } else if (Address.class.isAssignableFrom(type)) {
+            return (T) decodeAddress(input, offset);
+        } else if (Bool.class.isAssignableFrom(type)) {
+            return (T) decodeBool(input, offset);
+        } else if (Bytes.class.isAssignableFrom(type)) {
+            return (T) decodeBytes(input, offset, (Class<Bytes>) type);
+        } else if (DynamicBytes.class.isAssignableFrom(type)) {
+            return (T) decodeDynamicBytes(input, offset);
+        } else if (Utf8String.class.isAssignableFrom(type)) {
+            return (T) decodeUtf8String(input, offset);
+        } else {
+            throw new UnsupportedOperationException(
+                    "Type cannot be decoded from bytes: " + type.getName());
+        }
+    }
+
+    public static Address decodeAddress(byte[] input, int offset) {
+        return new Address(decodeNumeric(input, offset, Uint160.class));
+    }
+
+    public static <T extends NumericType> T decodeNumeric(byte[] input, int offset, Class<T> type) {
+        checkWord(input, offset);
+        int typeLengthAsBytes = getTypeLengthInBytes(type);
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH - typeLengthAsBytes;
+
+        BigInteger numericValue;
+        if (Uint.class.isAssignableFrom(type) || Ufixed.class.isAssignableFrom(type)) {
+            numericValue = new BigInteger(1, input, valueOffset, typeLengthAsBytes);
+        } else {
+            numericValue = new BigInteger(input, valueOffset, typeLengthAsBytes);
+        }
+        return TypeMetadata.newNumeric(type, numericValue);
+    }
+
+    public static Bool decodeBool(byte[] input, int offset) {
+        checkWord(input, offset);
+        int last = offset + Type.MAX_BYTE_LENGTH - 1;
+        boolean value = input[last] == 1;
+        for (int i = offset; i < last && value; i++) {
+            value = input[i] == 0;
+        }
+        return new Bool(value);
+    }
+
+    public static <T extends Bytes> T decodeBytes(byte[] input, int offset, Class<T> type) {
+        int length = TypeMetadata.getBytesLength(type);
+
+        byte[] bytes = Arrays.copyOfRange(input, offset, checkRange(input, offset, length));
+        return TypeMetadata.newBytes(type, bytes);
+    }
+
+    public static DynamicBytes decodeDynamicBytes(byte[] input, int offset) {
+        int encodedLength = decodeUintAsInt(input, offset);
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH;
+
+        return new DynamicBytes(
+                Arrays.copyOfRange(
+                        input, valueOffset, checkRange(input, valueOffset, encodedLength)));
+    }
+
+    public static Utf8String decodeUtf8String(byte[] input, int offset) {
+        int encodedLength = decodeUintAsInt(input, offset);
+        int valueOffset = offset + Type.MAX_BYTE_LENGTH;
+        checkRange(input, valueOffset, encodedLength);
+
+        return new Utf8String(
+                new String(input, valueOffset, encodedLength, StandardCharsets.UTF_8));
+    }
+
+    static int decodeUintAsInt(byte[] input, int offset) {
+        checkWord(input, offset);
+        // consistent with BigInteger.intValue() as used by the hex string decoder
+        int value = 0;
+        for (int i = offset + Type.MAX_BYTE_LENGTH - Integer.BYTES;
+                i < offset + Type.MAX_BYTE_LENGTH;
+                i++) {
+            value = (value << 8) | (input[i] & 0xff);
+        }
+        return value;
+    }
+
+    private static void checkWord(byte[] input, int offset) {
+        checkRange(input, offset, Type.MAX_BYTE_LENGTH);
+    }
+
+    private static int checkRange(byte[] input, int offset, int length) {
+        if (offset < 0 || length < 0 || length > input.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "Unable to read " + length + " bytes at offset " + offset);
+        }
+        return offset + length;
+    }
+
     /** Static array length cannot be passed as a type. */
     @SuppressWarnings("unchecked")
     public static <T extends Type> T decodeStaticArray(
@@ -448,22 +513,18 @@ public class TypeDecoder {
             final BiFunction<List<T>, String, T> consumer) {
         try {
             Class<T> classType = typeReference.getClassType();
-            Constructor<?> constructor = findStructConstructor(classType);
-            final int length = constructor.getParameterCount();
+            TypeMetadata.StructLayout layout = TypeMetadata.getStructLayout(classType);
+            final int length = layout.getParameterCount();
             List<T> elements = new ArrayList<>(length);
 
             for (int i = 0, currOffset = offset; i < length; i++) {
                 T value;
-                final Class<T> declaredField = (Class<T>) constructor.getParameterTypes()[i];
+                final Class<T> declaredField = (Class<T>) layout.getParameterType(i);
 
                 if (StaticStruct.class.isAssignableFrom(declaredField)) {
                     final int nestedStructLength =
-                            classType
-                                            .getDeclaredFields()[i]
-                                            .getType()
-                                            .getConstructors()[0]
-                                            .getParameters()
-                                            .length
+                            TypeMetadata.getStructLayout(layout.getDeclaredFieldType(i))
+                                            .getParameterCount()
                                     * 64;
                     value =
                             decodeStaticStruct(
@@ -499,9 +560,8 @@ public class TypeDecoder {
             } else if (classType.isAssignableFrom(StaticStruct.class)) {
                 return (T) new StaticStruct((List<Type>) parameters);
             } else {
-                Constructor ctor = findStructConstructor(classType);
-                ctor.setAccessible(true);
-                return (T) ctor.newInstance(parameters.toArray());
+                return (T)
+                        TypeMetadata.getStructLayout(classType).newInstance(parameters.toArray());
             }
         } catch (ReflectiveOperationException e) {
             throw new UnsupportedOperationException(
@@ -662,13 +722,13 @@ public class TypeDecoder {
             final BiFunction<List<T>, String, T> consumer) {
         try {
             final Class<T> classType = typeReference.getClassType();
-            Constructor<?> constructor = findStructConstructor(classType);
-            final int length = constructor.getParameterCount();
+            TypeMetadata.StructLayout layout = TypeMetadata.getStructLayout(classType);
+            final int length = layout.getParameterCount();
             final Map<Integer, T> parameters = new HashMap<>();
             int staticOffset = 0;
             final List<Integer> parameterOffsets = new ArrayList<>();
             for (int i = 0; i < length; ++i) {
-                final Class<T> declaredField = (Class<T>) constructor.getParameterTypes()[i];
+                final Class<T> declaredField = (Class<T>) layout.getParameterType(i);
                 final T value;
                 final int beginIndex = offset + staticOffset;
                 if (isDynamic(declaredField)) {
@@ -686,8 +746,7 @@ public class TypeDecoder {
                                         0,
                                         TypeReference.create(declaredField));
                         staticOffset +=
-                                staticStructNestedPublicFieldsFlatList((Class<Type>) declaredField)
-                                                .size()
+                                TypeMetadata.getStaticStructSize(declaredField)
                                         * MAX_BYTE_LENGTH_FOR_HEX_STRING;
                     } else {
                         value = decode(input.substring(beginIndex), 0, declaredField);
@@ -698,9 +757,9 @@ public class TypeDecoder {
             }
             int dynamicParametersProcessed = 0;
             int dynamicParametersToProcess =
-                    getDynamicStructDynamicParametersCount(constructor.getParameterTypes());
+                    getDynamicStructDynamicParametersCount(layout.getParameterTypes());
             for (int i = 0; i < length; ++i) {
-                final Class<T> declaredField = (Class<T>) constructor.getParameterTypes()[i];
+                final Class<T> declaredField = (Class<T>) layout.getParameterType(i);
                 if (isDynamic(declaredField)) {
                     final boolean isLastParameterInStruct =
                             dynamicParametersProcessed == (dynamicParametersToProcess - 1);
@@ -711,8 +770,7 @@ public class TypeDecoder {
                                     : parameterOffsets.get(dynamicParametersProcessed + 1)
                                             - parameterOffsets.get(dynamicParametersProcessed);
                     final Class<T> parameterFromAnnotation =
-                            Utils.extractParameterFromAnnotation(
-                                    constructor.getParameterAnnotations()[i]);
+                            (Class<T>) layout.getParameterizedType(i);
                     parameters.put(
                             i,
                             decodeDynamicParameterFromStruct(
@@ -838,16 +896,8 @@ public class TypeDecoder {
         return rslt;
     }
 
-    @SuppressWarnings("unchecked")
     private static <T extends Type> T instantiateStaticArray(List<T> elements, int length) {
-        try {
-            Class<? extends StaticArray> arrayClass =
-                    (Class<? extends StaticArray>)
-                            Class.forName("org.web3j.abi.datatypes.generated.StaticArray" + length);
-            return (T) arrayClass.getConstructor(List.class).newInstance(elements);
-        } catch (ReflectiveOperationException e) {
-            throw new UnsupportedOperationException(e);
-        }
+        return TypeMetadata.newStaticArray(length, elements);
     }
 
     private static <T extends Type> T decodeArrayElements(
@@ -0,0 +1,276 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.web3j.abi.datatypes.Bytes;
+import org.web3j.abi.datatypes.Fixed;
+import org.web3j.abi.datatypes.FixedPointType;
+import org.web3j.abi.datatypes.Int;
+import org.web3j.abi.datatypes.IntType;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.Ufixed;
+import org.web3j.abi.datatypes.Uint;
+
+import static org.web3j.abi.Utils.findStructConstructor;
+import static org.web3j.abi.Utils.staticStructNestedPublicFieldsFlatList;
+
+/**
+ * Per-class cache of the reflective metadata used when encoding and decoding ABI types.
+ *
+ * <p>Constructors are resolved once per class and held as {@link MethodHandle}s, and type lengths
+ * and struct layouts are computed once, so that encoding and decoding values does not require
+ * reflective lookups.
+ */
+final class TypeMetadata {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType FACTORY_TYPE =
+            MethodType.methodType(Object.class, Object.class);
+    private static final String STATIC_ARRAY_CLASS_PREFIX =
+            "org.web3j.abi.datatypes.generated.StaticArray";
+
+    private static final ClassValue<MethodHandle> NUMERIC_FACTORIES = factories(BigInteger.class);
+    private static final ClassValue<MethodHandle> BYTES_FACTORIES = factories(byte[].class);
+
+    private static final ClassValue<Integer> TYPE_LENGTHS =
+            new ClassValue<Integer>() {
+                @Override
+                protected Integer computeValue(Class<?> type) {
+                    return typeLength(type);
+                }
+            };
+
+    private static final ClassValue<Integer> BYTES_LENGTHS =
+            new ClassValue<Integer>() {
+                @Override
+                protected Integer computeValue(Class<?> type) {
+                    String[] splitName = type.getSimpleName().split(Bytes.class.getSimpleName());
+                    return Integer.parseInt(splitName[1]);
+                }
+            };
+
+    private static final ClassValue<Integer> STATIC_STRUCT_SIZES =
+            new ClassValue<Integer>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                protected Integer computeValue(Class<?> type) {
+                    return staticStructNestedPublicFieldsFlatList((Class<Type>) type).size();
+                }
+            };
+
+    private static final ClassValue<StructLayout> STRUCT_LAYOUTS =
+            new ClassValue<StructLayout>() {
+                @Override
+                protected StructLayout computeValue(Class<?> type) {
+                    return new StructLayout(type);
+                }
+            };
+
+    private static final Map<Integer, MethodHandle> STATIC_ARRAY_FACTORIES =
+            new ConcurrentHashMap<>();
+
+    private TypeMetadata() {}
+
+    static <T> T newNumeric(Class<T> type, BigInteger value) {
+        return newInstance(NUMERIC_FACTORIES, type, value);
+    }
+
+    static <T> T newBytes(Class<T> type, byte[] value) {
+        return newInstance(BYTES_FACTORIES, type, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T extends Type> T newStaticArray(int length, List<T> elements) {
+        MethodHandle factory =
+                STATIC_ARRAY_FACTORIES.computeIfAbsent(length, TypeMetadata::staticArrayFactory);
+        try {
+            return (T) (Object) factory.invokeExact((Object) elements);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+
+    /**
+     * @return the bit length of a numeric type, as per {@link TypeDecoder#getTypeLength(Class)}
+     */
+    static int getTypeLength(Class<?> type) {
+        return TYPE_LENGTHS.get(type);
+    }
+
+    /**
+     * @return the length in bytes of a fixed size {@link Bytes} type
+     */
+    static int getBytesLength(Class<?> type) {
+        return BYTES_LENGTHS.get(type);
+    }
+
+    /**
+     * @return the number of 32 byte words occupied by a static struct
+     */
+    static int getStaticStructSize(Class<?> type) {
+        return STATIC_STRUCT_SIZES.get(type);
+    }
+
+    static StructLayout getStructLayout(Class<?> type) {
+        return STRUCT_LAYOUTS.get(type);
+    }
+
+    private static ClassValue<MethodHandle> factories(Class<?> parameterType) {
+        return new ClassValue<MethodHandle>() {
+            @Override
+            protected MethodHandle computeValue(Class<?> type) {
+                try {
+                    return LOOKUP.findConstructor(
+                                    type, MethodType.methodType(void.class, parameterType))
+                            .asType(FACTORY_TYPE);
+                } catch (NoSuchMethodException | IllegalAccessException e) {
+                    throw new UnsupportedOperationException(
+                            "Unable to create instance of " + type.getName(), e);
+                }
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T newInstance(
+            ClassValue<MethodHandle> factories, Class<T> type, Object value) {
+        MethodHandle factory = factories.get(type);
+        try {
+            return (T) (Object) factory.invokeExact(value);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UnsupportedOperationException(
+                    "Unable to create instance of " + type.getName(), e);
+        }
+    }
+
+    private static MethodHandle staticArrayFactory(int length) {
+        try {
+            Class<?> arrayClass = Class.forName(STATIC_ARRAY_CLASS_PREFIX + length);
+            return LOOKUP.findConstructor(arrayClass, MethodType.methodType(void.class, List.class))
+                    .asType(FACTORY_TYPE);
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException(e);
+        }
+    }
+
+    private static int typeLength(Class<?> type) {
+        if (IntType.class.isAssignableFrom(type)) {
+            String regex = "(" + Uint.class.getSimpleName() + "|" + Int.class.getSimpleName() + ")";
+            String[] splitName = type.getSimpleName().split(regex);
+            if (splitName.length == 2) {
+                return Integer.parseInt(splitName[1]);
+            }
+        } else if (FixedPointType.class.isAssignableFrom(type)) {
+            String regex =
+                    "(" + Ufixed.class.getSimpleName() + "|" + Fixed.class.getSimpleName() + ")";
+            String[] splitName = type.getSimpleName().split(regex);
+            if (splitName.length == 2) {
+                String[] bitsCounts = splitName[1].split("x");
+                return Integer.parseInt(bitsCounts[0]) + Integer.parseInt(bitsCounts[1]);
+            }
+        }
+        return Type.MAX_BIT_LENGTH;
+    }
+
+    /** The resolved constructor and parameter types of a struct. */
+    static final class StructLayout {
+
+        private final Constructor<?> constructor;
+        private final Class<?>[] parameterTypes;
+        private final Class<?>[] parameterizedTypes;
+        private final Class<?>[] declaredFieldTypes;
+        private final MethodHandle factory;
+
+        private StructLayout(Class<?> type) {
+            this.constructor = findStructConstructor(type);
+            this.parameterTypes = constructor.getParameterTypes();
+            this.parameterizedTypes = new Class<?>[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                parameterizedTypes[i] =
+                        Utils.extractParameterFromAnnotation(
+                                constructor.getParameterAnnotations()[i]);
+            }
+            Field[] fields = type.getDeclaredFields();
+            this.declaredFieldTypes = new Class<?>[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                declaredFieldTypes[i] = fields[i].getType();
+            }
+            this.factory = createFactory(type, constructor);
+        }
+
+        private static MethodHandle createFactory(Class<?> type, Constructor<?> constructor) {
+            try {
+                constructor.setAccessible(true);
+                return LOOKUP.unreflectConstructor(constructor)
+                        .asFixedArity()
+                        .asSpreader(Object[].class, constructor.getParameterCount())
+                        .asType(MethodType.methodType(Object.class, Object[].class));
+            } catch (IllegalAccessException | RuntimeException e) {
+                // fall back to reflective instantiation, e.g. if the struct is not accessible
+                return null;
+            }
+        }
+
+        int getParameterCount() {
+            return parameterTypes.length;
+        }
+
+        Class<?> getParameterType(int index) {
+            return parameterTypes[index];
+        }
+
+        /**
+         * @return the array element type declared via the {@link
+         *     org.web3j.abi.datatypes.reflection.Parameterized} annotation, or null
+         */
+        Class<?> getParameterizedType(int index) {
+            return parameterizedTypes[index];
+        }
+
+        Class<?> getDeclaredFieldType(int index) {
+            return declaredFieldTypes[index];
+        }
+
+        Class<?>[] getParameterTypes() {
+            return parameterTypes.clone();
+        }
+
+        Object newInstance(Object[] arguments) throws ReflectiveOperationException {
+            if (factory == null) {
+                return constructor.newInstance(arguments);
+            }
+            try {
+                return factory.invokeExact(arguments);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+    }
+}
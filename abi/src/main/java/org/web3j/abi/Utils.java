@@ -66,22 +66,21 @@ public class Utils {
 
     public static String getStructType(Class type) {
         final StringBuilder sb = new StringBuilder("(");
-        Constructor constructor = findStructConstructor(type);
-        Class[] itemTypes = constructor.getParameterTypes();
-        for (int i = 0; i < itemTypes.length; ++i) {
-            final Class cls = itemTypes[i];
+        TypeMetadata.StructLayout layout = TypeMetadata.getStructLayout(type);
+        int parameterCount = layout.getParameterCount();
+        for (int i = 0; i < parameterCount; ++i) {
+            final Class cls = layout.getParameterType(i);
             if (StructType.class.isAssignableFrom(cls)) {
                 sb.append(getStructType(cls));
             } else {
-                Class parameterAnnotation =
-                        extractParameterFromAnnotation(constructor.getParameterAnnotations()[i]);
+                Class parameterAnnotation = layout.getParameterizedType(i);
                 if (parameterAnnotation != null) {
                     sb.append(getTypeName(getDynamicArrayTypeReference(parameterAnnotation)));
                 } else {
                     sb.append(getTypeName(TypeReference.create(cls)));
                 }
             }
-            if (i < itemTypes.length - 1) {
+            if (i < parameterCount - 1) {
                 sb.append(",");
             }
         }
@@ -15,6 +15,7 @@ package org.web3j.abi.datatypes;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.web3j.abi.EventCodec;
 import org.web3j.abi.TypeReference;
 
 import static org.web3j.abi.Utils.convert;
@@ -23,6 +24,7 @@ import static org.web3j.abi.Utils.convert;
 public class Event {
     private String name;
     private List<TypeReference<Type>> parameters;
+    private volatile EventCodec codec;
 
     public Event(String name, List<TypeReference<?>> parameters) {
         this.name = name;
@@ -44,4 +46,17 @@ public class Event {
     public List<TypeReference<Type>> getNonIndexedParameters() {
         return parameters.stream().filter(p -> !p.isIndexed()).collect(Collectors.toList());
     }
+
+    /**
+     * @return a codec for this event, created on first use and kept for the lifetime of the event
+     */
+    public EventCodec getCodec() {
+        EventCodec eventCodec = codec;
+        if (eventCodec == null) {
+            // codecs are immutable, so a concurrent duplicate is harmless
+            eventCodec = EventCodec.of(this);
+            codec = eventCodec;
+        }
+        return eventCodec;
+    }
 }
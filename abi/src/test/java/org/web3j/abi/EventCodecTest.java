@@ -0,0 +1,73 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Event;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Uint256;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventCodecTest {
+
+    private static final String OWNER = "0xbe5422d15f39373eb0a97ff8c10fbd0e40e29338";
+    private static final String SPENDER = "0x1d0b7e8e8e39a3e2bd50a3b1f1cf27ed5f4e9b68";
+
+    @Test
+    public void testDecode() {
+        Event approval =
+                new Event(
+                        "Approval",
+                        Arrays.<TypeReference<?>>asList(
+                                new TypeReference<Address>(true) {},
+                                new TypeReference<Address>(true) {},
+                                new TypeReference<Uint256>() {}));
+        EventCodec codec = EventCodec.of(approval);
+
+        assertEquals("Approval(address,address,uint256)", codec.getSignature());
+        assertEquals(EventEncoder.encode(approval), codec.getTopic());
+
+        List<String> topics =
+                Arrays.asList(
+                        codec.getTopic(),
+                        TypeEncoder.encode(new Address(OWNER)),
+                        TypeEncoder.encode(new Address(SPENDER)));
+        String data = TypeEncoder.encode(new Uint256(BigInteger.TEN));
+
+        assertTrue(codec.matches(topics));
+        EventValues values = codec.decode(topics, data);
+        assertEquals(
+                Arrays.<Type>asList(new Address(OWNER), new Address(SPENDER)),
+                values.getIndexedValues());
+        assertEquals(
+                Collections.singletonList(new Uint256(BigInteger.TEN)),
+                values.getNonIndexedValues());
+
+        assertNull(codec.decode(Collections.singletonList("0x1234"), data));
+        assertNull(codec.decode(Collections.emptyList(), data));
+
+        assertSame(approval.getCodec(), approval.getCodec());
+        assertEquals(codec.getTopic(), approval.getCodec().getTopic());
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Utf8String;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.abi.datatypes.generated.Uint8;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class FunctionCodecTest {
+
+    private static final String OWNER = "0xbe5422d15f39373eb0a97ff8c10fbd0e40e29338";
+    private static final String SPENDER = "0x1d0b7e8e8e39a3e2bd50a3b1f1cf27ed5f4e9b68";
+
+    @Test
+    public void testEncode() {
+        Function transfer =
+                new Function(
+                        "transfer",
+                        Arrays.asList(new Address(OWNER), new Uint256(BigInteger.ONE)),
+                        Collections.singletonList(new TypeReference<Bool>() {}));
+        FunctionCodec codec = FunctionCodec.of(transfer);
+
+        assertEquals("transfer(address,uint256)", codec.getSignature());
+        assertEquals("0xa9059cbb", codec.getSelector());
+        assertEquals(FunctionEncoder.encode(transfer), codec.encode(transfer.getInputParameters()));
+
+        Function other =
+                new Function(
+                        "transfer",
+                        Arrays.asList(new Address(SPENDER), new Uint256(BigInteger.TEN)),
+                        Collections.emptyList());
+        assertEquals(
+                FunctionEncoder.encode(other),
+                codec.encode(new Address(SPENDER), new Uint256(BigInteger.TEN)));
+
+        assertThrows(IllegalArgumentException.class, () -> codec.encode(new Address(OWNER)));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> codec.encode(new Address(SPENDER), new Uint8(BigInteger.TEN)));
+    }
+
+    @Test
+    public void testEncodeValidatesArrayElementTypes() {
+        FunctionCodec codec =
+                FunctionCodec.of(
+                        new Function(
+                                "approveAll",
+                                Collections.singletonList(
+                                        new DynamicArray<>(Address.class, new Address(OWNER))),
+                                Collections.emptyList()));
+
+        assertEquals(
+                FunctionEncoder.encode(
+                        new Function(
+                                "approveAll",
+                                Collections.singletonList(
+                                        new DynamicArray<>(Address.class, new Address(SPENDER))),
+                                Collections.emptyList())),
+                codec.encode(new DynamicArray<>(Address.class, new Address(SPENDER))));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> codec.encode(new DynamicArray<>(Uint256.class, new Uint256(BigInteger.ONE))));
+    }
+
+    @Test
+    public void testDecode() {
+        FunctionCodec codec =
+                FunctionCodec.of(
+                        new Function(
+                                "name",
+                                Collections.emptyList(),
+                                Collections.singletonList(new TypeReference<Utf8String>() {})));
+        String output = FunctionEncoder.encodeConstructor(Arrays.asList(new Utf8String("web3j")));
+
+        assertEquals(Arrays.asList(new Utf8String("web3j")), codec.decode(output));
+        assertEquals(
+                Arrays.asList(new Utf8String("web3j")),
+                codec.decode(Numeric.hexStringToByteArray(output)));
+    }
+}
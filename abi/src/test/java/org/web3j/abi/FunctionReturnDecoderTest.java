@@ -13,6 +13,7 @@
 package org.web3j.abi;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -20,6 +21,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
 import org.web3j.abi.datatypes.DynamicArray;
 import org.web3j.abi.datatypes.DynamicBytes;
 import org.web3j.abi.datatypes.DynamicStruct;
@@ -31,6 +34,8 @@ import org.web3j.abi.datatypes.Uint;
 import org.web3j.abi.datatypes.Utf8String;
 import org.web3j.abi.datatypes.generated.Bytes16;
 import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Bytes4;
+import org.web3j.abi.datatypes.generated.Int64;
 import org.web3j.abi.datatypes.generated.StaticArray2;
 import org.web3j.abi.datatypes.generated.StaticArray3;
 import org.web3j.abi.datatypes.generated.StaticArray4;
@@ -1606,4 +1611,82 @@ public class FunctionReturnDecoderTest {
         assertEquals(tupleArrayEntry2.get(1).getValue(), true);
         assertEquals(tupleArrayEntry2.get(2).getValue(), "gm");
     }
+
+    @Test
+    public void testDecodeFromBytes() {
+        List<TypeReference<Type>> outputParameters =
+                Utils.convert(
+                        Arrays.asList(
+                                new TypeReference<Uint256>() {},
+                                new TypeReference<Address>() {},
+                                new TypeReference<Int64>() {},
+                                new TypeReference<Bool>() {},
+                                new TypeReference<Utf8String>() {},
+                                new TypeReference<Bytes4>() {},
+                                new TypeReference<DynamicBytes>() {}));
+        String encoded =
+                FunctionEncoder.encodeConstructor(
+                        Arrays.asList(
+                                new Uint256(BigInteger.valueOf(55)),
+                                new Address("0xbe5422d15f39373eb0a97ff8c10fbd0e40e29338"),
+                                new Int64(-7),
+                                new Bool(true),
+                                new Utf8String("one more time"),
+                                new Bytes4(new byte[] {1, 2, 3, 4}),
+                                new DynamicBytes(new byte[] {5, 6, 7})));
+        byte[] rawInput = Numeric.hexStringToByteArray(encoded);
+
+        List<Type> expected = FunctionReturnDecoder.decode(encoded, outputParameters);
+        assertEquals(expected, FunctionReturnDecoder.decode(rawInput, outputParameters));
+        assertEquals(
+                expected,
+                FunctionReturnDecoder.decode(ByteBuffer.wrap(rawInput), outputParameters));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(rawInput.length);
+        direct.put(rawInput).flip();
+        assertEquals(expected, FunctionReturnDecoder.decode(direct, outputParameters));
+        assertEquals(0, direct.position());
+
+        assertEquals(
+                Collections.emptyList(),
+                FunctionReturnDecoder.decode(new byte[0], outputParameters));
+    }
+
+    @Test
+    public void testDecodeDynamicArrayFromBytes() {
+        List<TypeReference<Type>> outputParameters =
+                Utils.convert(
+                        Arrays.asList(
+                                new TypeReference<Uint256>() {},
+                                new TypeReference<DynamicArray<Uint256>>() {}));
+        String encoded =
+                FunctionEncoder.encodeConstructor(
+                        Arrays.asList(
+                                new Uint256(BigInteger.ONE),
+                                new DynamicArray<>(
+                                        Uint256.class,
+                                        new Uint256(BigInteger.TEN),
+                                        new Uint256(BigInteger.TWO))));
+
+        assertEquals(
+                FunctionReturnDecoder.decode(encoded, outputParameters),
+                FunctionReturnDecoder.decode(
+                        Numeric.hexStringToByteArray(encoded), outputParameters));
+    }
+
+    @Test
+    public void testDecodeIndexedValueFromBytes() {
+        byte[] rawInput =
+                Numeric.hexStringToByteArray(
+                        "0x000000000000000000000000be5422d15f39373eb0a97ff8c10fbd0e40e29338");
+
+        assertEquals(
+                new Address("0xbe5422d15f39373eb0a97ff8c10fbd0e40e29338"),
+                FunctionReturnDecoder.decodeIndexedValue(
+                        rawInput, new TypeReference<Address>() {}));
+        assertEquals(
+                new Bytes32(rawInput),
+                FunctionReturnDecoder.decodeIndexedValue(
+                        rawInput, new TypeReference<Utf8String>() {}));
+    }
 }
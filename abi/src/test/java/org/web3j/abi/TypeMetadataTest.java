@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.abi;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.datatypes.generated.Bytes4;
+import org.web3j.abi.datatypes.generated.Int64;
+import org.web3j.abi.datatypes.generated.StaticArray2;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.abi.datatypes.generated.Uint8;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeMetadataTest {
+
+    @Test
+    public void testNewInstances() {
+        assertEquals(
+                new Uint8(BigInteger.TEN), TypeMetadata.newNumeric(Uint8.class, BigInteger.TEN));
+        assertEquals(
+                new Bytes4(new byte[] {1, 2, 3, 4}),
+                TypeMetadata.newBytes(Bytes4.class, new byte[] {1, 2, 3, 4}));
+
+        Uint256 one = new Uint256(BigInteger.ONE);
+        Uint256 two = new Uint256(BigInteger.TWO);
+        assertEquals(
+                new StaticArray2<>(Uint256.class, one, two),
+                TypeMetadata.newStaticArray(2, Arrays.asList(one, two)));
+
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> TypeMetadata.newNumeric(Uint8.class, BigInteger.valueOf(256)));
+        assertThrows(
+                UnsupportedOperationException.class,
+                () -> TypeMetadata.newStaticArray(99, Arrays.asList(one, two)));
+    }
+
+    @Test
+    public void testTypeLengths() {
+        assertEquals(64, TypeMetadata.getTypeLength(Int64.class));
+        assertEquals(256, TypeMetadata.getTypeLength(Uint256.class));
+        assertEquals(4, TypeMetadata.getBytesLength(Bytes4.class));
+    }
+
+    @Test
+    public void testStructLayout() throws Exception {
+        TypeMetadata.StructLayout layout =
+                TypeMetadata.getStructLayout(AbiV2TestFixture.Fuzz.class);
+
+        assertSame(layout, TypeMetadata.getStructLayout(AbiV2TestFixture.Fuzz.class));
+        assertEquals(2, layout.getParameterCount());
+        assertSame(AbiV2TestFixture.Bar.class, layout.getParameterType(0));
+        assertSame(Uint256.class, layout.getParameterType(1));
+        assertEquals(3, TypeMetadata.getStaticStructSize(AbiV2TestFixture.Fuzz.class));
+
+        AbiV2TestFixture.Bar bar = new AbiV2TestFixture.Bar(BigInteger.ONE, BigInteger.valueOf(2));
+        Object fuzz = layout.newInstance(new Object[] {bar, new Uint256(BigInteger.TEN)});
+        assertTrue(fuzz instanceof AbiV2TestFixture.Fuzz);
+        assertEquals(BigInteger.TEN, ((AbiV2TestFixture.Fuzz) fuzz).data);
+    }
+}
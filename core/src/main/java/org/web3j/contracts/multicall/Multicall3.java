@@ -0,0 +1,315 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.contracts.multicall;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.DynamicStruct;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.RemoteFunctionCall;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.tx.exceptions.ContractCallException;
+import org.web3j.utils.Numeric;
+
+/**
+ * Aggregates read-only contract calls using the <a
+ * href="https://github.com/mds1/multicall">Multicall3</a> contract.
+ *
+ * <p>Calls are packed into {@code aggregate3} calls of up to {@code batchSize} calls each, and all
+ * of these are sent in a single JSON-RPC batch. Each call may fail independently of the others, and
+ * its return data is decoded with the output parameters of its function.
+ */
+public class Multicall3 {
+
+    /** Address Multicall3 is deployed at on most chains. */
+    public static final String DEFAULT_ADDRESS = "0xcA11bde05977b3631167028862bE2a173976CA11";
+
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    public static final String FUNC_AGGREGATE3 = "aggregate3";
+
+    private final Web3j web3j;
+    private final String contractAddress;
+    private final int batchSize;
+
+    private DefaultBlockParameter defaultBlockParameter = DefaultBlockParameterName.LATEST;
+
+    public Multicall3(Web3j web3j) {
+        this(web3j, DEFAULT_ADDRESS, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Create an aggregator.
+     *
+     * @param web3j web3j instance to call Multicall3 with
+     * @param contractAddress address of the Multicall3 contract
+     * @param batchSize maximum number of calls per {@code aggregate3} call
+     */
+    public Multicall3(Web3j web3j, String contractAddress, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        this.web3j = web3j;
+        this.contractAddress = contractAddress;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Sets the default block parameter. This value is used for all calls.
+     *
+     * @param defaultBlockParameter the block to execute calls at
+     */
+    public void setDefaultBlockParameter(DefaultBlockParameter defaultBlockParameter) {
+        this.defaultBlockParameter = defaultBlockParameter;
+    }
+
+    public String getContractAddress() {
+        return contractAddress;
+    }
+
+    /**
+     * Create a call of a function on a contract.
+     *
+     * @param target address of the contract to call
+     * @param function function to call
+     * @return the call
+     */
+    public static Call call(String target, Function function) {
+        return new Call(target, function);
+    }
+
+    /**
+     * Create a call of a contract function, such as those of generated contract wrappers.
+     *
+     * @param target address of the contract to call
+     * @param remoteFunctionCall function to call
+     * @return the call
+     */
+    public static Call call(String target, RemoteFunctionCall<?> remoteFunctionCall) {
+        return new Call(target, remoteFunctionCall.getFunction());
+    }
+
+    /**
+     * Execute calls, using one {@code aggregate3} call per batch of calls.
+     *
+     * @param calls calls to execute
+     * @return the result of each call, in the same order
+     * @throws IOException if the request fails
+     * @throws ContractCallException if an {@code aggregate3} call fails
+     */
+    public List<CallResult> aggregate(List<Call> calls) throws IOException {
+        if (calls.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<List<Call>> batches = new ArrayList<>();
+        List<Request<?, EthCall>> requests = new ArrayList<>();
+        for (int from = 0; from < calls.size(); from += batchSize) {
+            List<Call> batch = calls.subList(from, Math.min(from + batchSize, calls.size()));
+            batches.add(batch);
+            requests.add(
+                    web3j.ethCall(
+                            Transaction.createEthCallTransaction(
+                                    null,
+                                    contractAddress,
+                                    FunctionEncoder.encode(aggregate3(batch))),
+                            defaultBlockParameter));
+        }
+
+        List<Response<?>> responses = new ArrayList<>(requests.size());
+        if (requests.size() == 1) {
+            responses.add(requests.get(0).send());
+        } else {
+            BatchRequest batchRequest = web3j.newBatch();
+            requests.forEach(batchRequest::add);
+            responses.addAll(batchRequest.send().getResponses());
+        }
+        if (responses.size() != batches.size()) {
+            throw new ContractCallException(
+                    "Expected " + batches.size() + " responses, received " + responses.size());
+        }
+
+        List<CallResult> results = new ArrayList<>(calls.size());
+        for (int i = 0; i < batches.size(); i++) {
+            results.addAll(decode(batches.get(i), (EthCall) responses.get(i)));
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CallResult> decode(List<Call> batch, EthCall response) {
+        if (response.hasError()) {
+            throw new ContractCallException(
+                    FUNC_AGGREGATE3 + " call failed: " + response.getError().getMessage());
+        } else if (response.isReverted()) {
+            throw new ContractCallException(
+                    FUNC_AGGREGATE3 + " call reverted: " + response.getRevertReason());
+        }
+
+        List<Type> values =
+                FunctionReturnDecoder.decode(
+                        response.getValue(),
+                        aggregate3(Collections.emptyList()).getOutputParameters());
+        if (values.isEmpty()) {
+            throw new ContractCallException("Empty value (0x) returned from " + contractAddress);
+        }
+        List<Result> returnData = ((DynamicArray<Result>) values.get(0)).getValue();
+        if (returnData.size() != batch.size()) {
+            throw new ContractCallException(
+                    "Expected " + batch.size() + " results, received " + returnData.size());
+        }
+
+        List<CallResult> results = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            results.add(new CallResult(batch.get(i).function, returnData.get(i)));
+        }
+        return results;
+    }
+
+    private static Function aggregate3(List<Call> calls) {
+        List<Call3> call3s = new ArrayList<>(calls.size());
+        for (Call call : calls) {
+            call3s.add(
+                    new Call3(
+                            new Address(call.target),
+                            new Bool(true),
+                            new DynamicBytes(
+                                    Numeric.hexStringToByteArray(
+                                            FunctionEncoder.encode(call.function)))));
+        }
+        return new Function(
+                FUNC_AGGREGATE3,
+                Collections.singletonList(new DynamicArray<>(Call3.class, call3s)),
+                Collections.singletonList(new TypeReference<DynamicArray<Result>>() {}));
+    }
+
+    /** A call of a function on a contract. */
+    public static final class Call {
+        private final String target;
+        private final Function function;
+
+        private Call(String target, Function function) {
+            this.target = target;
+            this.function = function;
+        }
+
+        public String getTarget() {
+            return target;
+        }
+
+        public Function getFunction() {
+            return function;
+        }
+    }
+
+    /** The outcome of a call. */
+    public static final class CallResult {
+        private final Function function;
+        private final boolean success;
+        private final byte[] returnData;
+
+        private CallResult(Function function, Result result) {
+            this.function = function;
+            this.success = result.success;
+            this.returnData = result.returnData;
+        }
+
+        /**
+         * @return true if the call succeeded, false if it reverted
+         */
+        public boolean isSuccess() {
+            return success;
+        }
+
+        /**
+         * @return the raw return data, or the revert data if the call failed
+         */
+        public byte[] getReturnData() {
+            return returnData;
+        }
+
+        /**
+         * @return the values returned by the call, decoded as per the function's output parameters
+         * @throws ContractCallException if the call failed
+         */
+        public List<Type> getValues() {
+            if (!success) {
+                throw new ContractCallException(
+                        "Call to "
+                                + function.getName()
+                                + " failed: "
+                                + Numeric.toHexString(returnData));
+            }
+            return FunctionReturnDecoder.decode(
+                    Numeric.toHexString(returnData), function.getOutputParameters());
+        }
+
+        /**
+         * @param <T> the type of the value
+         * @return the value of the first value returned by the call, as per {@link Type#getValue()}
+         * @throws ContractCallException if the call failed or returned no values
+         */
+        @SuppressWarnings("unchecked")
+        public <T> T getValue() {
+            List<Type> values = getValues();
+            if (values.isEmpty()) {
+                throw new ContractCallException("Empty value (0x) returned from contract");
+            }
+            return (T) values.get(0).getValue();
+        }
+    }
+
+    /** The {@code Call3} struct of Multicall3. */
+    public static class Call3 extends DynamicStruct {
+        public final String target;
+        public final boolean allowFailure;
+        public final byte[] callData;
+
+        public Call3(Address target, Bool allowFailure, DynamicBytes callData) {
+            super(target, allowFailure, callData);
+            this.target = target.getValue();
+            this.allowFailure = allowFailure.getValue();
+            this.callData = callData.getValue();
+        }
+    }
+
+    /** The {@code Result} struct of Multicall3. */
+    public static class Result extends DynamicStruct {
+        public final boolean success;
+        public final byte[] returnData;
+
+        public Result(Bool success, DynamicBytes returnData) {
+            super(success, returnData);
+            this.success = success.getValue();
+            this.returnData = returnData.getValue();
+        }
+    }
+}
@@ -0,0 +1,473 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.ens;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Bytes32;
+import org.web3j.abi.datatypes.generated.Bytes4;
+import org.web3j.crypto.Keys;
+import org.web3j.crypto.WalletUtils;
+import org.web3j.ens.contracts.generated.ENS;
+import org.web3j.ens.contracts.generated.PublicResolver;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.utils.EnsUtils;
+import org.web3j.utils.Numeric;
+import org.web3j.utils.Strings;
+
+/**
+ * ENS resolver which caches resolved addresses and names, the sync status of the node and the
+ * network version.
+ *
+ * <p>Successful lookups are cached for {@link #setTtl(long, TimeUnit)}, and names or addresses
+ * which could not be resolved for {@link #setNegativeTtl(long, TimeUnit)}. Failures caused by
+ * connection errors are not cached. The caches hold a bounded number of entries, evicting the least
+ * recently used.
+ *
+ * <p>{@link #resolveAll(Collection)} resolves many names with JSON-RPC batches of up to {@link
+ * #setMaxBatchSize(int)} requests per step of the lookup, rather than several requests per name.
+ */
+public class CachingEnsResolver extends EnsResolver {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+    public static final long DEFAULT_TTL = TimeUnit.MINUTES.toNanos(5);
+    public static final long DEFAULT_NEGATIVE_TTL = TimeUnit.SECONDS.toNanos(30);
+    public static final long DEFAULT_SYNC_STATUS_TTL = TimeUnit.SECONDS.toNanos(15);
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    private final Web3j web3j;
+    private final int addressLength;
+    private final LongSupplier nanoClock;
+
+    private final Map<String, CacheEntry> addresses;
+    private final Map<String, CacheEntry> names;
+    private final Map<String, Boolean> wildcardResolvers;
+
+    private volatile long ttl = DEFAULT_TTL;
+    private volatile long negativeTtl = DEFAULT_NEGATIVE_TTL;
+    private volatile long syncStatusTtl = DEFAULT_SYNC_STATUS_TTL;
+    private volatile int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+    private volatile String netVersion;
+    private volatile boolean synced;
+    private volatile long syncStatusExpiry;
+
+    public CachingEnsResolver(Web3j web3j) {
+        this(web3j, DEFAULT_SYNC_THRESHOLD, Keys.ADDRESS_LENGTH_IN_HEX, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Create a caching resolver.
+     *
+     * @param web3j web3j instance to resolve names with
+     * @param syncThreshold maximum age of the latest block in milliseconds for the node to be
+     *     considered synced
+     * @param addressLength address length in hex characters
+     * @param maxEntries maximum number of names, and of addresses, to cache
+     */
+    public CachingEnsResolver(Web3j web3j, long syncThreshold, int addressLength, int maxEntries) {
+        this(web3j, syncThreshold, addressLength, maxEntries, System::nanoTime);
+    }
+
+    CachingEnsResolver(
+            Web3j web3j,
+            long syncThreshold,
+            int addressLength,
+            int maxEntries,
+            LongSupplier nanoClock) {
+        super(web3j, syncThreshold, addressLength);
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Maximum entries must be at least 1");
+        }
+        this.web3j = web3j;
+        this.addressLength = addressLength;
+        this.nanoClock = nanoClock;
+        this.addresses = lruMap(maxEntries);
+        this.names = lruMap(maxEntries);
+        this.wildcardResolvers = lruMap(maxEntries);
+    }
+
+    /** Time to cache resolved addresses and names for. */
+    public void setTtl(long ttl, TimeUnit unit) {
+        this.ttl = unit.toNanos(ttl);
+    }
+
+    /** Time to cache names and addresses which could not be resolved for. */
+    public void setNegativeTtl(long negativeTtl, TimeUnit unit) {
+        this.negativeTtl = unit.toNanos(negativeTtl);
+    }
+
+    /** Time to cache the sync status of the node for. */
+    public void setSyncStatusTtl(long syncStatusTtl, TimeUnit unit) {
+        this.syncStatusTtl = unit.toNanos(syncStatusTtl);
+        this.syncStatusExpiry = 0;
+    }
+
+    /** Maximum number of requests per JSON-RPC batch sent by {@link #resolveAll(Collection)}. */
+    public void setMaxBatchSize(int maxBatchSize) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be at least 1");
+        }
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /** Discard all cached lookups. */
+    public void clear() {
+        synchronized (addresses) {
+            addresses.clear();
+        }
+        synchronized (names) {
+            names.clear();
+        }
+        synchronized (wildcardResolvers) {
+            wildcardResolvers.clear();
+        }
+        syncStatusExpiry = 0;
+    }
+
+    @Override
+    public String resolve(String ensName) {
+        if (!isResolvable(ensName) || !isValidEnsName(ensName, addressLength)) {
+            return super.resolve(ensName);
+        }
+        CacheEntry cached = get(addresses, ensName);
+        if (cached == null) {
+            requireSynced();
+            try {
+                cached = put(addresses, ensName, super.resolve(ensName));
+            } catch (EnsResolutionException e) {
+                cacheFailure(addresses, ensName, e);
+                throw e;
+            }
+        }
+        if (cached.value == null) {
+            throw new EnsResolutionException("Unable to resolve address for name: " + ensName);
+        }
+        return cached.value;
+    }
+
+    @Override
+    public String reverseResolve(String address) {
+        if (!WalletUtils.isValidAddress(address, addressLength)) {
+            return super.reverseResolve(address);
+        }
+        String key = Numeric.cleanHexPrefix(address).toLowerCase();
+        CacheEntry cached = get(names, key);
+        if (cached == null) {
+            requireSynced();
+            try {
+                cached = put(names, key, super.reverseResolve(address));
+            } catch (RuntimeException e) {
+                cacheFailure(names, key, e);
+                throw e;
+            }
+        }
+        if (cached.value == null) {
+            throw new EnsResolutionException("Unable to resolve name for address: " + address);
+        }
+        return cached.value;
+    }
+
+    /**
+     * Resolve the addresses of many names. Names which are not cached are looked up with JSON-RPC
+     * batches for their resolvers, interface support and addresses. Names using wildcard or
+     * offchain resolution are resolved individually.
+     *
+     * @param ensNames names to resolve
+     * @return the address of each name in iteration order, or null for names which could not be
+     *     resolved
+     * @throws EnsResolutionException if the node is not synced, or a request to it fails
+     */
+    public Map<String, String> resolveAll(Collection<String> ensNames) {
+        Map<String, String> results = new LinkedHashMap<>();
+        List<String> pending = new ArrayList<>();
+        for (String ensName : ensNames) {
+            if (results.containsKey(ensName)) {
+                continue;
+            }
+            if (!isResolvable(ensName)) {
+                results.put(ensName, null);
+            } else if (!isValidEnsName(ensName, addressLength)) {
+                results.put(ensName, ensName);
+            } else {
+                CacheEntry cached = get(addresses, ensName);
+                results.put(ensName, cached == null ? null : cached.value);
+                if (cached == null) {
+                    pending.add(ensName);
+                }
+            }
+        }
+        if (pending.isEmpty()) {
+            return results;
+        }
+
+        requireSynced();
+        List<String> individually = new ArrayList<>();
+        try {
+            String registry = Contracts.resolveRegistryContract(getNetVersion());
+            List<Function> resolverCalls = new ArrayList<>(pending.size());
+            for (String ensName : pending) {
+                resolverCalls.add(
+                        new Function(
+                                ENS.FUNC_RESOLVER,
+                                Collections.singletonList(
+                                        new Bytes32(NameHash.nameHashAsBytes(ensName))),
+                                Collections.singletonList(new TypeReference<Address>() {})));
+            }
+            List<Object> resolvers =
+                    call(Collections.nCopies(pending.size(), registry), resolverCalls);
+
+            checkWildcardSupport(resolvers);
+
+            List<String> direct = new ArrayList<>();
+            List<String> directResolvers = new ArrayList<>();
+            List<Function> addrCalls = new ArrayList<>();
+            for (int i = 0; i < pending.size(); i++) {
+                String resolver = (String) resolvers.get(i);
+                // names without their own resolver use that of a parent, which may be a wildcard
+                if (resolver == null
+                        || EnsUtils.isAddressEmpty(resolver)
+                        || !Boolean.FALSE.equals(getCached(wildcardResolvers, resolver))) {
+                    individually.add(pending.get(i));
+                } else {
+                    direct.add(pending.get(i));
+                    directResolvers.add(resolver);
+                    addrCalls.add(
+                            new Function(
+                                    PublicResolver.FUNC_addr,
+                                    Collections.singletonList(
+                                            new Bytes32(NameHash.nameHashAsBytes(pending.get(i)))),
+                                    Collections.singletonList(new TypeReference<Address>() {})));
+                }
+            }
+
+            List<Object> resolved = call(directResolvers, addrCalls);
+            for (int i = 0; i < direct.size(); i++) {
+                String address = (String) resolved.get(i);
+                if (address != null && WalletUtils.isValidAddress(address)) {
+                    results.put(direct.get(i), put(addresses, direct.get(i), address).value);
+                } else if (address != null) {
+                    put(addresses, direct.get(i), null);
+                } else {
+                    individually.add(direct.get(i));
+                }
+            }
+        } catch (IOException e) {
+            throw new EnsResolutionException("Unable to execute Ethereum request", e);
+        }
+
+        for (String ensName : individually) {
+            try {
+                results.put(ensName, resolve(ensName));
+            } catch (EnsResolutionException e) {
+                if (isConnectionFailure(e)) {
+                    throw e;
+                }
+                results.put(ensName, null);
+            }
+        }
+        return results;
+    }
+
+    private void checkWildcardSupport(List<Object> resolvers) throws IOException {
+        Set<String> unknown = new LinkedHashSet<>();
+        for (Object resolver : resolvers) {
+            if (resolver != null
+                    && !EnsUtils.isAddressEmpty((String) resolver)
+                    && getCached(wildcardResolvers, (String) resolver) == null) {
+                unknown.add((String) resolver);
+            }
+        }
+        if (unknown.isEmpty()) {
+            return;
+        }
+
+        Function supportsInterface =
+                new Function(
+                        PublicResolver.FUNC_SUPPORTSINTERFACE,
+                        Collections.singletonList(new Bytes4(EnsUtils.ENSIP_10_INTERFACE_ID)),
+                        Collections.singletonList(new TypeReference<Bool>() {}));
+        List<String> contracts = new ArrayList<>(unknown);
+        List<Object> supported =
+                call(contracts, Collections.nCopies(contracts.size(), supportsInterface));
+        for (int i = 0; i < contracts.size(); i++) {
+            if (supported.get(i) != null) {
+                synchronized (wildcardResolvers) {
+                    wildcardResolvers.put(contracts.get(i), (Boolean) supported.get(i));
+                }
+            }
+        }
+    }
+
+    /** Call functions in batches, returning the first output of each or null on error. */
+    private List<Object> call(List<String> contracts, List<Function> functions) throws IOException {
+        int batchSize = maxBatchSize;
+        List<Object> results = new ArrayList<>(functions.size());
+        for (int from = 0; from < functions.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, functions.size());
+            results.addAll(callBatch(contracts.subList(from, to), functions.subList(from, to)));
+        }
+        return results;
+    }
+
+    private List<Object> callBatch(List<String> contracts, List<Function> functions)
+            throws IOException {
+        BatchRequest batchRequest = web3j.newBatch();
+        for (int i = 0; i < functions.size(); i++) {
+            batchRequest.add(
+                    web3j.ethCall(
+                            Transaction.createEthCallTransaction(
+                                    null,
+                                    contracts.get(i),
+                                    FunctionEncoder.encode(functions.get(i))),
+                            DefaultBlockParameterName.LATEST));
+        }
+
+        List<? extends Response<?>> responses = batchRequest.send().getResponses();
+        List<Object> results = new ArrayList<>(functions.size());
+        for (int i = 0; i < functions.size(); i++) {
+            Object result = null;
+            if (i < responses.size()) {
+                EthCall response = (EthCall) responses.get(i);
+                if (!response.hasError() && !response.isReverted()) {
+                    List<Type> decoded =
+                            FunctionReturnDecoder.decode(
+                                    response.getValue(), functions.get(i).getOutputParameters());
+                    result = decoded.isEmpty() ? null : decoded.get(0).getValue();
+                }
+            }
+            results.add(result);
+        }
+        return results;
+    }
+
+    @Override
+    boolean isSynced() throws Exception {
+        if (nanoClock.getAsLong() - syncStatusExpiry >= 0) {
+            synced = super.isSynced();
+            syncStatusExpiry = nanoClock.getAsLong() + syncStatusTtl;
+        }
+        return synced;
+    }
+
+    @Override
+    protected String getNetVersion() throws IOException {
+        String version = netVersion;
+        if (version == null) {
+            version = super.getNetVersion();
+            netVersion = version;
+        }
+        return version;
+    }
+
+    private void requireSynced() {
+        boolean isSynced;
+        try {
+            isSynced = isSynced();
+        } catch (Exception e) {
+            throw new EnsResolutionException("Unable to determine sync status of node", e);
+        }
+        if (!isSynced) {
+            throw new EnsResolutionException("Node is not currently synced");
+        }
+    }
+
+    private static boolean isResolvable(String ensName) {
+        return !Strings.isBlank(ensName)
+                && !(ensName.trim().length() == 1 && ensName.contains("."));
+    }
+
+    private CacheEntry get(Map<String, CacheEntry> cache, String key) {
+        CacheEntry entry;
+        synchronized (cache) {
+            entry = cache.get(key);
+            if (entry != null && nanoClock.getAsLong() - entry.expiry >= 0) {
+                cache.remove(key);
+                entry = null;
+            }
+        }
+        return entry;
+    }
+
+    private static <V> V getCached(Map<String, V> cache, String key) {
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    private CacheEntry put(Map<String, CacheEntry> cache, String key, String value) {
+        CacheEntry entry =
+                new CacheEntry(value, nanoClock.getAsLong() + (value == null ? negativeTtl : ttl));
+        synchronized (cache) {
+            cache.put(key, entry);
+        }
+        return entry;
+    }
+
+    private void cacheFailure(Map<String, CacheEntry> cache, String key, Throwable failure) {
+        // the lookup may succeed once the node is reachable again
+        if (!isConnectionFailure(failure)) {
+            put(cache, key, null);
+        }
+    }
+
+    private static boolean isConnectionFailure(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <V> Map<String, V> lruMap(int maxEntries) {
+        return new LinkedHashMap<String, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    private static final class CacheEntry {
+        private final String value;
+        private final long expiry;
+
+        CacheEntry(String value, long expiry) {
+            this.value = value;
+            this.expiry = expiry;
+        }
+    }
+}
@@ -458,29 +458,33 @@ public class EnsResolver {
     }
 
     private ENS getRegistryContract() throws IOException {
-        NetVersion netVersion = web3j.netVersion().send();
-        String registryContract = Contracts.resolveRegistryContract(netVersion.getNetVersion());
+        String registryContract = Contracts.resolveRegistryContract(getNetVersion());
 
         return ENS.load(registryContract, web3j, transactionManager, new DefaultGasProvider());
     }
 
     protected ReverseRegistrar getReverseRegistrarContract(Credentials credentials)
             throws IOException {
-        NetVersion netVersion = web3j.netVersion().send();
         String reverseRegistrarContract =
-                ReverseRegistrarContracts.resolveReverseRegistrarContract(
-                        netVersion.getNetVersion());
+                ReverseRegistrarContracts.resolveReverseRegistrarContract(getNetVersion());
 
         return ReverseRegistrar.load(
                 reverseRegistrarContract, web3j, credentials, new DefaultGasProvider());
     }
 
-    public EnsMetadataResponse getEnsMetadata(String name) throws IOException {
+    /**
+     * @return the network id of the node, which determines the ENS contracts to use
+     * @throws IOException if the request fails
+     */
+    protected String getNetVersion() throws IOException {
         NetVersion netVersion = web3j.netVersion().send();
+        return netVersion.getNetVersion();
+    }
+
+    public EnsMetadataResponse getEnsMetadata(String name) throws IOException {
         byte[] nameHash = NameHash.nameHashAsBytes(name);
         String apiUrl =
-                NameWrapperUrl.getEnsMetadataApi(netVersion.getNetVersion())
-                        + Numeric.toHexString(nameHash);
+                NameWrapperUrl.getEnsMetadataApi(getNetVersion()) + Numeric.toHexString(nameHash);
 
         Request request = new Request.Builder().url(apiUrl).get().build();
 
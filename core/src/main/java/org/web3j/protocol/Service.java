@@ -15,10 +15,15 @@ package org.web3j.protocol;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import io.reactivex.Flowable;
@@ -35,10 +40,34 @@ public abstract class Service implements Web3jService {
 
     protected final ObjectMapper objectMapper;
 
+    private volatile Executor asyncExecutor;
+
     public Service(boolean includeRawResponses) {
         objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
     }
 
+    /**
+     * Returns the executor used to run asynchronous requests, falling back to the global {@link
+     * Async} executor if none has been set.
+     *
+     * @return the executor for asynchronous requests
+     */
+    public Executor getAsyncExecutor() {
+        Executor executor = asyncExecutor;
+        return executor != null ? executor : Async.getExecutor();
+    }
+
+    /**
+     * Set the executor used to run asynchronous requests for this service. <strong>You are
+     * responsible for terminating this thread pool</strong>.
+     *
+     * @param asyncExecutor executor for asynchronous requests, or null to use the global {@link
+     *     Async} executor
+     */
+    public void setAsyncExecutor(Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
     protected abstract InputStream performIO(String payload) throws IOException;
 
     @Override
@@ -47,17 +76,31 @@ public abstract class Service implements Web3jService {
 
         try (InputStream result = performIO(payload)) {
             if (result != null) {
-                return objectMapper.readValue(result, responseType);
+                return readResponse(result, responseType);
             } else {
                 return null;
             }
         }
     }
 
+    /**
+     * Deserialize a single JSON-RPC response.
+     *
+     * @param result stream containing the raw response
+     * @param responseType class of the response
+     * @param <T> type of the response
+     * @return deserialized JSON-RPC response
+     * @throws IOException thrown if the response could not be read
+     */
+    protected <T extends Response> T readResponse(InputStream result, Class<T> responseType)
+            throws IOException {
+        return objectMapper.readValue(result, responseType);
+    }
+
     @Override
     public <T extends Response> CompletableFuture<T> sendAsync(
             Request jsonRpc20Request, Class<T> responseType) {
-        return Async.run(() -> send(jsonRpc20Request, responseType));
+        return Async.run(() -> send(jsonRpc20Request, responseType), getAsyncExecutor());
     }
 
     @Override
@@ -70,26 +113,61 @@ public abstract class Service implements Web3jService {
 
         try (InputStream result = performIO(payload)) {
             if (result != null) {
-                ArrayNode nodes = (ArrayNode) objectMapper.readTree(result);
-                List<Response<?>> responses = new ArrayList<>(nodes.size());
-
-                for (int i = 0; i < nodes.size(); i++) {
-                    Request<?, ? extends Response<?>> request = batchRequest.getRequests().get(i);
-                    Response<?> response =
-                            objectMapper.treeToValue(nodes.get(i), request.getResponseType());
-                    responses.add(response);
-                }
-
-                return new BatchResponse(batchRequest.getRequests(), responses);
+                return readBatchResponse(batchRequest, result);
             } else {
                 return null;
             }
         }
     }
 
+    /**
+     * Deserialize a JSON-RPC batch response, matching each item to its originating request.
+     *
+     * <p>Items may arrive in any order, so each is deserialized as the response type of the request
+     * with the same id. If every request has exactly one response, the responses are returned in
+     * the order of their requests, otherwise in the order they were received.
+     *
+     * @param batchRequest requests that were performed
+     * @param result stream containing the raw batch response
+     * @return deserialized JSON-RPC responses
+     * @throws IOException thrown if the response could not be read
+     */
+    protected BatchResponse readBatchResponse(BatchRequest batchRequest, InputStream result)
+            throws IOException {
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+        Map<Long, Integer> requestIndexes = new HashMap<>();
+        for (int i = 0; i < requests.size(); i++) {
+            requestIndexes.putIfAbsent(requests.get(i).getId(), i);
+        }
+
+        ArrayNode nodes = (ArrayNode) objectMapper.readTree(result);
+        List<Response<?>> responses = new ArrayList<>(nodes.size());
+        Response<?>[] orderedResponses = new Response<?>[requests.size()];
+        boolean ordered = nodes.size() == requests.size();
+
+        for (int i = 0; i < nodes.size(); i++) {
+            JsonNode id = nodes.get(i).get("id");
+            Integer index =
+                    id != null && id.isIntegralNumber() ? requestIndexes.get(id.asLong()) : null;
+            if (index == null || orderedResponses[index] != null) {
+                // fall back to the request at the same position
+                ordered = false;
+                index = i;
+            }
+            Response<?> response =
+                    objectMapper.treeToValue(nodes.get(i), requests.get(index).getResponseType());
+            responses.add(response);
+            if (ordered) {
+                orderedResponses[index] = response;
+            }
+        }
+
+        return new BatchResponse(requests, ordered ? Arrays.asList(orderedResponses) : responses);
+    }
+
     @Override
     public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
-        return Async.run(() -> sendBatch(batchRequest));
+        return Async.run(() -> sendBatch(batchRequest), getAsyncExecutor());
     }
 
     @Override
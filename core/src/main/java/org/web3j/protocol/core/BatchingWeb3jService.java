@@ -0,0 +1,260 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.Flowable;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.Async;
+
+/**
+ * A {@link Web3jService} decorator which transparently coalesces asynchronous requests into
+ * JSON-RPC batches.
+ *
+ * <p>Requests submitted via {@link #sendAsync(Request, Class)} are held for at most the configured
+ * delay, or until the maximum batch size is reached, and are then sent to the underlying service as
+ * a single {@link BatchRequest}. Each response is routed back to the future of the request with the
+ * same JSON-RPC id, as responses may arrive in any order. Requests without a response fail. If a
+ * batch as a whole fails, for example because the node is rate limiting requests, every request in
+ * it fails rather than being resent individually, which would multiply the load on the node.
+ *
+ * <p>Synchronous requests, explicit batches and subscriptions are passed through unchanged.
+ */
+public class BatchingWeb3jService implements Web3jService {
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    public static final long DEFAULT_MAX_DELAY_MICROS = 1_000;
+
+    private final Web3jService web3jService;
+    private final int maxBatchSize;
+    private final long maxDelayMicros;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final boolean shutdownExecutorOnClose;
+
+    private final Object lock = new Object();
+    private List<PendingRequest<?>> pendingRequests = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public BatchingWeb3jService(
+            Web3jService web3jService,
+            int maxBatchSize,
+            long maxDelay,
+            TimeUnit timeUnit,
+            ScheduledExecutorService scheduledExecutorService) {
+        this(web3jService, maxBatchSize, maxDelay, timeUnit, scheduledExecutorService, false);
+    }
+
+    public BatchingWeb3jService(
+            Web3jService web3jService, int maxBatchSize, long maxDelay, TimeUnit timeUnit) {
+        this(web3jService, maxBatchSize, maxDelay, timeUnit, Async.defaultExecutorService(), true);
+    }
+
+    public BatchingWeb3jService(Web3jService web3jService) {
+        this(web3jService, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_DELAY_MICROS, TimeUnit.MICROSECONDS);
+    }
+
+    private BatchingWeb3jService(
+            Web3jService web3jService,
+            int maxBatchSize,
+            long maxDelay,
+            TimeUnit timeUnit,
+            ScheduledExecutorService scheduledExecutorService,
+            boolean shutdownExecutorOnClose) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be at least 1");
+        }
+        this.web3jService = web3jService;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayMicros = timeUnit.toMicros(maxDelay);
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.shutdownExecutorOnClose = shutdownExecutorOnClose;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return web3jService.send(request, responseType);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        PendingRequest<T> pendingRequest = new PendingRequest<>(request, responseType);
+
+        List<PendingRequest<?>> batch = null;
+        synchronized (lock) {
+            pendingRequests.add(pendingRequest);
+            if (pendingRequests.size() >= maxBatchSize) {
+                batch = drainPendingRequests();
+            } else if (scheduledFlush == null) {
+                scheduledFlush =
+                        scheduledExecutorService.schedule(
+                                this::flush, maxDelayMicros, TimeUnit.MICROSECONDS);
+            }
+        }
+
+        if (batch != null) {
+            sendPendingRequests(batch);
+        }
+        return pendingRequest.future;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return web3jService.sendBatch(batchRequest);
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        return web3jService.sendBatchAsync(batchRequest);
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        return web3jService.subscribe(request, unsubscribeMethod, responseType);
+    }
+
+    /** Immediately send all requests which are waiting to be batched. */
+    public void flush() {
+        List<PendingRequest<?>> batch;
+        synchronized (lock) {
+            batch = drainPendingRequests();
+        }
+        sendPendingRequests(batch);
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        if (shutdownExecutorOnClose) {
+            scheduledExecutorService.shutdown();
+        }
+        web3jService.close();
+    }
+
+    private List<PendingRequest<?>> drainPendingRequests() {
+        List<PendingRequest<?>> batch = pendingRequests;
+        pendingRequests = new ArrayList<>();
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        return batch;
+    }
+
+    private void sendPendingRequests(List<PendingRequest<?>> pending) {
+        // responses are matched to requests by id, so requests sharing an id are sent on their own
+        Map<Long, PendingRequest<?>> batch = new LinkedHashMap<>();
+        for (PendingRequest<?> pendingRequest : pending) {
+            if (batch.putIfAbsent(pendingRequest.request.getId(), pendingRequest) != null) {
+                pendingRequest.sendIndividually();
+            }
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        } else if (batch.size() == 1) {
+            batch.values().iterator().next().sendIndividually();
+            return;
+        }
+
+        BatchRequest batchRequest = new BatchRequest(web3jService);
+        for (PendingRequest<?> pendingRequest : batch.values()) {
+            batchRequest.add(pendingRequest.request);
+        }
+
+        CompletableFuture<BatchResponse> batchFuture;
+        try {
+            batchFuture = web3jService.sendBatchAsync(batchRequest);
+        } catch (Throwable e) {
+            batch.values().forEach(pendingRequest -> pendingRequest.fail(e));
+            return;
+        }
+
+        batchFuture.whenComplete(
+                (batchResponse, throwable) -> {
+                    if (throwable != null) {
+                        batch.values().forEach(pendingRequest -> pendingRequest.fail(throwable));
+                        return;
+                    }
+
+                    if (batchResponse != null) {
+                        for (Response<?> response : batchResponse.getResponses()) {
+                            PendingRequest<?> pendingRequest = batch.remove(response.getId());
+                            if (pendingRequest != null) {
+                                pendingRequest.complete(response);
+                            }
+                        }
+                    }
+                    for (PendingRequest<?> pendingRequest : batch.values()) {
+                        pendingRequest.fail(
+                                new IOException(
+                                        "No response received for request id "
+                                                + pendingRequest.request.getId()));
+                    }
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private class PendingRequest<T extends Response> {
+
+        private final Request<?, ? extends Response<?>> request;
+        private final Class<T> responseType;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private PendingRequest(Request request, Class<T> responseType) {
+            this.request = request;
+            this.responseType = responseType;
+        }
+
+        private void complete(Response<?> response) {
+            try {
+                future.complete(responseType.cast(response));
+            } catch (ClassCastException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        private void fail(Throwable throwable) {
+            future.completeExceptionally(throwable);
+        }
+
+        private void sendIndividually() {
+            try {
+                web3jService
+                        .sendAsync(request, responseType)
+                        .whenComplete(
+                                (response, throwable) -> {
+                                    if (throwable != null) {
+                                        future.completeExceptionally(throwable);
+                                    } else {
+                                        future.complete(response);
+                                    }
+                                });
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+    }
+}
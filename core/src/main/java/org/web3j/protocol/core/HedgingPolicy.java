@@ -0,0 +1,179 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * When {@link LoadBalancingWeb3jService} sends a duplicate of a slow read-only request to a second
+ * endpoint.
+ *
+ * <p>A request is hedged once it has been outstanding for longer than a percentile of the recent
+ * latencies of its method, and never sooner than the minimum delay, so that slow methods such as
+ * {@code eth_getLogs} do not delay the hedging of fast ones. No request is hedged until enough
+ * latencies of its method have been observed. Hedges are limited by a budget, which grows by the
+ * maximum hedge ratio with every request, so that hedging adds at most that fraction of extra load.
+ *
+ * @see LoadBalancingWeb3jService#setHedgingPolicy(HedgingPolicy)
+ */
+public class HedgingPolicy {
+
+    /** Read-only methods hedged by {@link #defaultPolicy()}. */
+    public static final Set<String> DEFAULT_METHODS =
+            Collections.unmodifiableSet(
+                    new HashSet<>(
+                            Arrays.asList(
+                                    "eth_call",
+                                    "eth_getBalance",
+                                    "eth_getBlockByHash",
+                                    "eth_getBlockByNumber",
+                                    "eth_getLogs")));
+
+    static final int MIN_SAMPLES = 20;
+
+    private static final int SAMPLES = 256;
+    // Maximum number of hedges which can be saved up while requests are fast
+    private static final double MAX_BUDGET = 10;
+
+    private final Set<String> methods;
+    private final double delayPercentile;
+    private final long minDelayNanos;
+    private final double maxHedgeRatio;
+
+    private final Map<String, Latencies> latencies = new HashMap<>();
+    private double budget;
+
+    private final AtomicLong hedgedRequests = new AtomicLong();
+
+    /**
+     * Creates a hedging policy.
+     *
+     * @param methods JSON-RPC methods which are safe to send twice
+     * @param delayPercentile percentile of recent latencies after which a request is hedged, for
+     *     instance 0.95
+     * @param minDelay minimum time before a request is hedged
+     * @param timeUnit unit of the minimum delay
+     * @param maxHedgeRatio maximum number of hedges per request, for instance 0.05
+     */
+    public HedgingPolicy(
+            Set<String> methods,
+            double delayPercentile,
+            long minDelay,
+            TimeUnit timeUnit,
+            double maxHedgeRatio) {
+        if (delayPercentile <= 0
+                || delayPercentile > 1
+                || minDelay < 0
+                || maxHedgeRatio < 0
+                || maxHedgeRatio > 1) {
+            throw new IllegalArgumentException("Invalid hedging policy");
+        }
+        this.methods = Collections.unmodifiableSet(new HashSet<>(methods));
+        this.delayPercentile = delayPercentile;
+        this.minDelayNanos = timeUnit.toNanos(minDelay);
+        this.maxHedgeRatio = maxHedgeRatio;
+    }
+
+    /**
+     * @return a policy which hedges the {@link #DEFAULT_METHODS} after their 95th percentile
+     *     latency, and at least 5ms, adding at most 5% of extra requests
+     */
+    public static HedgingPolicy defaultPolicy() {
+        return new HedgingPolicy(DEFAULT_METHODS, 0.95, 5, TimeUnit.MILLISECONDS, 0.05);
+    }
+
+    public Set<String> getMethods() {
+        return methods;
+    }
+
+    /**
+     * @return number of requests which were hedged
+     */
+    public long getHedgedRequests() {
+        return hedgedRequests.get();
+    }
+
+    boolean isHedged(Request<?, ?> request) {
+        return methods.contains(request.getMethod());
+    }
+
+    /**
+     * Record a new hedgeable request.
+     *
+     * @param method JSON-RPC method of the request
+     * @return delay in nanoseconds before hedging the request, or -1 if it must not be hedged
+     */
+    synchronized long onRequest(String method) {
+        budget = Math.min(MAX_BUDGET, budget + maxHedgeRatio);
+        return latencies.computeIfAbsent(method, m -> new Latencies()).delayNanos();
+    }
+
+    /** Take a hedge from the budget. */
+    synchronized boolean tryHedge() {
+        if (budget < 1) {
+            return false;
+        }
+        budget--;
+        hedgedRequests.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Record how long a request took, or how long it had been outstanding when it was cancelled.
+     *
+     * @param method JSON-RPC method of the request
+     * @param latencyNanos latency in nanoseconds
+     */
+    synchronized void onLatency(String method, long latencyNanos) {
+        latencies.computeIfAbsent(method, m -> new Latencies()).add(latencyNanos);
+    }
+
+    /** Ring buffer of the recent latencies of a method, and the delay derived from them. */
+    private final class Latencies {
+        private final long[] samples = new long[SAMPLES];
+        private int sampleCount;
+        private int nextSample;
+        private long delayNanos = -1;
+
+        long delayNanos() {
+            if (delayNanos < 0 && sampleCount >= MIN_SAMPLES) {
+                delayNanos = Math.max(minDelayNanos, percentile());
+            }
+            return delayNanos;
+        }
+
+        void add(long latencyNanos) {
+            samples[nextSample] = latencyNanos;
+            nextSample = (nextSample + 1) % SAMPLES;
+            sampleCount = Math.min(sampleCount + 1, SAMPLES);
+            if (nextSample % (SAMPLES / 8) == 0) {
+                // recompute the delay on the next request
+                delayNanos = -1;
+            }
+        }
+
+        private long percentile() {
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(delayPercentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)];
+        }
+    }
+}
@@ -25,6 +25,7 @@ import io.reactivex.Flowable;
 
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.filters.LogFilterMultiplexer;
 import org.web3j.protocol.core.methods.request.ShhFilter;
 import org.web3j.protocol.core.methods.request.ShhPost;
 import org.web3j.protocol.core.methods.request.Transaction;
@@ -115,6 +116,7 @@ public class JsonRpc2_0Web3j implements Web3j {
     private final JsonRpc2_0Rx web3jRx;
     private final long blockTime;
     private final ScheduledExecutorService scheduledExecutorService;
+    private volatile LogFilterMultiplexer logFilterMultiplexer;
 
     public JsonRpc2_0Web3j(Web3jService web3jService) {
         this(web3jService, DEFAULT_BLOCK_TIME, Async.defaultExecutorService());
@@ -871,9 +873,50 @@ public class JsonRpc2_0Web3j implements Web3j {
     @Override
     public Flowable<Log> ethLogFlowable(
             org.web3j.protocol.core.methods.request.EthFilter ethFilter) {
+        LogFilterMultiplexer multiplexer = logFilterMultiplexer;
+        if (multiplexer != null) {
+            return multiplexer.ethLogFlowable(ethFilter);
+        }
         return web3jRx.ethLogFlowable(ethFilter, blockTime);
     }
 
+    @Override
+    public Flowable<Log> blockLogFlowable(
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter) {
+        return web3jRx.blockLogFlowable(ethFilter, blockTime);
+    }
+
+    /**
+     * As per {@link #blockLogFlowable(org.web3j.protocol.core.methods.request.EthFilter)}, except
+     * that the logs of a range of past blocks are emitted.
+     *
+     * @param startBlock block number to commence with
+     * @param endBlock block number to finish with
+     * @param ethFilter address and topic criteria, its block range is ignored
+     * @return a {@link Flowable} instance that emits all Log events matching the filter, in block
+     *     order
+     */
+    public Flowable<Log> replayPastBlockLogsFlowable(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter) {
+        return web3jRx.replayPastBlockLogsFlowable(startBlock, endBlock, ethFilter);
+    }
+
+    /**
+     * Share a single log poll between all log flowables created from now on, including those of
+     * contract event flowables, rather than installing and polling a node-side filter for each of
+     * them.
+     *
+     * @see LogFilterMultiplexer
+     */
+    public synchronized void enableLogFilterMultiplexing() {
+        if (logFilterMultiplexer == null) {
+            logFilterMultiplexer =
+                    new LogFilterMultiplexer(this, scheduledExecutorService, blockTime);
+        }
+    }
+
     @Override
     public Flowable<org.web3j.protocol.core.methods.response.Transaction> transactionFlowable() {
         return web3jRx.transactionFlowable(blockTime);
@@ -908,6 +951,18 @@ public class JsonRpc2_0Web3j implements Web3j {
                 startBlock, endBlock, fullTransactionObjects, ascending);
     }
 
+    @Override
+    public Flowable<EthBlock> replayPastBlocksFlowable(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            boolean fullTransactionObjects,
+            boolean ascending,
+            int parallelism,
+            int batchSize) {
+        return web3jRx.replayBlocksFlowable(
+                startBlock, endBlock, fullTransactionObjects, ascending, parallelism, batchSize);
+    }
+
     @Override
     public Flowable<EthBlock> replayPastBlocksFlowable(
             DefaultBlockParameter startBlock,
@@ -917,6 +972,17 @@ public class JsonRpc2_0Web3j implements Web3j {
                 startBlock, fullTransactionObjects, onCompleteFlowable);
     }
 
+    @Override
+    public Flowable<EthBlock> replayPastBlocksFlowable(
+            DefaultBlockParameter startBlock,
+            boolean fullTransactionObjects,
+            Flowable<EthBlock> onCompleteFlowable,
+            int parallelism,
+            int batchSize) {
+        return web3jRx.replayPastBlocksFlowable(
+                startBlock, fullTransactionObjects, onCompleteFlowable, parallelism, batchSize);
+    }
+
     @Override
     public Flowable<EthBlock> replayPastBlocksFlowable(
             DefaultBlockParameter startBlock, boolean fullTransactionObjects) {
@@ -951,6 +1017,10 @@ public class JsonRpc2_0Web3j implements Web3j {
 
     @Override
     public void shutdown() {
+        LogFilterMultiplexer multiplexer = logFilterMultiplexer;
+        if (multiplexer != null) {
+            multiplexer.close();
+        }
         scheduledExecutorService.shutdown();
         try {
             web3jService.close();
@@ -0,0 +1,944 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import io.reactivex.Flowable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.exceptions.RateLimitExceededException;
+import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.Async;
+import org.web3j.utils.Numeric;
+
+/**
+ * A {@link Web3jService} which spreads requests across several nodes.
+ *
+ * <p>Each request is sent to the endpoint with the lowest score, either its number of outstanding
+ * requests, or its exponentially weighted moving average latency scaled by its outstanding
+ * requests. Read-only requests which fail to reach a node are retried on the other endpoints, see
+ * {@link #setRetryableMethods(Set)}.
+ *
+ * <p>Endpoints are taken out of rotation when:
+ *
+ * <ul>
+ *   <li>requests to them fail repeatedly, until the circuit breaker lets a single probe request
+ *       through and it succeeds, see {@link #setCircuitBreaker(int, long, TimeUnit)};
+ *   <li>they reject a request with a {@link RateLimitExceededException}, until the delay requested
+ *       by the node has passed;
+ *   <li>their latest block is too far behind the other endpoints, see {@link
+ *       #setMaxBlockLag(long)}, or behind the block a request refers to.
+ * </ul>
+ *
+ * <p>The latest block of each endpoint is learnt from {@code eth_blockNumber} replies, including
+ * those of the periodic health checks started by {@link #startHealthChecks(long, TimeUnit)}. When
+ * no endpoint is eligible, the best of the remaining endpoints is used rather than failing the
+ * request.
+ *
+ * <p>Filters are held by the node which installed them, so requests which refer to a filter id,
+ * such as {@code eth_getFilterChanges}, are always sent to the endpoint which created the filter.
+ *
+ * <p>With a {@link HedgingPolicy}, slow read-only requests are also sent to a second endpoint, and
+ * the first successful reply is used, see {@link #setHedgingPolicy(HedgingPolicy)}.
+ */
+public class LoadBalancingWeb3jService implements Web3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadBalancingWeb3jService.class);
+
+    public static final int DEFAULT_FAILURE_THRESHOLD = 3;
+    public static final long DEFAULT_OPEN_CIRCUIT_MILLIS = 30_000;
+    public static final long DEFAULT_MAX_BLOCK_LAG = 2;
+
+    static final long DEFAULT_RATE_LIMIT_BACKOFF_MILLIS = 1_000;
+
+    // Weight of the latest sample in the latency average
+    private static final double LATENCY_WEIGHT = 0.3;
+
+    private static final Set<String> NEW_FILTER_METHODS =
+            Collections.unmodifiableSet(
+                    new HashSet<>(
+                            Arrays.asList(
+                                    "eth_newFilter",
+                                    "eth_newBlockFilter",
+                                    "eth_newPendingTransactionFilter")));
+
+    /**
+     * Methods retried on another endpoint by default, the {@link RpcMethods#READ_ONLY} methods and
+     * the creation of filters, as a filter left on a node which did not reply expires unused.
+     */
+    public static final Set<String> DEFAULT_RETRYABLE_METHODS;
+
+    static {
+        Set<String> methods = new HashSet<>(RpcMethods.READ_ONLY);
+        methods.addAll(NEW_FILTER_METHODS);
+        DEFAULT_RETRYABLE_METHODS = Collections.unmodifiableSet(methods);
+    }
+
+    // Methods whose first parameter is the id of a filter
+    private static final Set<String> FILTER_ID_METHODS =
+            Collections.unmodifiableSet(
+                    new HashSet<>(
+                            Arrays.asList(
+                                    "eth_getFilterChanges",
+                                    "eth_getFilterLogs",
+                                    "eth_uninstallFilter")));
+
+    // Position of the block parameter of methods which take it as a hex quantity or a tag
+    private static final Map<String, Integer> BLOCK_PARAMETER_INDEXES = new HashMap<>();
+
+    static {
+        for (String method :
+                Arrays.asList(
+                        "eth_getBlockTransactionCountByNumber",
+                        "eth_getUncleCountByBlockNumber",
+                        "eth_getBlockByNumber",
+                        "eth_getTransactionByBlockNumberAndIndex",
+                        "eth_getBlockReceipts",
+                        "eth_getUncleByBlockNumberAndIndex")) {
+            BLOCK_PARAMETER_INDEXES.put(method, 0);
+        }
+        for (String method :
+                Arrays.asList(
+                        "eth_getBalance",
+                        "eth_getTransactionCount",
+                        "eth_getCode",
+                        "eth_call",
+                        "eth_feeHistory")) {
+            BLOCK_PARAMETER_INDEXES.put(method, 1);
+        }
+        BLOCK_PARAMETER_INDEXES.put("eth_getStorageAt", 2);
+        BLOCK_PARAMETER_INDEXES.put("eth_getProof", 2);
+    }
+
+    /** How endpoints are scored, the endpoint with the lowest score receives the next request. */
+    public enum Strategy {
+        /** Score endpoints by their number of outstanding requests. */
+        LEAST_OUTSTANDING_REQUESTS,
+        /**
+         * Score endpoints by their average latency, multiplied by their number of outstanding
+         * requests plus one.
+         */
+        LATENCY_EWMA
+    }
+
+    private final List<Endpoint> endpoints;
+    private final Strategy strategy;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger nextEndpoint = new AtomicInteger();
+    // Endpoint each filter was installed on, by filter id
+    private final Map<BigInteger, Endpoint> filterEndpoints = new ConcurrentHashMap<>();
+
+    private volatile int failureThreshold = DEFAULT_FAILURE_THRESHOLD;
+    private volatile long openCircuitNanos =
+            TimeUnit.MILLISECONDS.toNanos(DEFAULT_OPEN_CIRCUIT_MILLIS);
+    private volatile long maxBlockLag = DEFAULT_MAX_BLOCK_LAG;
+    private volatile HedgingPolicy hedgingPolicy;
+    private volatile Set<String> retryableMethods = DEFAULT_RETRYABLE_METHODS;
+
+    // Created on first use, for health checks and hedged requests
+    private ScheduledExecutorService scheduledExecutorService;
+    private ScheduledFuture<?> healthCheck;
+
+    public LoadBalancingWeb3jService(List<? extends Web3jService> services) {
+        this(services, Strategy.LATENCY_EWMA);
+    }
+
+    public LoadBalancingWeb3jService(List<? extends Web3jService> services, Strategy strategy) {
+        this(services, strategy, System::nanoTime);
+    }
+
+    LoadBalancingWeb3jService(
+            List<? extends Web3jService> services, Strategy strategy, LongSupplier nanoClock) {
+        if (services.isEmpty()) {
+            throw new IllegalArgumentException("At least one service is required");
+        }
+        List<Endpoint> endpointList = new ArrayList<>(services.size());
+        for (Web3jService service : services) {
+            endpointList.add(new Endpoint(service));
+        }
+        this.endpoints = Collections.unmodifiableList(endpointList);
+        this.strategy = strategy;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Configure when endpoints are taken out of rotation because requests to them fail.
+     *
+     * @param failureThreshold number of consecutive failed requests which open the circuit
+     * @param openDuration how long to wait before letting a probe request through an open circuit
+     * @param timeUnit unit of the duration
+     */
+    public void setCircuitBreaker(int failureThreshold, long openDuration, TimeUnit timeUnit) {
+        if (failureThreshold < 1 || openDuration < 0) {
+            throw new IllegalArgumentException("Invalid circuit breaker configuration");
+        }
+        this.failureThreshold = failureThreshold;
+        this.openCircuitNanos = timeUnit.toNanos(openDuration);
+    }
+
+    /**
+     * Configure which requests are sent to another endpoint when their outcome is unknown, because
+     * the request to the first endpoint failed. Only methods which can safely be executed twice
+     * should be retried. Rate limited requests are always retried, as they were not processed.
+     *
+     * @param retryableMethods methods to retry, such as {@link #DEFAULT_RETRYABLE_METHODS} and any
+     *     read-only methods specific to the nodes
+     */
+    public void setRetryableMethods(Set<String> retryableMethods) {
+        this.retryableMethods = Collections.unmodifiableSet(new HashSet<>(retryableMethods));
+    }
+
+    /**
+     * @param maxBlockLag number of blocks an endpoint may be behind the most synced endpoint and
+     *     still receive requests
+     */
+    public void setMaxBlockLag(long maxBlockLag) {
+        this.maxBlockLag = maxBlockLag;
+    }
+
+    /**
+     * Hedge slow read-only requests, by sending a duplicate to a second endpoint once a request has
+     * been outstanding for too long. The first successful reply is used, and the other request is
+     * cancelled.
+     *
+     * @param hedgingPolicy which requests to hedge and when, or null to disable hedging
+     */
+    public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+        this.hedgingPolicy = hedgingPolicy;
+    }
+
+    /**
+     * Periodically send {@code eth_blockNumber} to every endpoint, to keep track of how far each is
+     * synced, and to detect when an endpoint recovers.
+     *
+     * @param period time between checks
+     * @param timeUnit unit of the period
+     */
+    public synchronized void startHealthChecks(long period, TimeUnit timeUnit) {
+        if (healthCheck != null) {
+            healthCheck.cancel(false);
+        }
+        healthCheck =
+                getScheduledExecutorService()
+                        .scheduleAtFixedRate(this::checkHealth, 0, period, timeUnit);
+    }
+
+    private synchronized ScheduledExecutorService getScheduledExecutorService() {
+        if (scheduledExecutorService == null) {
+            scheduledExecutorService = Async.defaultExecutorService();
+        }
+        return scheduledExecutorService;
+    }
+
+    /** Send {@code eth_blockNumber} to every endpoint, updating their status from the replies. */
+    public void checkHealth() {
+        for (Endpoint endpoint : endpoints) {
+            Request<?, EthBlockNumber> request =
+                    new Request<>(
+                            "eth_blockNumber",
+                            Collections.<String>emptyList(),
+                            endpoint.service,
+                            EthBlockNumber.class);
+            long start = endpoint.onRequest(nanoClock);
+            CompletableFuture<EthBlockNumber> reply;
+            try {
+                reply = endpoint.service.sendAsync(request, EthBlockNumber.class);
+            } catch (RuntimeException e) {
+                reply = failed(e);
+            }
+            reply.whenComplete(
+                    (blockNumber, throwable) -> {
+                        if (throwable == null) {
+                            onSuccess(endpoint, start, blockNumber);
+                        } else {
+                            onFailure(endpoint, unwrap(throwable));
+                        }
+                    });
+        }
+    }
+
+    /**
+     * @return the endpoints requests are spread across, in the order their services were given
+     */
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return get(sendAsync(request, responseType));
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        Endpoint filterEndpoint = filterEndpoint(request);
+        if (filterEndpoint != null) {
+            return executeOn(
+                    filterEndpoint,
+                    service ->
+                            service.sendAsync(request, responseType)
+                                    .thenApply(reply -> onFilterReply(request, service, reply)));
+        } else if (NEW_FILTER_METHODS.contains(request.getMethod())) {
+            return execute(
+                    isRetryable(request),
+                    -1,
+                    service ->
+                            service.sendAsync(request, responseType)
+                                    .thenApply(reply -> onFilterReply(request, service, reply)));
+        }
+
+        HedgingPolicy policy = hedgingPolicy;
+        if (policy != null && endpoints.size() > 1 && policy.isHedged(request)) {
+            return executeHedged(
+                    policy,
+                    request.getMethod(),
+                    requiredBlock(request),
+                    service -> service.sendAsync(request, responseType));
+        }
+        return execute(
+                isRetryable(request),
+                requiredBlock(request),
+                service -> service.sendAsync(request, responseType));
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return get(sendBatchAsync(batchRequest));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        boolean retryable = true;
+        long requiredBlock = -1;
+        Endpoint filterEndpoint = null;
+        for (Request<?, ? extends Response<?>> request : batchRequest.getRequests()) {
+            retryable &= isRetryable(request);
+            requiredBlock = Math.max(requiredBlock, requiredBlock(request));
+            Endpoint endpoint = filterEndpoint(request);
+            if (endpoint != null) {
+                filterEndpoint = endpoint;
+            }
+        }
+
+        Function<Web3jService, CompletableFuture<BatchResponse>> call =
+                service ->
+                        service.sendBatchAsync(batchRequest)
+                                .thenApply(reply -> onFilterReplies(service, reply));
+        if (filterEndpoint != null) {
+            // a batch can only be sent to one endpoint, so use that of the filter it refers to
+            return executeOn(filterEndpoint, call);
+        }
+        return execute(retryable, requiredBlock, call);
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        Set<Endpoint> tried = new HashSet<>();
+        while (tried.size() < endpoints.size()) {
+            // subscriptions do not report their outcome, so are never used to probe an endpoint
+            Endpoint endpoint = selectBest(nanoClock.getAsLong(), -1, bestBlock(), tried);
+            tried.add(endpoint);
+            try {
+                return endpoint.service.subscribe(request, unsubscribeMethod, responseType);
+            } catch (UnsupportedOperationException e) {
+                log.debug("Endpoint {} does not support subscriptions", endpoint.service);
+            }
+        }
+        throw new UnsupportedOperationException(
+                "None of the endpoints supports subscriptions, use a WebSocketService");
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (scheduledExecutorService != null) {
+                scheduledExecutorService.shutdown();
+            }
+        }
+
+        IOException exception = null;
+        for (Endpoint endpoint : endpoints) {
+            try {
+                endpoint.service.close();
+            } catch (IOException e) {
+                exception = e;
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private <T> CompletableFuture<T> execute(
+            boolean retryable,
+            long requiredBlock,
+            Function<Web3jService, CompletableFuture<T>> call) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(retryable, requiredBlock, call, new HashSet<>(), result);
+        return result;
+    }
+
+    /** Send a request to the given endpoint only, as it cannot be served by any other. */
+    private <T> CompletableFuture<T> executeOn(
+            Endpoint endpoint, Function<Web3jService, CompletableFuture<T>> call) {
+        Set<Endpoint> excluded = new HashSet<>(endpoints);
+        excluded.remove(endpoint);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        attempt(false, -1, call, excluded, result);
+        return result;
+    }
+
+    private <T> CompletableFuture<T> executeHedged(
+            HedgingPolicy policy,
+            String method,
+            long requiredBlock,
+            Function<Web3jService, CompletableFuture<T>> call) {
+        long delayNanos = policy.onRequest(method);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        CompletableFuture<T> primary = new CompletableFuture<>();
+        CompletableFuture<T> hedge = new CompletableFuture<>();
+        // shared, so that the hedge is sent to an endpoint the primary request has not tried
+        Set<Endpoint> tried = ConcurrentHashMap.newKeySet();
+        // number of requests which may still succeed
+        AtomicInteger pending = new AtomicInteger(1);
+        // an error reply, used if no other request succeeds
+        AtomicReference<T> errorReply = new AtomicReference<>();
+        long start = nanoClock.getAsLong();
+
+        primary.whenComplete(
+                (value, throwable) -> {
+                    // a cancelled request took at least as long as the hedge which replaced it
+                    if (throwable == null || primary.isCancelled()) {
+                        policy.onLatency(method, nanoClock.getAsLong() - start);
+                    }
+                    onHedgedReply(result, pending, errorReply, value, throwable);
+                });
+        hedge.whenComplete(
+                (value, throwable) -> onHedgedReply(result, pending, errorReply, value, throwable));
+        attempt(true, requiredBlock, call, tried, primary);
+
+        ScheduledFuture<?> scheduledHedge =
+                delayNanos < 0
+                        ? null
+                        : getScheduledExecutorService()
+                                .schedule(
+                                        () ->
+                                                sendHedge(
+                                                        policy,
+                                                        requiredBlock,
+                                                        call,
+                                                        tried,
+                                                        pending,
+                                                        hedge),
+                                        delayNanos,
+                                        TimeUnit.NANOSECONDS);
+
+        result.whenComplete(
+                (value, throwable) -> {
+                    if (scheduledHedge != null) {
+                        scheduledHedge.cancel(false);
+                    }
+                    primary.cancel(true);
+                    hedge.cancel(true);
+                });
+        return result;
+    }
+
+    private <T> void sendHedge(
+            HedgingPolicy policy,
+            long requiredBlock,
+            Function<Web3jService, CompletableFuture<T>> call,
+            Set<Endpoint> tried,
+            AtomicInteger pending,
+            CompletableFuture<T> hedge) {
+        if (tried.size() >= endpoints.size()) {
+            return;
+        }
+        // the primary request may have failed, and the result with it, in the meantime
+        if (pending.getAndUpdate(p -> p == 0 ? 0 : p + 1) == 0) {
+            return;
+        }
+        if (policy.tryHedge()) {
+            log.debug("Hedging slow request on another endpoint");
+            attempt(true, requiredBlock, call, tried, hedge);
+        } else {
+            pending.decrementAndGet();
+        }
+    }
+
+    /**
+     * Complete the result with the first successful reply. A JSON-RPC error reply is only used if
+     * the other request fails as well.
+     */
+    private static <T> void onHedgedReply(
+            CompletableFuture<T> result,
+            AtomicInteger pending,
+            AtomicReference<T> errorReply,
+            T value,
+            Throwable throwable) {
+        if (throwable == null && !(value instanceof Response && ((Response<?>) value).hasError())) {
+            result.complete(value);
+            return;
+        }
+        if (throwable == null) {
+            errorReply.compareAndSet(null, value);
+        }
+        if (pending.decrementAndGet() == 0) {
+            if (errorReply.get() != null) {
+                result.complete(errorReply.get());
+            } else {
+                result.completeExceptionally(unwrap(throwable));
+            }
+        }
+    }
+
+    private <T> void attempt(
+            boolean retryable,
+            long requiredBlock,
+            Function<Web3jService, CompletableFuture<T>> call,
+            Set<Endpoint> tried,
+            CompletableFuture<T> result) {
+        if (result.isDone()) {
+            return;
+        }
+        Endpoint endpoint = select(requiredBlock, tried);
+        if (endpoint == null) {
+            // a concurrent hedge has tried every other endpoint
+            result.completeExceptionally(new IOException("No endpoint left to send request to"));
+            return;
+        }
+        tried.add(endpoint);
+
+        long start = endpoint.onRequest(nanoClock);
+        CompletableFuture<T> reply;
+        try {
+            reply = call.apply(endpoint.service);
+        } catch (RuntimeException e) {
+            reply = failed(e);
+        }
+
+        CompletableFuture<T> sent = reply;
+        result.whenComplete(
+                (value, throwable) -> {
+                    if (result.isCancelled()) {
+                        sent.cancel(true);
+                    }
+                });
+        reply.whenComplete(
+                (value, throwable) -> {
+                    if (result.isCancelled()) {
+                        endpoint.onCancelled();
+                        return;
+                    }
+                    if (throwable == null) {
+                        onSuccess(endpoint, start, value);
+                        result.complete(value);
+                        return;
+                    }
+
+                    Throwable cause = unwrap(throwable);
+                    onFailure(endpoint, cause);
+                    // a rate limited request was not processed, so it is always safe to resend
+                    boolean resend = retryable || cause instanceof RateLimitExceededException;
+                    if (resend && tried.size() < endpoints.size()) {
+                        log.debug(
+                                "Request to {} failed, retrying on another endpoint",
+                                endpoint.service,
+                                cause);
+                        attempt(retryable, requiredBlock, call, tried, result);
+                    } else {
+                        result.completeExceptionally(cause);
+                    }
+                });
+    }
+
+    private void onSuccess(Endpoint endpoint, long start, Object reply) {
+        endpoint.onSuccess(nanoClock.getAsLong() - start);
+        if (reply instanceof EthBlockNumber && !((EthBlockNumber) reply).hasError()) {
+            endpoint.onBlockNumber(((EthBlockNumber) reply).getBlockNumber().longValue());
+        }
+    }
+
+    private void onFailure(Endpoint endpoint, Throwable cause) {
+        long now = nanoClock.getAsLong();
+        if (cause instanceof RateLimitExceededException) {
+            long backoffMillis =
+                    ((RateLimitExceededException) cause)
+                            .getRetryAfter()
+                            .map(Duration::toMillis)
+                            .orElse(DEFAULT_RATE_LIMIT_BACKOFF_MILLIS);
+            endpoint.onRateLimited(now + TimeUnit.MILLISECONDS.toNanos(backoffMillis));
+        } else {
+            endpoint.onFailure(now, failureThreshold, openCircuitNanos);
+        }
+    }
+
+    Endpoint select(long requiredBlock, Set<Endpoint> excluded) {
+        long now = nanoClock.getAsLong();
+        long bestBlock = bestBlock();
+        while (true) {
+            Endpoint best = selectBest(now, requiredBlock, bestBlock, excluded);
+            // a concurrent request may have taken the only probe of a half-open endpoint, in
+            // which case it is no longer available
+            if (best == null || !best.isAvailable(now) || best.admit(now)) {
+                return best;
+            }
+        }
+    }
+
+    private long bestBlock() {
+        long bestBlock = -1;
+        for (Endpoint endpoint : endpoints) {
+            bestBlock = Math.max(bestBlock, endpoint.latestBlockNumber);
+        }
+        return bestBlock;
+    }
+
+    private Endpoint selectBest(
+            long now, long requiredBlock, long bestBlock, Set<Endpoint> excluded) {
+        // start from a different endpoint each time, so that ties are spread evenly
+        int start = Math.floorMod(nextEndpoint.getAndIncrement(), endpoints.size());
+        Endpoint best = null;
+        int bestRank = Integer.MAX_VALUE;
+        double bestScore = Double.MAX_VALUE;
+        for (int i = 0; i < endpoints.size(); i++) {
+            Endpoint endpoint = endpoints.get((start + i) % endpoints.size());
+            if (excluded.contains(endpoint)) {
+                continue;
+            }
+
+            int rank =
+                    (endpoint.isAvailable(now) ? 0 : 2)
+                            + (isSynced(endpoint, requiredBlock, bestBlock) ? 0 : 1);
+            double score = score(endpoint);
+            if (rank < bestRank || (rank == bestRank && score < bestScore)) {
+                best = endpoint;
+                bestRank = rank;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private boolean isSynced(Endpoint endpoint, long requiredBlock, long bestBlock) {
+        long block = endpoint.latestBlockNumber;
+        if (block < 0) {
+            // not known yet
+            return true;
+        }
+        return block >= requiredBlock && block >= bestBlock - maxBlockLag;
+    }
+
+    private double score(Endpoint endpoint) {
+        int outstanding = endpoint.outstandingRequests.get();
+        if (strategy == Strategy.LEAST_OUTSTANDING_REQUESTS) {
+            return outstanding;
+        }
+        // endpoints without a measured latency compete on their outstanding requests
+        double latency = endpoint.latencyNanos < 0 ? 1 : endpoint.latencyNanos;
+        return latency * (outstanding + 1);
+    }
+
+    /**
+     * @return the endpoint holding the filter a request refers to, or null if it does not refer to
+     *     a known filter
+     */
+    private Endpoint filterEndpoint(Request<?, ?> request) {
+        BigInteger filterId = filterId(request);
+        return filterId == null ? null : filterEndpoints.get(filterId);
+    }
+
+    private static BigInteger filterId(Request<?, ?> request) {
+        if (!FILTER_ID_METHODS.contains(request.getMethod())
+                || request.getParams() == null
+                || request.getParams().isEmpty()
+                || !(request.getParams().get(0) instanceof String)) {
+            return null;
+        }
+        try {
+            return Numeric.toBigInt((String) request.getParams().get(0));
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** Track which endpoint filters are installed on from the replies to filter requests. */
+    private <T> T onFilterReply(Request<?, ?> request, Web3jService service, T reply) {
+        if (!(reply instanceof Response)) {
+            return reply;
+        }
+        Response<?> response = (Response<?>) reply;
+        if (NEW_FILTER_METHODS.contains(request.getMethod())) {
+            if (!response.hasError() && response.getResult() instanceof String) {
+                for (Endpoint endpoint : endpoints) {
+                    if (endpoint.service == service) {
+                        filterEndpoints.put(
+                                Numeric.toBigInt((String) response.getResult()), endpoint);
+                    }
+                }
+            }
+        } else if ("eth_uninstallFilter".equals(request.getMethod())
+                || (response.hasError() && isFilterNotFound(response.getError()))) {
+            BigInteger filterId = filterId(request);
+            if (filterId != null) {
+                filterEndpoints.remove(filterId);
+            }
+        }
+        return reply;
+    }
+
+    private BatchResponse onFilterReplies(Web3jService service, BatchResponse reply) {
+        int size = Math.min(reply.getRequests().size(), reply.getResponses().size());
+        for (int i = 0; i < size; i++) {
+            onFilterReply(reply.getRequests().get(i), service, reply.getResponses().get(i));
+        }
+        return reply;
+    }
+
+    private static boolean isFilterNotFound(Response.Error error) {
+        return error.getMessage() != null
+                && error.getMessage().toLowerCase().contains("filter not found");
+    }
+
+    private boolean isRetryable(Request<?, ?> request) {
+        return retryableMethods.contains(request.getMethod());
+    }
+
+    /**
+     * @return the highest block number a request refers to, or -1 if it does not refer to one
+     */
+    static long requiredBlock(Request<?, ?> request) {
+        List<?> params = request.getParams();
+        if (params == null) {
+            return -1;
+        }
+        long required = -1;
+        for (Object param : params) {
+            required = Math.max(required, blockNumber(param));
+        }
+        Integer index = BLOCK_PARAMETER_INDEXES.get(request.getMethod());
+        if (index != null && index < params.size()) {
+            required = Math.max(required, blockQuantity(params.get(index)));
+        }
+        return required;
+    }
+
+    // Decodes a block number passed as a hex quantity, tags such as "latest" are ignored
+    private static long blockQuantity(Object param) {
+        if (param instanceof String && Numeric.containsHexPrefix((String) param)) {
+            try {
+                return Numeric.decodeQuantity((String) param).longValueExact();
+            } catch (RuntimeException e) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static long blockNumber(Object param) {
+        if (param instanceof DefaultBlockParameterNumber) {
+            return ((DefaultBlockParameterNumber) param).getBlockNumber().longValue();
+        } else if (param instanceof EthFilter) {
+            EthFilter filter = (EthFilter) param;
+            return Math.max(blockNumber(filter.getFromBlock()), blockNumber(filter.getToBlock()));
+        }
+        return -1;
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        while ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+                && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private static <T> T get(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted request", e);
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException("Unexpected exception", cause);
+        }
+    }
+
+    /** A node requests are spread across, and the statistics used to choose it. */
+    public static final class Endpoint {
+        private final Web3jService service;
+        private final AtomicInteger outstandingRequests = new AtomicInteger();
+        private volatile double latencyNanos = -1;
+        private volatile long latestBlockNumber = -1;
+
+        // guarded by this
+        private int consecutiveFailures;
+        private volatile boolean circuitOpen;
+        // set while the single request let through a half-open circuit is outstanding
+        private volatile boolean probing;
+        private volatile boolean unavailable;
+        private volatile long unavailableUntilNanos;
+
+        Endpoint(Web3jService service) {
+            this.service = service;
+        }
+
+        public Web3jService getService() {
+            return service;
+        }
+
+        public int getOutstandingRequests() {
+            return outstandingRequests.get();
+        }
+
+        /**
+         * @return average latency in milliseconds, or -1 if no request has completed yet
+         */
+        public double getLatencyMillis() {
+            double latency = latencyNanos;
+            return latency < 0 ? -1 : latency / TimeUnit.MILLISECONDS.toNanos(1);
+        }
+
+        /**
+         * @return latest block number reported by the endpoint, or -1 if not known
+         */
+        public long getLatestBlockNumber() {
+            return latestBlockNumber;
+        }
+
+        /**
+         * @return true if the endpoint was taken out of rotation because requests to it failed
+         */
+        public boolean isCircuitOpen() {
+            return circuitOpen;
+        }
+
+        boolean isAvailable(long now) {
+            return !unavailable || (now - unavailableUntilNanos >= 0 && !probing);
+        }
+
+        /**
+         * Admit a request to an available endpoint. If the circuit is half-open, only one probe
+         * request is admitted until it completes.
+         *
+         * @return false if another request is already probing the endpoint
+         */
+        synchronized boolean admit(long now) {
+            if (circuitOpen && unavailable && now - unavailableUntilNanos >= 0) {
+                if (probing) {
+                    return false;
+                }
+                probing = true;
+            }
+            return true;
+        }
+
+        long onRequest(LongSupplier nanoClock) {
+            outstandingRequests.incrementAndGet();
+            return nanoClock.getAsLong();
+        }
+
+        synchronized void onSuccess(long latency) {
+            outstandingRequests.decrementAndGet();
+            latencyNanos =
+                    latencyNanos < 0
+                            ? latency
+                            : LATENCY_WEIGHT * latency + (1 - LATENCY_WEIGHT) * latencyNanos;
+            consecutiveFailures = 0;
+            probing = false;
+            if (circuitOpen) {
+                log.info("Endpoint {} recovered", service);
+                circuitOpen = false;
+                unavailable = false;
+            }
+        }
+
+        synchronized void onFailure(long now, int failureThreshold, long openCircuitNanos) {
+            outstandingRequests.decrementAndGet();
+            probing = false;
+            if (++consecutiveFailures >= failureThreshold) {
+                if (!circuitOpen) {
+                    log.warn(
+                            "Taking endpoint {} out of rotation after {} failed requests",
+                            service,
+                            consecutiveFailures);
+                }
+                circuitOpen = true;
+                unavailableUntil(now + openCircuitNanos);
+            }
+        }
+
+        synchronized void onRateLimited(long until) {
+            outstandingRequests.decrementAndGet();
+            probing = false;
+            log.debug("Endpoint {} is rate limited", service);
+            unavailableUntil(until);
+        }
+
+        synchronized void onCancelled() {
+            outstandingRequests.decrementAndGet();
+            probing = false;
+        }
+
+        void onBlockNumber(long blockNumber) {
+            latestBlockNumber = blockNumber;
+        }
+
+        private void unavailableUntil(long until) {
+            if (!unavailable || until - unavailableUntilNanos > 0) {
+                unavailableUntilNanos = until;
+            }
+            unavailable = true;
+        }
+    }
+}
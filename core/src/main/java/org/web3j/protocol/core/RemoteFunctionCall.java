@@ -43,6 +43,13 @@ public class RemoteFunctionCall<T> extends RemoteCall<T> {
         return FunctionEncoder.encode(function);
     }
 
+    /**
+     * @return the function which is called
+     */
+    public Function getFunction() {
+        return function;
+    }
+
     /**
      * decode a method response
      *
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/** JSON-RPC method names grouped by how they may be handled by transports. */
+public final class RpcMethods {
+    private RpcMethods() {}
+
+    /**
+     * Methods which only read node state, and so can safely be sent more than once or to another
+     * node. Filter methods are excluded, as filters are held by the node which created them and
+     * polling one consumes its changes.
+     */
+    public static final Set<String> READ_ONLY =
+            Collections.unmodifiableSet(
+                    new HashSet<>(
+                            Arrays.asList(
+                                    "web3_clientVersion",
+                                    "web3_sha3",
+                                    "net_version",
+                                    "net_listening",
+                                    "net_peerCount",
+                                    "eth_protocolVersion",
+                                    "eth_chainId",
+                                    "eth_syncing",
+                                    "eth_coinbase",
+                                    "eth_mining",
+                                    "eth_hashrate",
+                                    "eth_gasPrice",
+                                    "eth_maxPriorityFeePerGas",
+                                    "eth_blobBaseFee",
+                                    "eth_feeHistory",
+                                    "eth_accounts",
+                                    "eth_blockNumber",
+                                    "eth_getBalance",
+                                    "eth_getStorageAt",
+                                    "eth_getTransactionCount",
+                                    "eth_getBlockTransactionCountByHash",
+                                    "eth_getBlockTransactionCountByNumber",
+                                    "eth_getUncleCountByBlockHash",
+                                    "eth_getUncleCountByBlockNumber",
+                                    "eth_getCode",
+                                    "eth_call",
+                                    "eth_estimateGas",
+                                    "eth_createAccessList",
+                                    "eth_getBlockByHash",
+                                    "eth_getBlockByNumber",
+                                    "eth_getBlockReceipts",
+                                    "eth_getTransactionByHash",
+                                    "eth_getTransactionByBlockHashAndIndex",
+                                    "eth_getTransactionByBlockNumberAndIndex",
+                                    "eth_getTransactionReceipt",
+                                    "eth_getUncleByBlockHashAndIndex",
+                                    "eth_getUncleByBlockNumberAndIndex",
+                                    "eth_getLogs",
+                                    "eth_getProof")));
+}
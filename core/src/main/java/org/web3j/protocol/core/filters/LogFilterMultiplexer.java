@@ -0,0 +1,552 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.filters;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.request.Filter.FilterTopic;
+import org.web3j.protocol.core.methods.request.Filter.ListTopic;
+import org.web3j.protocol.core.methods.request.Filter.SingleTopic;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+/**
+ * Shares a single log poll between any number of log subscriptions.
+ *
+ * <p>Rather than installing a node-side filter and polling it separately for every subscription, as
+ * {@link LogFilter} does, the multiplexer polls for new blocks once per interval and fetches the
+ * logs of all new blocks with a few {@code eth_getLogs} requests. Subscriptions are grouped so that
+ * a subscription without an address or first topic does not widen the request of the others: those
+ * with addresses share one request, those with only a first topic share another, and a subscription
+ * matching any log leaves a single request for all logs. Each request's address and topic criteria
+ * are the union of those of its subscriptions, and each log is then matched against them locally.
+ *
+ * <p>A subscription with a numeric or {@code earliest} {@code fromBlock} first receives the
+ * matching logs up to the current block, which are fetched in the background with a {@link
+ * LogScanner}, and a numeric {@code toBlock} is respected. Logs of new blocks are held back until
+ * the past logs have been delivered. As logs are requested by block range, logs removed by a chain
+ * reorganisation are not reported.
+ *
+ * <p>A block range for which the node returns too many results is split. If the node rejects a
+ * request otherwise, the subscriptions it was made for are ended with the error.
+ */
+public class LogFilterMultiplexer {
+
+    private static final Logger log = LoggerFactory.getLogger(LogFilterMultiplexer.class);
+
+    public static final int DEFAULT_MAX_BLOCK_RANGE = 1000;
+
+    private final Web3j web3j;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final long pollingInterval;
+    private final int maxBlockRange;
+    private final LogScanner logScanner;
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    private ScheduledFuture<?> schedule;
+    private long lastBlockNumber = -1;
+
+    public LogFilterMultiplexer(
+            Web3j web3j, ScheduledExecutorService scheduledExecutorService, long pollingInterval) {
+        this(web3j, scheduledExecutorService, pollingInterval, DEFAULT_MAX_BLOCK_RANGE);
+    }
+
+    /**
+     * Create a multiplexer polling on the provided executor.
+     *
+     * @param web3j web3j instance to poll
+     * @param scheduledExecutorService executor service to poll on
+     * @param pollingInterval polling interval in milliseconds
+     * @param maxBlockRange maximum number of blocks to request logs for at a time
+     */
+    public LogFilterMultiplexer(
+            Web3j web3j,
+            ScheduledExecutorService scheduledExecutorService,
+            long pollingInterval,
+            int maxBlockRange) {
+        if (maxBlockRange < 1) {
+            throw new IllegalArgumentException("Maximum block range must be at least 1");
+        }
+        this.web3j = web3j;
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.pollingInterval = pollingInterval;
+        this.maxBlockRange = maxBlockRange;
+        this.logScanner =
+                new LogScanner(
+                        web3j,
+                        maxBlockRange,
+                        maxBlockRange,
+                        LogScanner.DEFAULT_PARALLELISM,
+                        LogScanner.DEFAULT_TARGET_RESULTS);
+    }
+
+    /**
+     * Create a flowable emitting the logs matching a filter, as per {@link
+     * Web3j#ethLogFlowable(EthFilter)}.
+     *
+     * @param ethFilter filter criteria
+     * @return a flowable of matching logs
+     */
+    public Flowable<Log> ethLogFlowable(EthFilter ethFilter) {
+        return Flowable.create(
+                subscriber -> {
+                    Subscription subscription =
+                            subscribe(ethFilter, subscriber::onNext, subscriber::onError);
+                    subscriber.setCancellable(subscription::cancel);
+                },
+                BackpressureStrategy.BUFFER);
+    }
+
+    /**
+     * Subscribe to the logs matching a filter, logging any error which ends the subscription.
+     *
+     * @param ethFilter filter criteria, which may not refer to a block hash
+     * @param callback callback for each matching log
+     * @return the subscription, to be cancelled once logs are no longer required
+     * @see #subscribe(EthFilter, Callback, Callback)
+     */
+    public Subscription subscribe(EthFilter ethFilter, Callback<Log> callback) {
+        return subscribe(
+                ethFilter, callback, error -> log.warn("Log subscription ended with error", error));
+    }
+
+    /**
+     * Subscribe to the logs matching a filter. Logs of new blocks are delivered on the polling
+     * thread, past logs on the thread completing their requests.
+     *
+     * @param ethFilter filter criteria, which may not refer to a block hash
+     * @param callback callback for each matching log
+     * @param onError callback for an error ending the subscription
+     * @return the subscription, to be cancelled once logs are no longer required
+     */
+    public Subscription subscribe(
+            EthFilter ethFilter, Callback<Log> callback, Callback<Throwable> onError) {
+        if (ethFilter.getBlockHash() != null) {
+            throw new IllegalArgumentException("Block hash filters cannot be multiplexed");
+        }
+
+        Subscription subscription = new Subscription(ethFilter, callback, onError);
+        long handoverBlock = register(subscription);
+        if (subscription.fromBlock != null && subscription.fromBlock <= handoverBlock) {
+            subscription.backfill(
+                    logScanner.scan(
+                            ethFilter,
+                            BigInteger.valueOf(subscription.fromBlock),
+                            BigInteger.valueOf(Math.min(handoverBlock, subscription.toBlock))));
+        }
+        return subscription;
+    }
+
+    /**
+     * Add a subscription to the live poll.
+     *
+     * @return the last block polled, from which on the subscription receives logs from the poll
+     */
+    private synchronized long register(Subscription subscription) {
+        try {
+            if (lastBlockNumber < 0) {
+                lastBlockNumber = fetchBlockNumber();
+            }
+        } catch (IOException e) {
+            throw new FilterException("Error sending request", e);
+        }
+        if (subscription.fromBlock != null && subscription.fromBlock <= lastBlockNumber) {
+            // hold back logs of new blocks until the past logs have been delivered
+            subscription.pending = new ArrayList<>();
+        }
+
+        subscriptions.add(subscription);
+        if (schedule == null) {
+            schedule =
+                    scheduledExecutorService.scheduleAtFixedRate(
+                            () -> {
+                                try {
+                                    poll();
+                                } catch (Throwable e) {
+                                    // keep polling, as per Filter
+                                    log.warn("Error polling for logs", e);
+                                }
+                            },
+                            pollingInterval,
+                            pollingInterval,
+                            TimeUnit.MILLISECONDS);
+        }
+        return lastBlockNumber;
+    }
+
+    /**
+     * @return number of active subscriptions
+     */
+    public int getSubscriptionCount() {
+        return subscriptions.size();
+    }
+
+    /** Cancel all subscriptions and stop polling. */
+    public synchronized void close() {
+        for (Subscription subscription : subscriptions) {
+            subscription.disposeBackfill();
+        }
+        subscriptions.clear();
+        stopPolling();
+    }
+
+    synchronized void poll() throws IOException {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        long head = fetchBlockNumber();
+        while (lastBlockNumber < head) {
+            long to = Math.min(head, lastBlockNumber + maxBlockRange);
+            dispatch(subscriptions, lastBlockNumber + 1, to);
+            lastBlockNumber = to;
+        }
+    }
+
+    private long fetchBlockNumber() throws IOException {
+        return web3j.ethBlockNumber().send().getBlockNumber().longValueExact();
+    }
+
+    /**
+     * Fetch the logs of a block range for every group of subscriptions before delivering any of
+     * them, so that a range failing with an I/O error can be requested again without duplicates.
+     */
+    private void dispatch(List<Subscription> targets, long from, long to) throws IOException {
+        List<List<Subscription>> groups = new ArrayList<>();
+        List<List<Log>> results = new ArrayList<>();
+        for (List<Subscription> group : group(targets)) {
+            try {
+                results.add(fetchLogs(group, from, to));
+                groups.add(group);
+            } catch (FilterException e) {
+                for (Subscription subscription : group) {
+                    subscription.fail(e);
+                }
+            }
+        }
+
+        for (int i = 0; i < groups.size(); i++) {
+            for (Log log : results.get(i)) {
+                for (Subscription subscription : groups.get(i)) {
+                    if (subscription.matches(log)) {
+                        subscription.deliver(log);
+                    }
+                }
+            }
+        }
+    }
+
+    private List<Log> fetchLogs(List<Subscription> group, long from, long to) throws IOException {
+        EthLog ethLog = web3j.ethGetLogs(mergeFilters(group, from, to)).send();
+        if (ethLog.hasError()) {
+            if (to > from && LogScanner.isRangeTooLarge(ethLog, null)) {
+                log.debug("Splitting log request for blocks {} to {}", from, to);
+                long mid = from + (to - from) / 2;
+                List<Log> logs = new ArrayList<>(fetchLogs(group, from, mid));
+                logs.addAll(fetchLogs(group, mid + 1, to));
+                return logs;
+            }
+            throw new FilterException("Invalid request: " + ethLog.getError().getMessage());
+        }
+
+        List<Log> logs = new ArrayList<>(ethLog.getLogs().size());
+        for (EthLog.LogResult<?> logResult : ethLog.getLogs()) {
+            if (!(logResult instanceof EthLog.LogObject)) {
+                throw new FilterException(
+                        "Unexpected result type: " + logResult.get() + " required LogObject");
+            }
+            logs.add(((EthLog.LogObject) logResult).get());
+        }
+        return logs;
+    }
+
+    /**
+     * Group subscriptions so that each group's merged filter is no wider than needed: those with
+     * addresses, and those with only a first topic. If any subscription matches logs of any address
+     * and first topic, all logs are requested anyway, so a single group is returned.
+     */
+    static List<List<Subscription>> group(List<Subscription> targets) {
+        List<Subscription> byAddress = new ArrayList<>();
+        List<Subscription> byTopic = new ArrayList<>();
+        for (Subscription subscription : targets) {
+            if (subscription.addresses != null) {
+                byAddress.add(subscription);
+            } else if (!subscription.topics.isEmpty() && subscription.topics.get(0) != null) {
+                byTopic.add(subscription);
+            } else {
+                return Collections.singletonList(targets);
+            }
+        }
+
+        List<List<Subscription>> groups = new ArrayList<>(2);
+        if (!byAddress.isEmpty()) {
+            groups.add(byAddress);
+        }
+        if (!byTopic.isEmpty()) {
+            groups.add(byTopic);
+        }
+        return groups;
+    }
+
+    /** Build a filter for a block range, matching any log matched by one of the subscriptions. */
+    static EthFilter mergeFilters(List<Subscription> targets, long from, long to) {
+        Set<String> addresses = new LinkedHashSet<>();
+        int topicCount = 0;
+        for (Subscription subscription : targets) {
+            if (addresses != null) {
+                if (subscription.addresses == null) {
+                    addresses = null;
+                } else {
+                    addresses.addAll(subscription.addresses);
+                }
+            }
+            topicCount = Math.max(topicCount, subscription.topics.size());
+        }
+
+        List<Set<String>> topics = new ArrayList<>(topicCount);
+        for (int i = 0; i < topicCount; i++) {
+            Set<String> position = new LinkedHashSet<>();
+            for (Subscription subscription : targets) {
+                Set<String> values =
+                        i < subscription.topics.size() ? subscription.topics.get(i) : null;
+                if (values == null) {
+                    position = null;
+                    break;
+                }
+                position.addAll(values);
+            }
+            topics.add(position);
+        }
+        // trailing wildcards are implied
+        while (!topics.isEmpty() && topics.get(topics.size() - 1) == null) {
+            topics.remove(topics.size() - 1);
+        }
+
+        EthFilter ethFilter =
+                new EthFilter(
+                        DefaultBlockParameter.valueOf(BigInteger.valueOf(from)),
+                        DefaultBlockParameter.valueOf(BigInteger.valueOf(to)),
+                        addresses == null ? null : new ArrayList<>(addresses));
+        for (Set<String> position : topics) {
+            if (position == null) {
+                ethFilter.addNullTopic();
+            } else if (position.size() == 1) {
+                ethFilter.addSingleTopic(position.iterator().next());
+            } else {
+                ethFilter.addOptionalTopics(position.toArray(new String[0]));
+            }
+        }
+        return ethFilter;
+    }
+
+    private synchronized void remove(Subscription subscription) {
+        if (subscriptions.remove(subscription) && subscriptions.isEmpty()) {
+            stopPolling();
+        }
+    }
+
+    private void stopPolling() {
+        if (schedule != null) {
+            schedule.cancel(false);
+            schedule = null;
+        }
+        // start from the chain head again on the next subscription
+        lastBlockNumber = -1;
+    }
+
+    /** A subscription to the logs matching a filter, matched locally. */
+    public final class Subscription {
+
+        private final Callback<Log> callback;
+        private final Callback<Throwable> onError;
+        private final Set<String> addresses;
+        private final List<Set<String>> topics;
+        private final Long fromBlock;
+        private final long toBlock;
+
+        // logs of new blocks held back while past logs are delivered, guarded by this
+        private List<Log> pending;
+        private volatile Disposable backfill;
+        private volatile boolean cancelled;
+
+        private Subscription(
+                EthFilter ethFilter, Callback<Log> callback, Callback<Throwable> onError) {
+            this.callback = callback;
+            this.onError = onError;
+            this.addresses = normalize(ethFilter.getAddress());
+            this.topics = new ArrayList<>();
+            for (FilterTopic<?> topic : ethFilter.getTopics()) {
+                topics.add(topicValues(topic));
+            }
+            this.fromBlock = initialBlock(ethFilter.getFromBlock());
+            DefaultBlockParameter to = ethFilter.getToBlock();
+            this.toBlock =
+                    to instanceof DefaultBlockParameterNumber
+                            ? ((DefaultBlockParameterNumber) to).getBlockNumber().longValueExact()
+                            : Long.MAX_VALUE;
+        }
+
+        boolean matches(Log log) {
+            if (log.getBlockNumber() != null) {
+                long blockNumber = log.getBlockNumber().longValueExact();
+                if (blockNumber > toBlock || (fromBlock != null && blockNumber < fromBlock)) {
+                    return false;
+                }
+            }
+            if (addresses != null
+                    && (log.getAddress() == null
+                            || !addresses.contains(log.getAddress().toLowerCase(Locale.ROOT)))) {
+                return false;
+            }
+
+            List<String> logTopics = log.getTopics();
+            for (int i = 0; i < topics.size(); i++) {
+                Set<String> values = topics.get(i);
+                if (values == null) {
+                    continue;
+                }
+                if (logTopics == null
+                        || i >= logTopics.size()
+                        || logTopics.get(i) == null
+                        || !values.contains(logTopics.get(i).toLowerCase(Locale.ROOT))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void backfill(Flowable<Log> pastLogs) {
+            backfill =
+                    pastLogs.subscribe(
+                            log -> {
+                                if (matches(log)) {
+                                    callback.onEvent(log);
+                                }
+                            },
+                            this::fail,
+                            this::finishBackfill);
+            if (cancelled) {
+                disposeBackfill();
+            }
+        }
+
+        /** Deliver the logs held back during the backfill, then deliver new logs directly. */
+        private void finishBackfill() {
+            while (true) {
+                List<Log> logs;
+                synchronized (this) {
+                    if (pending.isEmpty()) {
+                        pending = null;
+                        return;
+                    }
+                    logs = pending;
+                    pending = new ArrayList<>();
+                }
+                for (Log log : logs) {
+                    callback.onEvent(log);
+                }
+            }
+        }
+
+        private void deliver(Log log) {
+            synchronized (this) {
+                if (pending != null) {
+                    pending.add(log);
+                    return;
+                }
+            }
+            callback.onEvent(log);
+        }
+
+        private void fail(Throwable error) {
+            if (!cancelled) {
+                cancel();
+                onError.onEvent(error);
+            }
+        }
+
+        private void disposeBackfill() {
+            cancelled = true;
+            Disposable disposable = backfill;
+            if (disposable != null) {
+                disposable.dispose();
+            }
+        }
+
+        /** Stop receiving logs for this subscription. */
+        public void cancel() {
+            disposeBackfill();
+            remove(this);
+        }
+    }
+
+    private static Long initialBlock(DefaultBlockParameter fromBlock) {
+        if (fromBlock instanceof DefaultBlockParameterNumber) {
+            return ((DefaultBlockParameterNumber) fromBlock).getBlockNumber().longValueExact();
+        } else if (fromBlock == DefaultBlockParameterName.EARLIEST) {
+            return 0L;
+        }
+        return null;
+    }
+
+    /** Values matched at a topic position, or null if any value is matched. */
+    private static Set<String> topicValues(FilterTopic<?> topic) {
+        Object value = topic.getValue();
+        if (topic instanceof ListTopic) {
+            List<String> values = new ArrayList<>();
+            for (SingleTopic single : ((ListTopic) topic).getValue()) {
+                if (single.getValue() == null) {
+                    return null;
+                }
+                values.add(single.getValue());
+            }
+            return normalize(values);
+        } else if (value instanceof String) {
+            return normalize(Collections.singletonList((String) value));
+        }
+        return null;
+    }
+
+    private static Set<String> normalize(List<String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String value : values) {
+            normalized.add(value.toLowerCase(Locale.ROOT));
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.filters;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.RpcErrors;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+/**
+ * Scans a block range for logs, splitting the range into chunks which are requested with {@code
+ * eth_getLogs}.
+ *
+ * <p>The chunk size adapts to the node: if a request fails because it returned too many results,
+ * covered too many blocks or timed out, the chunk is split in half and the chunk size is halved. If
+ * a chunk returns fewer than half the target number of results, the chunk size is doubled, up to a
+ * maximum.
+ *
+ * <p>Up to {@code parallelism} chunks are fetched at a time, and no more than that are fetched
+ * ahead of the subscriber. Logs are emitted in block and log index order, and a checkpoint callback
+ * is invoked with the last block of each chunk once all of its logs have been emitted, so an
+ * interrupted scan can be resumed from the following block.
+ */
+public class LogScanner {
+
+    private static final Logger log = LoggerFactory.getLogger(LogScanner.class);
+
+    public static final int DEFAULT_INITIAL_CHUNK_SIZE = 2_000;
+    public static final int DEFAULT_MAX_CHUNK_SIZE = 100_000;
+    public static final int DEFAULT_PARALLELISM = 4;
+    public static final int DEFAULT_TARGET_RESULTS = 5_000;
+
+    private static final Pattern RANGE_TOO_LARGE_PATTERN =
+            Pattern.compile(
+                    "(?i)(more than \\d+ results|too many|response size|block range"
+                            + "|range too (large|wide)|limit exceeded|timed? ?out)");
+
+    private static final Comparator<Log> LOG_ORDER =
+            Comparator.comparing(Log::getBlockNumber).thenComparing(Log::getLogIndex);
+
+    private final Web3j web3j;
+    private final long initialChunkSize;
+    private final long maxChunkSize;
+    private final int parallelism;
+    private final int targetResults;
+
+    public LogScanner(Web3j web3j) {
+        this(
+                web3j,
+                DEFAULT_INITIAL_CHUNK_SIZE,
+                DEFAULT_MAX_CHUNK_SIZE,
+                DEFAULT_PARALLELISM,
+                DEFAULT_TARGET_RESULTS);
+    }
+
+    /**
+     * Create a log scanner.
+     *
+     * @param web3j web3j instance to request logs from
+     * @param initialChunkSize number of blocks requested at a time to begin with
+     * @param maxChunkSize maximum number of blocks requested at a time
+     * @param parallelism maximum number of requests in flight
+     * @param targetResults number of logs per request the chunk size is adjusted for
+     */
+    public LogScanner(
+            Web3j web3j,
+            long initialChunkSize,
+            long maxChunkSize,
+            int parallelism,
+            int targetResults) {
+        if (initialChunkSize < 1 || maxChunkSize < initialChunkSize) {
+            throw new IllegalArgumentException(
+                    "Chunk size must be at least 1 and no more than the maximum chunk size");
+        }
+        if (parallelism < 1 || targetResults < 1) {
+            throw new IllegalArgumentException(
+                    "Parallelism and target results must be greater than zero");
+        }
+        this.web3j = web3j;
+        this.initialChunkSize = initialChunkSize;
+        this.maxChunkSize = maxChunkSize;
+        this.parallelism = parallelism;
+        this.targetResults = targetResults;
+    }
+
+    /**
+     * Scan a block range for logs.
+     *
+     * @param ethFilter address and topic criteria, its block range is ignored
+     * @param fromBlock first block to scan
+     * @param toBlock last block to scan
+     * @return a flowable of matching logs, in block and log index order
+     */
+    public Flowable<Log> scan(EthFilter ethFilter, BigInteger fromBlock, BigInteger toBlock) {
+        return scan(ethFilter, fromBlock, toBlock, blockNumber -> {});
+    }
+
+    /**
+     * Scan a block range for logs, with a callback for resumption.
+     *
+     * @param ethFilter address and topic criteria, its block range is ignored
+     * @param fromBlock first block to scan
+     * @param toBlock last block to scan
+     * @param checkpoint invoked with the last block scanned, once all logs up to and including that
+     *     block have been emitted
+     * @return a flowable of matching logs, in block and log index order
+     */
+    public Flowable<Log> scan(
+            EthFilter ethFilter,
+            BigInteger fromBlock,
+            BigInteger toBlock,
+            Callback<BigInteger> checkpoint) {
+        if (ethFilter.getBlockHash() != null) {
+            return Flowable.error(
+                    new IllegalArgumentException("Block hash filters cannot be scanned"));
+        }
+        long from = fromBlock.longValueExact();
+        long to = toBlock.longValueExact();
+        AtomicLong chunkSize = new AtomicLong(initialChunkSize);
+
+        Flowable<long[]> chunks =
+                Flowable.generate(
+                        () -> from,
+                        (next, emitter) -> {
+                            if (next > to) {
+                                emitter.onComplete();
+                                return next;
+                            }
+                            long end = Math.min(to, next + chunkSize.get() - 1);
+                            emitter.onNext(new long[] {next, end});
+                            return end + 1;
+                        });
+
+        return chunks.concatMapEager(
+                        chunk ->
+                                fromFuture(
+                                        () -> fetch(ethFilter, chunk[0], chunk[1], chunkSize),
+                                        chunk),
+                        parallelism,
+                        1)
+                .concatMap(
+                        chunk ->
+                                Flowable.fromIterable(chunk.logs)
+                                        .doOnComplete(
+                                                () ->
+                                                        checkpoint.onEvent(
+                                                                BigInteger.valueOf(chunk.to))));
+    }
+
+    private CompletableFuture<List<Log>> fetch(
+            EthFilter ethFilter, long from, long to, AtomicLong chunkSize) {
+        return web3j.ethGetLogs(rangeFilter(ethFilter, from, to))
+                .sendAsync()
+                .handle(
+                        (ethLog, throwable) -> {
+                            Throwable cause =
+                                    throwable instanceof CompletionException
+                                                    && throwable.getCause() != null
+                                            ? throwable.getCause()
+                                            : throwable;
+                            if (cause == null && !ethLog.hasError()) {
+                                List<Log> logs = toLogs(ethLog);
+                                if (logs.size() < targetResults / 2) {
+                                    chunkSize.accumulateAndGet(
+                                            (to - from + 1) * 2,
+                                            (current, grown) ->
+                                                    Math.max(
+                                                            current,
+                                                            Math.min(maxChunkSize, grown)));
+                                }
+                                return CompletableFuture.completedFuture(logs);
+                            }
+
+                            if (to > from && isRangeTooLarge(ethLog, cause)) {
+                                long half = (to - from + 1) / 2;
+                                chunkSize.accumulateAndGet(
+                                        half, (current, shrunk) -> Math.min(current, shrunk));
+                                log.debug("Splitting log request for blocks {} to {}", from, to);
+                                long mid = from + half - 1;
+                                return fetch(ethFilter, from, mid, chunkSize)
+                                        .thenCompose(
+                                                first ->
+                                                        fetch(ethFilter, mid + 1, to, chunkSize)
+                                                                .thenApply(
+                                                                        second ->
+                                                                                concat(
+                                                                                        first,
+                                                                                        second)));
+                            }
+
+                            CompletableFuture<List<Log>> failed = new CompletableFuture<>();
+                            failed.completeExceptionally(
+                                    cause != null
+                                            ? cause
+                                            : new FilterException(
+                                                    "Invalid request: "
+                                                            + ethLog.getError().getMessage()));
+                            return failed;
+                        })
+                .thenCompose(future -> future);
+    }
+
+    static boolean isRangeTooLarge(EthLog ethLog, Throwable cause) {
+        if (cause != null) {
+            return cause instanceof SocketTimeoutException
+                    || (cause instanceof IOException
+                            && cause.getMessage() != null
+                            && RANGE_TOO_LARGE_PATTERN.matcher(cause.getMessage()).find());
+        }
+        Response.Error error = ethLog.getError();
+        return error.getCode() == RpcErrors.LIMIT_EXCEEDED
+                || (error.getMessage() != null
+                        && RANGE_TOO_LARGE_PATTERN.matcher(error.getMessage()).find());
+    }
+
+    private static EthFilter rangeFilter(EthFilter ethFilter, long from, long to) {
+        EthFilter range =
+                new EthFilter(
+                        DefaultBlockParameter.valueOf(BigInteger.valueOf(from)),
+                        DefaultBlockParameter.valueOf(BigInteger.valueOf(to)),
+                        ethFilter.getAddress());
+        range.getTopics().addAll(ethFilter.getTopics());
+        return range;
+    }
+
+    private static List<Log> toLogs(EthLog ethLog) {
+        List<Log> logs = new ArrayList<>(ethLog.getLogs().size());
+        for (EthLog.LogResult<?> logResult : ethLog.getLogs()) {
+            if (!(logResult instanceof EthLog.LogObject)) {
+                throw new FilterException(
+                        "Unexpected result type: " + logResult.get() + " required LogObject");
+            }
+            logs.add(((EthLog.LogObject) logResult).get());
+        }
+        logs.sort(LOG_ORDER);
+        return logs;
+    }
+
+    private static List<Log> concat(List<Log> first, List<Log> second) {
+        List<Log> logs = new ArrayList<>(first.size() + second.size());
+        logs.addAll(first);
+        logs.addAll(second);
+        return logs;
+    }
+
+    private static Flowable<Chunk> fromFuture(
+            Callable<CompletableFuture<List<Log>>> futureSupplier, long[] range) {
+        return Flowable.create(
+                emitter -> {
+                    CompletableFuture<List<Log>> future = futureSupplier.call();
+                    emitter.setCancellable(() -> future.cancel(false));
+                    future.whenComplete(
+                            (logs, throwable) -> {
+                                if (throwable != null) {
+                                    emitter.onError(
+                                            throwable instanceof CompletionException
+                                                            && throwable.getCause() != null
+                                                    ? throwable.getCause()
+                                                    : throwable);
+                                } else {
+                                    emitter.onNext(new Chunk(range[1], logs));
+                                    emitter.onComplete();
+                                }
+                            });
+                },
+                BackpressureStrategy.BUFFER);
+    }
+
+    /** The logs of a scanned range of blocks. */
+    private static final class Chunk {
+        private final long to;
+        private final List<Log> logs;
+
+        Chunk(long to, List<Log> logs) {
+            this.to = to;
+            this.logs = logs;
+        }
+    }
+}
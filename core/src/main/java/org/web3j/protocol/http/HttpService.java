@@ -13,13 +13,19 @@
 package org.web3j.protocol.http;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.CipherSuite;
 import okhttp3.ConnectionSpec;
 import okhttp3.Headers;
@@ -32,7 +38,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.web3j.protocol.Service;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
 import org.web3j.protocol.exceptions.ClientConnectionException;
+import org.web3j.protocol.exceptions.RateLimitExceededException;
+import org.web3j.protocol.exceptions.ResponseTooLargeException;
 
 import static okhttp3.ConnectionSpec.CLEARTEXT;
 
@@ -86,6 +98,8 @@ public class HttpService extends Service {
 
     public static final String DEFAULT_URL = "http://localhost:8545/";
 
+    private static final int HTTP_TOO_MANY_REQUESTS = 429;
+
     private static final Logger log = LoggerFactory.getLogger(HttpService.class);
 
     private OkHttpClient httpClient;
@@ -94,10 +108,17 @@ public class HttpService extends Service {
 
     private HashMap<String, String> headers = new HashMap<>();
 
+    private final boolean includeRawResponses;
+
+    private boolean streamResponses = false;
+
+    private long maxResponseBodySize = -1;
+
     public HttpService(String url, OkHttpClient httpClient, boolean includeRawResponses) {
         super(includeRawResponses);
         this.url = url;
         this.httpClient = httpClient;
+        this.includeRawResponses = includeRawResponses;
     }
 
     public HttpService(OkHttpClient httpClient, boolean includeRawResponses) {
@@ -149,18 +170,88 @@ public class HttpService extends Service {
 
     @Override
     protected InputStream performIO(String request) throws IOException {
+        okhttp3.Response response = httpClient.newCall(buildHttpRequest(request)).execute();
+        return processResponse(response);
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        return performAsyncIO(request, result -> readResponse(result, responseType));
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        if (batchRequest.getRequests().isEmpty()) {
+            return CompletableFuture.completedFuture(
+                    new BatchResponse(Collections.emptyList(), Collections.emptyList()));
+        }
+        return performAsyncIO(
+                batchRequest.getRequests(), result -> readBatchResponse(batchRequest, result));
+    }
+
+    /**
+     * Perform a request without blocking the calling thread. The request is queued on the OkHttp
+     * {@link okhttp3.Dispatcher}, which bounds the number of requests in flight, and the returned
+     * future is completed from its callback.
+     */
+    private <R> CompletableFuture<R> performAsyncIO(Object request, ResponseReader<R> reader) {
+        CompletableFuture<R> result = new CompletableFuture<>();
+
+        Call call;
+        try {
+            call = httpClient.newCall(buildHttpRequest(objectMapper.writeValueAsString(request)));
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+
+        call.enqueue(
+                new Callback() {
+                    @Override
+                    public void onFailure(Call call, IOException e) {
+                        result.completeExceptionally(e);
+                    }
+
+                    @Override
+                    public void onResponse(Call call, okhttp3.Response response) {
+                        try (InputStream inputStream = processResponse(response)) {
+                            result.complete(inputStream == null ? null : reader.read(inputStream));
+                        } catch (Throwable e) {
+                            result.completeExceptionally(e);
+                        }
+                    }
+                });
+
+        result.whenComplete(
+                (value, throwable) -> {
+                    if (result.isCancelled()) {
+                        call.cancel();
+                    }
+                });
+        return result;
+    }
 
+    private okhttp3.Request buildHttpRequest(String request) {
         RequestBody requestBody = RequestBody.create(request, JSON_MEDIA_TYPE);
         Headers headers = buildHeaders();
 
-        okhttp3.Request httpRequest =
-                new okhttp3.Request.Builder().url(url).headers(headers).post(requestBody).build();
+        return new okhttp3.Request.Builder().url(url).headers(headers).post(requestBody).build();
+    }
 
-        try (okhttp3.Response response = httpClient.newCall(httpRequest).execute()) {
+    private InputStream processResponse(okhttp3.Response response) throws IOException {
+        boolean streaming = false;
+        try {
             processHeaders(response.headers());
             ResponseBody responseBody = response.body();
             if (response.isSuccessful()) {
                 if (responseBody != null) {
+                    checkContentLength(responseBody);
+                    // raw responses are read again once deserialized, which needs the whole body
+                    if (streamResponses && !includeRawResponses) {
+                        streaming = true;
+                        return new ResponseBodyInputStream(response, responseBody);
+                    }
                     return buildInputStream(responseBody);
                 } else {
                     return null;
@@ -169,9 +260,30 @@ public class HttpService extends Service {
                 int code = response.code();
                 String text = responseBody == null ? "N/A" : responseBody.string();
 
+                if (code == HTTP_TOO_MANY_REQUESTS) {
+                    throw new RateLimitExceededException(
+                            "Invalid response received: " + code + "; " + text,
+                            parseRetryAfter(response.header("Retry-After")));
+                }
                 throw new ClientConnectionException(
                         "Invalid response received: " + code + "; " + text);
             }
+        } finally {
+            if (!streaming) {
+                response.close();
+            }
+        }
+    }
+
+    private static Duration parseRetryAfter(String retryAfter) {
+        // only the delay in seconds form of the header is supported
+        if (retryAfter == null) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        } catch (NumberFormatException e) {
+            return null;
         }
     }
 
@@ -180,7 +292,24 @@ public class HttpService extends Service {
     }
 
     private InputStream buildInputStream(ResponseBody responseBody) throws IOException {
-        return new ByteArrayInputStream(responseBody.bytes());
+        if (maxResponseBodySize < 0) {
+            return new ByteArrayInputStream(responseBody.bytes());
+        }
+        try (InputStream inputStream = new BoundedInputStream(responseBody.byteStream())) {
+            return new ByteArrayInputStream(inputStream.readAllBytes());
+        }
+    }
+
+    private void checkContentLength(ResponseBody responseBody) throws IOException {
+        long contentLength = responseBody.contentLength();
+        if (maxResponseBodySize >= 0 && contentLength > maxResponseBodySize) {
+            throw new ResponseTooLargeException(
+                    "Response body of "
+                            + contentLength
+                            + " bytes exceeds maximum of "
+                            + maxResponseBodySize
+                            + " bytes");
+        }
     }
 
     private Headers buildHeaders() {
@@ -203,6 +332,110 @@ public class HttpService extends Service {
         return url;
     }
 
+    public boolean isStreamResponses() {
+        return streamResponses;
+    }
+
+    /**
+     * Enables or disables streaming of response bodies.
+     *
+     * <p>When enabled, responses are deserialized directly from the underlying connection as they
+     * arrive, rather than being buffered in memory first. This reduces peak heap usage for large
+     * responses such as full blocks, traces or log queries.
+     *
+     * <p>Responses are still buffered if this service includes raw responses, as the whole body is
+     * needed to provide them.
+     *
+     * @param streamResponses true to stream responses, false to buffer them (default)
+     */
+    public void setStreamResponses(boolean streamResponses) {
+        this.streamResponses = streamResponses;
+    }
+
+    public long getMaxResponseBodySize() {
+        return maxResponseBodySize;
+    }
+
+    /**
+     * Sets the maximum number of bytes accepted in a response body. Responses exceeding this limit
+     * fail with a {@link ResponseTooLargeException}.
+     *
+     * @param maxResponseBodySize the maximum response size in bytes, or a negative value for no
+     *     limit (default)
+     */
+    public void setMaxResponseBodySize(long maxResponseBodySize) {
+        this.maxResponseBodySize = maxResponseBodySize;
+    }
+
     @Override
     public void close() throws IOException {}
+
+    @FunctionalInterface
+    private interface ResponseReader<R> {
+        R read(InputStream result) throws IOException;
+    }
+
+    /** Input stream which fails once more than the maximum response body size has been read. */
+    private class BoundedInputStream extends FilterInputStream {
+
+        private final long limit = maxResponseBodySize;
+        private long count = 0;
+
+        private BoundedInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int result = super.read();
+            if (result != -1) {
+                count(1);
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int result = super.read(b, off, len);
+            if (result != -1) {
+                count(result);
+            }
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long result = super.skip(n);
+            count(result);
+            return result;
+        }
+
+        private void count(long bytesRead) throws IOException {
+            count += bytesRead;
+            if (limit >= 0 && count > limit) {
+                throw new ResponseTooLargeException(
+                        "Response body exceeds maximum of " + limit + " bytes");
+            }
+        }
+    }
+
+    /** Streams a response body, releasing the underlying connection once closed. */
+    private class ResponseBodyInputStream extends BoundedInputStream {
+
+        private final okhttp3.Response response;
+
+        private ResponseBodyInputStream(okhttp3.Response response, ResponseBody responseBody) {
+            super(responseBody.byteStream());
+            this.response = response;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                response.close();
+            }
+        }
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ipc;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Splits a stream of bytes into complete JSON objects or arrays.
+ *
+ * <p>Nodes write JSON-RPC messages back to back on an IPC socket, with or without a separating new
+ * line, and a single read may contain part of a message or several messages. The framer tracks the
+ * nesting depth of the stream outside of strings, and hands over each message as soon as its
+ * closing bracket has been read. Multi-byte UTF-8 sequences never contain ASCII bytes, so the
+ * stream does not need to be decoded.
+ */
+final class JsonMessageFramer {
+
+    /** Receives complete messages. The bytes are only valid for the duration of the call. */
+    interface MessageHandler {
+        void onMessage(byte[] bytes, int offset, int length) throws IOException;
+    }
+
+    private static final int INITIAL_CAPACITY = 8192;
+
+    private byte[] buffer = new byte[INITIAL_CAPACITY];
+    private int length;
+    private int position;
+
+    private int messageStart = -1;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    /**
+     * Consume the remaining bytes of a buffer.
+     *
+     * @param input bytes read from the stream
+     * @param handler handler to call with each message completed by the input
+     * @throws IOException if the stream contains anything other than JSON objects or arrays, or
+     *     thrown by the handler
+     */
+    void feed(ByteBuffer input, MessageHandler handler) throws IOException {
+        int remaining = input.remaining();
+        if (length + remaining > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + remaining));
+        }
+        input.get(buffer, length, remaining);
+        length += remaining;
+
+        for (; position < length; position++) {
+            byte b = buffer[position];
+            if (messageStart < 0) {
+                if (b == '{' || b == '[') {
+                    messageStart = position;
+                    depth = 1;
+                } else if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                    throw new IOException("Unexpected character between JSON messages: " + b);
+                }
+            } else if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if ((b == '}' || b == ']') && --depth == 0) {
+                int start = messageStart;
+                messageStart = -1;
+                handler.onMessage(buffer, start, position + 1 - start);
+            }
+        }
+
+        // keep only the start of an incomplete message
+        int keep = messageStart < 0 ? position : messageStart;
+        System.arraycopy(buffer, keep, buffer, 0, length - keep);
+        length -= keep;
+        position -= keep;
+        if (messageStart >= 0) {
+            messageStart -= keep;
+        }
+    }
+}
@@ -0,0 +1,517 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ipc;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.reactivex.BackpressureStrategy;
+import io.reactivex.Flowable;
+import io.reactivex.subjects.BehaviorSubject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.DefaultIdProvider;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.core.methods.response.EthUnsubscribe;
+import org.web3j.protocol.websocket.events.Notification;
+
+/**
+ * Unix domain socket service which keeps a single connection open and multiplexes requests over it.
+ *
+ * <p>Unlike {@link UnixIpcService}, which opens a socket per request and waits for its reply,
+ * requests are written to a long-lived {@link SocketChannel} as soon as they are sent, and a
+ * dedicated reader thread matches replies to requests by their JSON-RPC id. Any number of requests
+ * can therefore be in flight at once, and replies are delivered in whatever order the node sends
+ * them. Replies are parsed straight from the bytes read from the socket.
+ *
+ * <p>Subscriptions are supported over the same connection, as with {@link
+ * org.web3j.protocol.websocket.WebSocketService}.
+ *
+ * <p>The connection is opened on the first request, or by {@link #connect()}. If it is closed by
+ * the node, outstanding requests and subscriptions fail, and the next request opens a new
+ * connection. Requires the {@link StandardProtocolFamily#UNIX} socket support of Java 16 or later.
+ */
+public class UnixIpcChannelService implements Web3jService {
+
+    private static final Logger log = LoggerFactory.getLogger(UnixIpcChannelService.class);
+
+    // Timeout for JSON-RPC requests
+    static final long REQUEST_TIMEOUT = 60;
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    private final UnixDomainSocketAddress address;
+    // Executor to schedule request timeouts
+    private final ScheduledExecutorService executor;
+    private final ObjectMapper objectMapper;
+
+    private final Object writeLock = new Object();
+    private volatile SocketChannel channel;
+    private volatile boolean closed;
+
+    // Map of a sent request id to the caller waiting for its reply
+    private final Map<Long, PendingRequest> requestForId = new ConcurrentHashMap<>();
+    // Map of a sent subscription request id to the subscription it creates
+    private final Map<Long, IpcSubscription<?>> subscriptionRequestForId =
+            new ConcurrentHashMap<>();
+    // Map of a subscription id to the subscription receiving its events
+    private final Map<String, IpcSubscription<?>> subscriptionForId = new ConcurrentHashMap<>();
+
+    public UnixIpcChannelService(String ipcSocketPath) {
+        this(ipcSocketPath, false);
+    }
+
+    public UnixIpcChannelService(String ipcSocketPath, boolean includeRawResponses) {
+        this(ipcSocketPath, Executors.newScheduledThreadPool(1), includeRawResponses);
+    }
+
+    UnixIpcChannelService(
+            String ipcSocketPath, ScheduledExecutorService executor, boolean includeRawResponses) {
+        this.address = UnixDomainSocketAddress.of(ipcSocketPath);
+        this.executor = executor;
+        this.objectMapper = ObjectMapperFactory.getObjectMapper(includeRawResponses);
+    }
+
+    /**
+     * Connect to the node, unless already connected.
+     *
+     * @throws IOException thrown if failed to connect to the socket
+     */
+    public void connect() throws IOException {
+        getChannel();
+    }
+
+    private SocketChannel getChannel() throws IOException {
+        SocketChannel current = channel;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (closed) {
+                throw new IOException("Service is closed");
+            }
+            if (channel == null) {
+                SocketChannel opened = SocketChannel.open(StandardProtocolFamily.UNIX);
+                try {
+                    opened.connect(address);
+                } catch (IOException e) {
+                    opened.close();
+                    throw new IOException("Provided file socket cannot be opened: " + address, e);
+                }
+
+                Thread reader = new Thread(() -> readMessages(opened), "web3j-ipc-reader");
+                reader.setDaemon(true);
+                reader.start();
+                channel = opened;
+            }
+            return channel;
+        }
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        return get(sendAsync(request, responseType), "Interrupted IPC request");
+    }
+
+    @Override
+    public <T extends Response> CompletableFuture<T> sendAsync(
+            Request request, Class<T> responseType) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long requestId = request.getId();
+        PendingRequest pending = new PendingRequest(result, responseType, null, requestId);
+        try {
+            sendMessage(requestId, pending, objectMapper.writeValueAsBytes(request));
+        } catch (IOException e) {
+            closeRequest(requestId, pending, e);
+        }
+        return result;
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        return get(sendBatchAsync(batchRequest), "Interrupted IPC batch requests");
+    }
+
+    @Override
+    public CompletableFuture<BatchResponse> sendBatchAsync(BatchRequest batchRequest) {
+        CompletableFuture<BatchResponse> result = new CompletableFuture<>();
+        List<Request<?, ? extends Response<?>>> requests = batchRequest.getRequests();
+
+        // the batch is identified by a fresh id on its first element, as the ids of the requests
+        // in a batch may have been chosen by the caller
+        long requestId = DefaultIdProvider.getNextId();
+        Request<?, ? extends Response<?>> first = requests.get(0);
+        long originId = first.getId();
+        PendingRequest pending =
+                new PendingRequest(result, BatchResponse.class, requests, originId);
+        try {
+            byte[] payload;
+            first.setId(requestId);
+            try {
+                payload = objectMapper.writeValueAsBytes(requests);
+            } finally {
+                first.setId(originId);
+            }
+            sendMessage(requestId, pending, payload);
+        } catch (IOException e) {
+            closeRequest(requestId, pending, e);
+        }
+        return result;
+    }
+
+    private void sendMessage(long requestId, PendingRequest pending, byte[] payload)
+            throws IOException {
+        if (log.isDebugEnabled()) {
+            log.debug(">> {}", new String(payload, StandardCharsets.UTF_8));
+        }
+
+        SocketChannel socketChannel = getChannel();
+        pending.channel = socketChannel;
+        requestForId.put(requestId, pending);
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        synchronized (writeLock) {
+            while (buffer.hasRemaining()) {
+                socketChannel.write(buffer);
+            }
+        }
+
+        pending.timeout =
+                executor.schedule(
+                        () ->
+                                closeRequest(
+                                        requestId,
+                                        pending,
+                                        new IOException(
+                                                String.format(
+                                                        "Request with id %d timed out",
+                                                        requestId))),
+                        REQUEST_TIMEOUT,
+                        TimeUnit.SECONDS);
+    }
+
+    private void closeRequest(long requestId, PendingRequest pending, Exception e) {
+        requestForId.remove(requestId, pending);
+        pending.onReply.completeExceptionally(e);
+    }
+
+    private static <T> T get(CompletableFuture<T> future, String interruptedMessage)
+            throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(interruptedMessage, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+
+            throw new RuntimeException("Unexpected exception", e.getCause());
+        }
+    }
+
+    private void readMessages(SocketChannel socketChannel) {
+        ByteBuffer buffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+        JsonMessageFramer framer = new JsonMessageFramer();
+        IOException cause = new IOException("Connection was closed");
+        try {
+            while (socketChannel.read(buffer) >= 0) {
+                buffer.flip();
+                framer.feed(buffer, this::onMessage);
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                log.error("IPC connection to {} failed", address, e);
+                cause = new IOException("Connection was closed", e);
+            }
+        } finally {
+            onConnectionClosed(socketChannel, cause);
+        }
+    }
+
+    void onMessage(byte[] bytes, int offset, int length) {
+        try {
+            JsonNode message = objectMapper.readTree(bytes, offset, length);
+            if (message.isArray()) {
+                processBatchReply(message);
+            } else if (message.has("id")) {
+                processReply(message);
+            } else if (message.has("method")) {
+                processSubscriptionEvent(message);
+            } else {
+                log.warn("Ignoring IPC message of unknown type");
+            }
+        } catch (Exception e) {
+            log.error("Failed to process IPC message", e);
+        }
+    }
+
+    private void processReply(JsonNode reply) throws IOException {
+        long replyId = reply.get("id").asLong();
+        PendingRequest pending = takeRequest(replyId);
+        if (pending == null) {
+            return;
+        }
+
+        try {
+            Object response = objectMapper.treeToValue(reply, pending.responseType);
+            // subscriptions are registered before the caller is notified, so that no event for
+            // the subscription can be processed before it is known
+            if (response instanceof EthSubscribe) {
+                processSubscriptionReply(replyId, (EthSubscribe) response);
+            }
+            pending.complete(response);
+        } catch (IOException | RuntimeException e) {
+            pending.onReply.completeExceptionally(
+                    new IOException(
+                            String.format("Failed to parse reply as type %s", pending.responseType),
+                            e));
+        }
+    }
+
+    private void processBatchReply(JsonNode replies) {
+        // replies to a batch may be in any order, so look for the one identifying the batch
+        Map<Long, JsonNode> replyForId = new HashMap<>();
+        long batchId = -1;
+        for (JsonNode reply : replies) {
+            long id = reply.path("id").asLong(-1);
+            replyForId.put(id, reply);
+            PendingRequest candidate = requestForId.get(id);
+            if (candidate != null && candidate.requests != null) {
+                batchId = id;
+            }
+        }
+
+        PendingRequest pending = takeRequest(batchId);
+        if (pending == null) {
+            return;
+        }
+
+        try {
+            List<Request<?, ? extends Response<?>>> requests = pending.requests;
+            List<Response<?>> responses = new ArrayList<>(requests.size());
+            for (int i = 0; i < requests.size(); i++) {
+                JsonNode reply =
+                        i == 0 ? replyForId.get(batchId) : replyForId.get(requests.get(i).getId());
+                if (reply == null) {
+                    reply = replies.get(i);
+                }
+                if (i == 0) {
+                    ((ObjectNode) reply).put("id", pending.originId);
+                }
+                responses.add(objectMapper.treeToValue(reply, requests.get(i).getResponseType()));
+            }
+            pending.complete(new BatchResponse(requests, responses));
+        } catch (IOException | RuntimeException e) {
+            pending.onReply.completeExceptionally(
+                    new IOException("Failed to parse batch reply", e));
+        }
+    }
+
+    private PendingRequest takeRequest(long replyId) {
+        PendingRequest pending = requestForId.remove(replyId);
+        if (pending == null) {
+            log.warn("Received reply for unexpected request id: {}", replyId);
+            return null;
+        }
+        if (pending.timeout != null) {
+            pending.timeout.cancel(false);
+        }
+        return pending;
+    }
+
+    private void processSubscriptionReply(long replyId, EthSubscribe reply) {
+        IpcSubscription<?> subscription = subscriptionRequestForId.remove(replyId);
+        if (subscription == null) {
+            return;
+        }
+
+        if (reply.hasError()) {
+            log.error("Subscription request returned error: {}", reply.getError().getMessage());
+            subscription.subject.onError(
+                    new IOException(
+                            String.format(
+                                    "Subscription request failed with error: %s",
+                                    reply.getError().getMessage())));
+        } else {
+            log.debug("Subscribed to RPC events with id {}", reply.getSubscriptionId());
+            subscription.subscriptionId = reply.getSubscriptionId();
+            subscriptionForId.put(reply.getSubscriptionId(), subscription);
+        }
+    }
+
+    private void processSubscriptionEvent(JsonNode event) {
+        String subscriptionId = event.path("params").path("subscription").asText();
+        IpcSubscription<?> subscription = subscriptionForId.get(subscriptionId);
+        if (subscription != null) {
+            subscription.onEvent(objectMapper, event);
+        } else {
+            log.warn("No subscriber for IPC event with subscription id {}", subscriptionId);
+        }
+    }
+
+    private void onConnectionClosed(SocketChannel socketChannel, IOException cause) {
+        synchronized (this) {
+            if (channel == socketChannel) {
+                channel = null;
+            }
+        }
+        try {
+            socketChannel.close();
+        } catch (IOException e) {
+            log.debug("Failed to close IPC connection", e);
+        }
+
+        requestForId.forEach(
+                (requestId, pending) -> {
+                    if (pending.channel == socketChannel) {
+                        closeRequest(requestId, pending, cause);
+                    }
+                });
+        subscriptionRequestForId.clear();
+        subscriptionForId.values().forEach(subscription -> subscription.subject.onError(cause));
+        subscriptionForId.clear();
+    }
+
+    @Override
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request, String unsubscribeMethod, Class<T> responseType) {
+        // a BehaviorSubject preserves an error raised before the caller subscribes
+        BehaviorSubject<T> subject = BehaviorSubject.create();
+        IpcSubscription<T> subscription = new IpcSubscription<>(subject, responseType);
+
+        // subscribe synchronously, so that the subscription id is known before the caller can
+        // unsubscribe
+        subscriptionRequestForId.put(request.getId(), subscription);
+        try {
+            send(request, EthSubscribe.class);
+        } catch (IOException e) {
+            log.error("Failed to subscribe to RPC events with request id {}", request.getId());
+            subject.onError(e);
+        } finally {
+            subscriptionRequestForId.remove(request.getId());
+        }
+
+        return subject.doOnDispose(() -> closeSubscription(subscription, unsubscribeMethod))
+                .toFlowable(BackpressureStrategy.BUFFER);
+    }
+
+    private void closeSubscription(IpcSubscription<?> subscription, String unsubscribeMethod) {
+        String subscriptionId = subscription.subscriptionId;
+        if (subscriptionId == null || !subscriptionForId.remove(subscriptionId, subscription)) {
+            return;
+        }
+
+        sendAsync(
+                        new Request<>(
+                                unsubscribeMethod,
+                                Collections.singletonList(subscriptionId),
+                                this,
+                                EthUnsubscribe.class),
+                        EthUnsubscribe.class)
+                .exceptionally(
+                        throwable -> {
+                            log.error(
+                                    "Failed to unsubscribe from subscription with id {}",
+                                    subscriptionId);
+                            return null;
+                        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        SocketChannel current;
+        synchronized (this) {
+            closed = true;
+            current = channel;
+        }
+        if (current != null) {
+            // the reader thread fails outstanding requests once the channel is closed
+            current.close();
+        }
+        executor.shutdown();
+    }
+
+    // Method visible for unit-tests
+    boolean isWaitingForReply(long requestId) {
+        return requestForId.containsKey(requestId);
+    }
+
+    private static class PendingRequest {
+        private final CompletableFuture onReply;
+        private final Class<?> responseType;
+        private final List<Request<?, ? extends Response<?>>> requests;
+        private final long originId;
+        private volatile SocketChannel channel;
+        private volatile ScheduledFuture<?> timeout;
+
+        PendingRequest(
+                CompletableFuture<?> onReply,
+                Class<?> responseType,
+                List<Request<?, ? extends Response<?>>> requests,
+                long originId) {
+            this.onReply = onReply;
+            this.responseType = responseType;
+            this.requests = requests;
+            this.originId = originId;
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(Object reply) {
+            onReply.complete(reply);
+        }
+    }
+
+    private static class IpcSubscription<T> {
+        private final BehaviorSubject<T> subject;
+        private final Class<T> responseType;
+        private volatile String subscriptionId;
+
+        IpcSubscription(BehaviorSubject<T> subject, Class<T> responseType) {
+            this.subject = subject;
+            this.responseType = responseType;
+        }
+
+        void onEvent(ObjectMapper objectMapper, JsonNode event) {
+            subject.onNext(objectMapper.convertValue(event, responseType));
+        }
+    }
+}
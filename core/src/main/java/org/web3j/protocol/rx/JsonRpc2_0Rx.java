@@ -14,7 +14,12 @@ package org.web3j.protocol.rx;
 
 import java.io.IOException;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.stream.Collectors;
 
@@ -25,16 +30,22 @@ import io.reactivex.Scheduler;
 import io.reactivex.schedulers.Schedulers;
 
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterName;
 import org.web3j.protocol.core.DefaultBlockParameterNumber;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.filters.BlockFilter;
+import org.web3j.protocol.core.filters.FilterException;
 import org.web3j.protocol.core.filters.LogFilter;
 import org.web3j.protocol.core.filters.PendingTransactionFilter;
+import org.web3j.protocol.core.methods.request.Filter;
 import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
 import org.web3j.protocol.core.methods.response.Log;
 import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.utils.BloomMatcher;
 import org.web3j.utils.Flowables;
 
 /** web3j reactive API implementation. */
@@ -90,6 +101,43 @@ public class JsonRpc2_0Rx {
         emitter.setCancellable(filter::cancel);
     }
 
+    /**
+     * Emit the logs matching a filter from each block, in block order. Logs are only requested for
+     * blocks whose logs bloom may contain a matching log, as per {@link BloomMatcher}.
+     */
+    public Flowable<Log> blockLogsFlowable(
+            Flowable<EthBlock> blocks,
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter) {
+        BloomMatcher matcher = bloomMatcher(ethFilter);
+        return blocks.filter(
+                        ethBlock ->
+                                ethBlock.getBlock() != null
+                                        && matcher.mayMatch(ethBlock.getBlock().getLogsBloom()))
+                .concatMap(
+                        ethBlock ->
+                                fromFuture(
+                                        () ->
+                                                web3j.ethGetLogs(
+                                                                blockFilter(
+                                                                        ethFilter,
+                                                                        ethBlock.getBlock()
+                                                                                .getHash()))
+                                                        .sendAsync()))
+                .concatMapIterable(JsonRpc2_0Rx::toLogs);
+    }
+
+    public Flowable<Log> blockLogFlowable(
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter, long pollingInterval) {
+        return blockLogsFlowable(blockFlowable(false, pollingInterval), ethFilter);
+    }
+
+    public Flowable<Log> replayPastBlockLogsFlowable(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter) {
+        return blockLogsFlowable(replayBlocksFlowable(startBlock, endBlock, false), ethFilter);
+    }
+
     public Flowable<Transaction> transactionFlowable(long pollingInterval) {
         return blockFlowable(true, pollingInterval).flatMapIterable(JsonRpc2_0Rx::toTransactions);
     }
@@ -129,6 +177,30 @@ public class JsonRpc2_0Rx {
                 .subscribeOn(scheduler);
     }
 
+    /**
+     * Replay blocks with bounded concurrency. Up to {@code parallelism} requests are in flight at
+     * any time, each fetching {@code batchSize} consecutive blocks in a single JSON-RPC batch.
+     * Blocks are emitted in the same order as {@link #replayBlocksFlowable(DefaultBlockParameter,
+     * DefaultBlockParameter, boolean, boolean)}, and no more than {@code parallelism} chunks are
+     * fetched ahead of the subscriber.
+     */
+    public Flowable<EthBlock> replayBlocksFlowable(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            boolean fullTransactionObjects,
+            boolean ascending,
+            int parallelism,
+            int batchSize) {
+        return replayBlocksFlowableSync(
+                        startBlock,
+                        endBlock,
+                        fullTransactionObjects,
+                        ascending,
+                        parallelism,
+                        batchSize)
+                .subscribeOn(scheduler);
+    }
+
     private Flowable<EthBlock> replayBlocksFlowableSync(
             DefaultBlockParameter startBlock,
             DefaultBlockParameter endBlock,
@@ -136,6 +208,88 @@ public class JsonRpc2_0Rx {
         return replayBlocksFlowableSync(startBlock, endBlock, fullTransactionObjects, true);
     }
 
+    private Flowable<EthBlock> replayBlocksFlowableSync(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            boolean containsFullTransactionObjects,
+            boolean isAscending,
+            int parallelism,
+            int batchSize) {
+        if (parallelism < 1 || batchSize < 1) {
+            return Flowable.error(
+                    new IllegalArgumentException(
+                            "Parallelism and batch size must be greater than zero"));
+        }
+
+        BigInteger startBlockNumber;
+        BigInteger endBlockNumber;
+        try {
+            startBlockNumber = getBlockNumber(startBlock);
+            endBlockNumber = getBlockNumber(endBlock);
+        } catch (IOException e) {
+            return Flowable.error(e);
+        }
+
+        return Flowables.range(startBlockNumber, endBlockNumber, isAscending)
+                .buffer(batchSize)
+                .concatMapEager(
+                        blockNumbers -> fetchBlocks(blockNumbers, containsFullTransactionObjects),
+                        parallelism,
+                        1);
+    }
+
+    private Flowable<EthBlock> fetchBlocks(
+            List<BigInteger> blockNumbers, boolean fullTransactionObjects) {
+        if (blockNumbers.size() == 1) {
+            return fromFuture(
+                    () ->
+                            web3j.ethGetBlockByNumber(
+                                            new DefaultBlockParameterNumber(blockNumbers.get(0)),
+                                            fullTransactionObjects)
+                                    .sendAsync());
+        }
+
+        return fromFuture(
+                        () -> {
+                            BatchRequest batchRequest = web3j.newBatch();
+                            for (BigInteger blockNumber : blockNumbers) {
+                                batchRequest.add(
+                                        web3j.ethGetBlockByNumber(
+                                                new DefaultBlockParameterNumber(blockNumber),
+                                                fullTransactionObjects));
+                            }
+                            return batchRequest.sendAsync();
+                        })
+                .flatMapIterable(BatchResponse::getResponses)
+                .cast(EthBlock.class);
+    }
+
+    /**
+     * Adapt an asynchronous request to a Flowable, without blocking a thread while the request is
+     * in flight.
+     */
+    private static <T> Flowable<T> fromFuture(Callable<CompletableFuture<T>> futureSupplier) {
+        return Flowable.create(
+                emitter -> {
+                    CompletableFuture<T> future = futureSupplier.call();
+                    emitter.setCancellable(() -> future.cancel(false));
+                    future.whenComplete(
+                            (result, throwable) -> {
+                                if (throwable != null) {
+                                    emitter.onError(
+                                            throwable instanceof CompletionException
+                                                            && throwable.getCause() != null
+                                                    ? throwable.getCause()
+                                                    : throwable);
+                                } else {
+                                    emitter.onNext(result);
+                                    emitter.onComplete();
+                                }
+                            });
+                },
+                BackpressureStrategy.BUFFER);
+    }
+
     private Flowable<EthBlock> replayBlocksFlowableSync(
             DefaultBlockParameter startBlock,
             DefaultBlockParameter endBlock,
@@ -177,10 +331,41 @@ public class JsonRpc2_0Rx {
         return replayPastBlocksFlowable(startBlock, fullTransactionObjects, Flowable.empty());
     }
 
+    /**
+     * As per {@link #replayPastBlocksFlowable(DefaultBlockParameter, boolean, Flowable)}, except
+     * that blocks are fetched with bounded concurrency as per {@link
+     * #replayBlocksFlowable(DefaultBlockParameter, DefaultBlockParameter, boolean, boolean, int,
+     * int)}.
+     */
+    public Flowable<EthBlock> replayPastBlocksFlowable(
+            DefaultBlockParameter startBlock,
+            boolean fullTransactionObjects,
+            Flowable<EthBlock> onCompleteFlowable,
+            int parallelism,
+            int batchSize) {
+        return replayPastBlocksFlowableSync(
+                        startBlock,
+                        fullTransactionObjects,
+                        onCompleteFlowable,
+                        parallelism,
+                        batchSize)
+                .subscribeOn(scheduler);
+    }
+
     private Flowable<EthBlock> replayPastBlocksFlowableSync(
             DefaultBlockParameter startBlock,
             boolean fullTransactionObjects,
             Flowable<EthBlock> onCompleteFlowable) {
+        return replayPastBlocksFlowableSync(
+                startBlock, fullTransactionObjects, onCompleteFlowable, 1, 1);
+    }
+
+    private Flowable<EthBlock> replayPastBlocksFlowableSync(
+            DefaultBlockParameter startBlock,
+            boolean fullTransactionObjects,
+            Flowable<EthBlock> onCompleteFlowable,
+            int parallelism,
+            int batchSize) {
 
         BigInteger startBlockNumber;
         BigInteger latestBlockNumber;
@@ -194,18 +379,30 @@ public class JsonRpc2_0Rx {
         if (startBlockNumber.compareTo(latestBlockNumber) > -1) {
             return onCompleteFlowable;
         } else {
+            Flowable<EthBlock> blocks =
+                    parallelism == 1 && batchSize == 1
+                            ? replayBlocksFlowableSync(
+                                    new DefaultBlockParameterNumber(startBlockNumber),
+                                    new DefaultBlockParameterNumber(latestBlockNumber),
+                                    fullTransactionObjects)
+                            : replayBlocksFlowableSync(
+                                    new DefaultBlockParameterNumber(startBlockNumber),
+                                    new DefaultBlockParameterNumber(latestBlockNumber),
+                                    fullTransactionObjects,
+                                    true,
+                                    parallelism,
+                                    batchSize);
             return Flowable.concat(
-                    replayBlocksFlowableSync(
-                            new DefaultBlockParameterNumber(startBlockNumber),
-                            new DefaultBlockParameterNumber(latestBlockNumber),
-                            fullTransactionObjects),
+                    blocks,
                     Flowable.defer(
                             () ->
                                     replayPastBlocksFlowableSync(
                                             new DefaultBlockParameterNumber(
                                                     latestBlockNumber.add(BigInteger.ONE)),
                                             fullTransactionObjects,
-                                            onCompleteFlowable)));
+                                            onCompleteFlowable,
+                                            parallelism,
+                                            batchSize)));
         }
     }
 
@@ -246,6 +443,42 @@ public class JsonRpc2_0Rx {
         }
     }
 
+    private static BloomMatcher bloomMatcher(
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter) {
+        List<List<String>> topics = new ArrayList<>();
+        for (Filter.FilterTopic<?> topic : ethFilter.getTopics()) {
+            if (topic instanceof Filter.ListTopic) {
+                topics.add(
+                        ((Filter.ListTopic) topic)
+                                .getValue().stream()
+                                        .map(Filter.SingleTopic::getValue)
+                                        .collect(Collectors.toList()));
+            } else {
+                // a null topic matches any topic
+                topics.add(Collections.singletonList((String) topic.getValue()));
+            }
+        }
+        return BloomMatcher.of(ethFilter.getAddress(), topics);
+    }
+
+    private static org.web3j.protocol.core.methods.request.EthFilter blockFilter(
+            org.web3j.protocol.core.methods.request.EthFilter ethFilter, String blockHash) {
+        org.web3j.protocol.core.methods.request.EthFilter blockFilter =
+                new org.web3j.protocol.core.methods.request.EthFilter(
+                        blockHash, ethFilter.getAddress());
+        blockFilter.getTopics().addAll(ethFilter.getTopics());
+        return blockFilter;
+    }
+
+    private static List<Log> toLogs(EthLog ethLog) {
+        if (ethLog.hasError()) {
+            throw new FilterException("Invalid request: " + ethLog.getError().getMessage());
+        }
+        return ethLog.getLogs().stream()
+                .map(logResult -> (Log) logResult.get())
+                .collect(Collectors.toList());
+    }
+
     private static List<Transaction> toTransactions(EthBlock ethBlock) {
         // If you ever see an exception thrown here, it's probably due to an incomplete chain in
         // Geth/Parity. You should resync to solve.
@@ -35,6 +35,22 @@ public interface Web3jRx {
      */
     Flowable<Log> ethLogFlowable(EthFilter ethFilter);
 
+    /**
+     * Create a flowable which emits the log events matching a filter from each new block. Logs are
+     * only requested for blocks whose logs bloom may contain a matching log.
+     *
+     * <p>The default implementation delegates to {@link #ethLogFlowable(EthFilter)}, which
+     * applies the block range of the filter rather than following new blocks.
+     *
+     * @param ethFilter address and topic criteria, implementations which follow new blocks ignore
+     *     its block range
+     * @return a {@link Flowable} instance that emits all Log events matching the filter, in block
+     *     order
+     */
+    default Flowable<Log> blockLogFlowable(EthFilter ethFilter) {
+        return ethLogFlowable(ethFilter);
+    }
+
     /**
      * Create an Flowable to emit block hashes.
      *
@@ -110,6 +126,33 @@ public interface Web3jRx {
             boolean fullTransactionObjects,
             boolean ascending);
 
+    /**
+     * Create an {@link Flowable} instance that emits all blocks from the blockchain contained
+     * within the requested range, fetching blocks concurrently. Blocks are still emitted in order.
+     *
+     * <p>The default implementation fetches blocks one at a time, as per {@link
+     * #replayPastBlocksFlowable(DefaultBlockParameter, DefaultBlockParameter, boolean, boolean)}.
+     *
+     * @param startBlock block number to commence with
+     * @param endBlock block number to finish with
+     * @param fullTransactionObjects if true, provides transactions embedded in blocks, otherwise
+     *     transaction hashes
+     * @param ascending if true, emits blocks in ascending order between range, otherwise in
+     *     descending order
+     * @param parallelism maximum number of requests in flight at any time
+     * @param batchSize number of blocks to request in each JSON-RPC batch
+     * @return a {@link Flowable} instance to emit these blocks
+     */
+    default Flowable<EthBlock> replayPastBlocksFlowable(
+            DefaultBlockParameter startBlock,
+            DefaultBlockParameter endBlock,
+            boolean fullTransactionObjects,
+            boolean ascending,
+            int parallelism,
+            int batchSize) {
+        return replayPastBlocksFlowable(startBlock, endBlock, fullTransactionObjects, ascending);
+    }
+
     /**
      * Create a {@link Flowable} instance that emits all transactions from the blockchain starting
      * with a provided block number. Once it has replayed up to the most current block, the provided
@@ -130,6 +173,30 @@ public interface Web3jRx {
             boolean fullTransactionObjects,
             Flowable<EthBlock> onCompleteFlowable);
 
+    /**
+     * As per {@link #replayPastBlocksFlowable(DefaultBlockParameter, boolean, Flowable)}, except
+     * that blocks are fetched concurrently. Blocks are still emitted in order.
+     *
+     * <p>The default implementation fetches blocks one at a time.
+     *
+     * @param startBlock the block number we wish to request from
+     * @param fullTransactionObjects if we require full {@link Transaction} objects to be provided
+     *     in the {@link EthBlock} responses
+     * @param onCompleteFlowable a subsequent Flowable that we wish to run once we are caught up
+     *     with the latest block
+     * @param parallelism maximum number of requests in flight at any time
+     * @param batchSize number of blocks to request in each JSON-RPC batch
+     * @return a {@link Flowable} instance to emit all requested blocks
+     */
+    default Flowable<EthBlock> replayPastBlocksFlowable(
+            DefaultBlockParameter startBlock,
+            boolean fullTransactionObjects,
+            Flowable<EthBlock> onCompleteFlowable,
+            int parallelism,
+            int batchSize) {
+        return replayPastBlocksFlowable(startBlock, fullTransactionObjects, onCompleteFlowable);
+    }
+
     /**
      * Creates a {@link Flowable} instance that emits all blocks from the requested block number to
      * the most current. Once it has emitted the most current block, onComplete is called.
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+/**
+ * What a bounded WebSocket subscription does when a notification arrives and its buffer is full.
+ *
+ * @see WebSocketService#setSubscriptionBuffer(int, SubscriptionOverflowPolicy)
+ */
+public enum SubscriptionOverflowPolicy {
+    /** Discard the oldest buffered notification to make room for the new one. */
+    DROP_OLDEST,
+    /** Discard the new notification. */
+    DROP_NEWEST,
+    /**
+     * Block the thread reading from the WebSocket until the subscriber catches up. This delays
+     * every other message received on the connection, including replies to requests.
+     */
+    BLOCK,
+    /**
+     * Fail the subscription with a {@link io.reactivex.exceptions.MissingBackpressureException}.
+     */
+    ERROR
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.math.BigInteger;
+
+/**
+ * Listener notified of the reconnections of a {@link WebSocketService} with a {@link
+ * WebSocketReconnectPolicy}.
+ */
+public interface WebSocketReconnectListener {
+
+    /** Called once the connection is re-established, before subscriptions are restored. */
+    default void onReconnected() {}
+
+    /**
+     * Called after subscriptions are restored, with the blocks whose notifications may have been
+     * missed while disconnected. The range starts after the latest block seen in a {@code newHeads}
+     * or {@code logs} notification, and ends at the block number reported by the node once
+     * subscriptions were restored, so notifications from the end of the range may also be delivered
+     * by the subscriptions.
+     *
+     * @param fromBlock first block to backfill, inclusive
+     * @param toBlock last block to backfill, inclusive
+     */
+    default void onBackfillRequired(BigInteger fromBlock, BigInteger toBlock) {}
+
+    /**
+     * Called when the reconnect policy is exhausted. Outstanding requests and subscriptions are
+     * failed after this call.
+     *
+     * @param cause reason of the last failed attempt
+     */
+    default void onReconnectFailed(Throwable cause) {}
+}
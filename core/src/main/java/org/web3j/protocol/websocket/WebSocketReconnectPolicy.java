@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.websocket;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.RpcMethods;
+
+/**
+ * How a {@link WebSocketService} reconnects after its connection is closed.
+ *
+ * <p>Reconnection attempts are delayed with exponential backoff, starting at the initial delay and
+ * doubling up to the maximum delay. Each delay is randomised between half and all of its value, so
+ * that many clients of a restarted node do not reconnect at the same time.
+ *
+ * @see WebSocketService#setReconnectPolicy(WebSocketReconnectPolicy)
+ */
+public class WebSocketReconnectPolicy {
+
+    public static final long DEFAULT_INITIAL_DELAY_MILLIS = 500;
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 30_000;
+
+    private final long initialDelayMillis;
+    private final long maxDelayMillis;
+    private final int maxAttempts;
+    private final boolean retryInFlightRequests;
+    private final Set<String> retryableMethods;
+
+    /**
+     * Creates a reconnect policy.
+     *
+     * @param initialDelayMillis delay before the first reconnection attempt
+     * @param maxDelayMillis maximum delay between reconnection attempts
+     * @param maxAttempts maximum number of reconnection attempts, or 0 to try indefinitely
+     * @param retryInFlightRequests whether requests awaiting a reply when the connection was closed
+     *     should be sent again once reconnected, rather than failed. Only the read-only methods of
+     *     {@link RpcMethods#READ_ONLY} are retried
+     */
+    public WebSocketReconnectPolicy(
+            long initialDelayMillis,
+            long maxDelayMillis,
+            int maxAttempts,
+            boolean retryInFlightRequests) {
+        this(
+                initialDelayMillis,
+                maxDelayMillis,
+                maxAttempts,
+                retryInFlightRequests,
+                RpcMethods.READ_ONLY);
+    }
+
+    /**
+     * Creates a reconnect policy which retries in-flight requests of the given methods.
+     *
+     * @param initialDelayMillis delay before the first reconnection attempt
+     * @param maxDelayMillis maximum delay between reconnection attempts
+     * @param maxAttempts maximum number of reconnection attempts, or 0 to try indefinitely
+     * @param retryInFlightRequests whether requests awaiting a reply when the connection was closed
+     *     should be sent again once reconnected, rather than failed
+     * @param retryableMethods methods which can safely be sent twice, such as {@link
+     *     RpcMethods#READ_ONLY} and any read-only methods specific to a node
+     */
+    public WebSocketReconnectPolicy(
+            long initialDelayMillis,
+            long maxDelayMillis,
+            int maxAttempts,
+            boolean retryInFlightRequests,
+            Set<String> retryableMethods) {
+        if (initialDelayMillis < 0 || maxDelayMillis < initialDelayMillis || maxAttempts < 0) {
+            throw new IllegalArgumentException("Invalid reconnect policy");
+        }
+        this.initialDelayMillis = initialDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryInFlightRequests = retryInFlightRequests;
+        this.retryableMethods = Collections.unmodifiableSet(new HashSet<>(retryableMethods));
+    }
+
+    /**
+     * @return a policy which reconnects indefinitely with the default delays, and retries read-only
+     *     in-flight requests
+     */
+    public static WebSocketReconnectPolicy defaultPolicy() {
+        return new WebSocketReconnectPolicy(
+                DEFAULT_INITIAL_DELAY_MILLIS, DEFAULT_MAX_DELAY_MILLIS, 0, true);
+    }
+
+    public long getInitialDelayMillis() {
+        return initialDelayMillis;
+    }
+
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public boolean isRetryInFlightRequests() {
+        return retryInFlightRequests;
+    }
+
+    public Set<String> getRetryableMethods() {
+        return retryableMethods;
+    }
+
+    /**
+     * Whether an in-flight request can be sent again on a new connection. Only requests of the
+     * retryable methods are resent, as the node may already have acted on any other request.
+     *
+     * @param request request awaiting a reply
+     * @return true if the request can be sent again
+     */
+    public boolean isRetryable(Request<?, ?> request) {
+        return retryInFlightRequests && retryableMethods.contains(request.getMethod());
+    }
+
+    /**
+     * @param attempt number of the reconnection attempt, starting from 1
+     * @return delay before the attempt in milliseconds
+     */
+    long delayMillis(int attempt) {
+        long delay = initialDelayMillis << Math.min(attempt - 1, 30);
+        if (delay <= 0 || delay > maxDelayMillis) {
+            delay = maxDelayMillis;
+        }
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+    }
+
+    boolean hasAttemptsLeft(int attempts) {
+        return maxAttempts == 0 || attempts < maxAttempts;
+    }
+}
@@ -14,6 +14,8 @@ package org.web3j.protocol.websocket;
 
 import java.util.concurrent.CompletableFuture;
 
+import org.web3j.protocol.core.Request;
+
 /**
  * Objects necessary to process a reply for a request sent via WebSocket protocol.
  *
@@ -22,10 +24,17 @@ import java.util.concurrent.CompletableFuture;
 class WebSocketRequest<T> {
     private CompletableFuture<T> onReply;
     private Class<T> responseType;
+    private Request<?, ?> request;
 
     public WebSocketRequest(CompletableFuture<T> onReply, Class<T> responseType) {
+        this(onReply, responseType, null);
+    }
+
+    public WebSocketRequest(
+            CompletableFuture<T> onReply, Class<T> responseType, Request<?, ?> request) {
         this.onReply = onReply;
         this.responseType = responseType;
+        this.request = request;
     }
 
     public CompletableFuture<T> getOnReply() {
@@ -35,4 +44,11 @@ class WebSocketRequest<T> {
     public Class<T> getResponseType() {
         return responseType;
     }
+
+    /**
+     * @return the sent request, or null if it is not known
+     */
+    public Request<?, ?> getRequest() {
+        return request;
+    }
 }
@@ -13,6 +13,7 @@
 package org.web3j.protocol.websocket;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.net.ConnectException;
 import java.net.URI;
 import java.net.URISyntaxException;
@@ -26,6 +27,8 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -33,8 +36,12 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.reactivex.BackpressureOverflowStrategy;
 import io.reactivex.BackpressureStrategy;
 import io.reactivex.Flowable;
+import io.reactivex.Observable;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import io.reactivex.subjects.BehaviorSubject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,9 +53,12 @@ import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.DefaultIdProvider;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
 import org.web3j.protocol.core.methods.response.EthSubscribe;
 import org.web3j.protocol.core.methods.response.EthUnsubscribe;
 import org.web3j.protocol.websocket.events.Notification;
+import org.web3j.utils.Async;
+import org.web3j.utils.Numeric;
 
 /**
  * Web socket service that allows to interact with JSON-RPC via WebSocket protocol.
@@ -59,6 +69,19 @@ import org.web3j.protocol.websocket.events.Notification;
  * notifications stream.
  *
  * <p>To unsubscribe from a stream of notifications it should send another JSON-RPC request.
+ *
+ * <p>By default notifications are buffered without bound, and are delivered to subscribers on the
+ * thread reading from the WebSocket. Subscriptions can instead be given a bounded buffer with a
+ * {@link SubscriptionOverflowPolicy}, see {@link #setSubscriptionBuffer(int,
+ * SubscriptionOverflowPolicy)}. Notifications for bounded subscriptions are delivered on the {@link
+ * Async#getExecutor() async executor}, so that a slow subscriber does not delay replies to requests
+ * sent over the same connection.
+ *
+ * <p>By default a closed connection fails all outstanding requests and subscriptions. With a {@link
+ * WebSocketReconnectPolicy}, the service instead reconnects, restores its subscriptions under their
+ * new subscription ids, and retries in-flight requests which can safely be sent twice. Subscribers
+ * keep receiving notifications from the same {@link Flowable}, and a {@link
+ * WebSocketReconnectListener} is told which blocks to backfill to cover the disconnection.
  */
 public class WebSocketService implements Web3jService {
     private static final Logger log = LoggerFactory.getLogger(WebSocketService.class);
@@ -84,6 +107,18 @@ public class WebSocketService implements Web3jService {
     // Map of a subscription id to objects necessary to process incoming events
     private Map<String, WebSocketSubscription<?>> subscriptionForId = new ConcurrentHashMap<>();
 
+    // Bounds applied to new subscriptions, a buffer size of 0 leaves them unbounded
+    private volatile int subscriptionBufferSize;
+    private volatile SubscriptionOverflowPolicy subscriptionOverflowPolicy;
+
+    // Managed connection, a null policy fails outstanding requests when the connection is closed
+    private volatile WebSocketReconnectPolicy reconnectPolicy;
+    private volatile WebSocketReconnectListener reconnectListener;
+    private final AtomicBoolean reconnecting = new AtomicBoolean();
+    private volatile boolean closed;
+    // Latest block seen in a subscription event, used to report missed blocks after reconnecting
+    private final AtomicLong lastBlockNumber = new AtomicLong(-1);
+
     public WebSocketService(String serverUrl, boolean includeRawResponses) {
         this(new WebSocketClient(parseURI(serverUrl)), includeRawResponses);
     }
@@ -121,6 +156,44 @@ public class WebSocketService implements Web3jService {
         }
     }
 
+    /**
+     * Bound the number of notifications buffered for each subscription subsequently created by
+     * {@link #subscribe(Request, String, Class)}.
+     *
+     * @param bufferSize maximum number of notifications buffered per subscription, or 0 to buffer
+     *     notifications without bound
+     * @param overflowPolicy what to do with a new notification when a subscription's buffer is full
+     */
+    public void setSubscriptionBuffer(int bufferSize, SubscriptionOverflowPolicy overflowPolicy) {
+        if (bufferSize < 0 || (bufferSize > 0 && overflowPolicy == null)) {
+            throw new IllegalArgumentException(
+                    "A bounded subscription buffer requires an overflow policy");
+        }
+        this.subscriptionBufferSize = bufferSize;
+        this.subscriptionOverflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Reconnect automatically when the connection is closed by anything other than {@link
+     * #close()}.
+     *
+     * @param reconnectPolicy how to reconnect, or null to fail outstanding requests and
+     *     subscriptions when the connection is closed
+     */
+    public void setReconnectPolicy(WebSocketReconnectPolicy reconnectPolicy) {
+        this.reconnectPolicy = reconnectPolicy;
+    }
+
+    /**
+     * Set a listener to be notified of reconnections, see {@link
+     * #setReconnectPolicy(WebSocketReconnectPolicy)}.
+     *
+     * @param reconnectListener reconnection listener, or null
+     */
+    public void setReconnectListener(WebSocketReconnectListener reconnectListener) {
+        this.reconnectListener = reconnectListener;
+    }
+
     /**
      * Returns the immutable versions of subscriptionForId map which represents the relation between
      * subscription id and the associated subscription events. Is kept immutable because the only
@@ -190,7 +263,7 @@ public class WebSocketService implements Web3jService {
 
         CompletableFuture<T> result = new CompletableFuture<>();
         long requestId = request.getId();
-        requestForId.put(requestId, new WebSocketRequest<>(result, responseType));
+        requestForId.put(requestId, new WebSocketRequest<>(result, responseType, request));
         try {
             sendRequest(request, requestId);
         } catch (IOException e) {
@@ -325,28 +398,30 @@ public class WebSocketService implements Web3jService {
         }
     }
 
-    @SuppressWarnings("unchecked")
     private void processSubscriptionResponse(long replyId, EthSubscribe reply) throws IOException {
-        WebSocketSubscription subscription = subscriptionRequestForId.get(replyId);
-        processSubscriptionResponse(
-                reply, subscription.getSubject(), subscription.getResponseType());
+        WebSocketSubscription<?> subscription = subscriptionRequestForId.get(replyId);
+        processSubscriptionResponse(reply, subscription);
     }
 
-    private <T extends Notification<?>> void processSubscriptionResponse(
-            EthSubscribe subscriptionReply, BehaviorSubject<T> subject, Class<T> responseType) {
+    private void processSubscriptionResponse(
+            EthSubscribe subscriptionReply, WebSocketSubscription<?> subscription) {
         if (!subscriptionReply.hasError()) {
-            establishSubscription(subject, responseType, subscriptionReply);
+            establishSubscription(subscription, subscriptionReply);
         } else {
-            reportSubscriptionError(subject, subscriptionReply);
+            reportSubscriptionError(subscription.getSubject(), subscriptionReply);
         }
     }
 
-    private <T extends Notification<?>> void establishSubscription(
-            BehaviorSubject<T> subject, Class<T> responseType, EthSubscribe subscriptionReply) {
+    private void establishSubscription(
+            WebSocketSubscription<?> subscription, EthSubscribe subscriptionReply) {
         log.debug("Subscribed to RPC events with id {}", subscriptionReply.getSubscriptionId());
-        subscriptionForId.put(
-                subscriptionReply.getSubscriptionId(),
-                new WebSocketSubscription<>(subject, responseType));
+        if (subscription.isCancelled()) {
+            // disposed of while it was being restored after a reconnection
+            unsubscribeFromEventsStream(
+                    subscriptionReply.getSubscriptionId(), subscription.getUnsubscribeMethod());
+            return;
+        }
+        subscriptionForId.put(subscriptionReply.getSubscriptionId(), subscription);
     }
 
     private <T extends Notification<?>> String getSubscriptionId(BehaviorSubject<T> subject) {
@@ -357,8 +432,8 @@ public class WebSocketService implements Web3jService {
                 .orElse(null);
     }
 
-    private <T extends Notification<?>> void reportSubscriptionError(
-            BehaviorSubject<T> subject, EthSubscribe subscriptionReply) {
+    private void reportSubscriptionError(
+            BehaviorSubject<?> subject, EthSubscribe subscriptionReply) {
         Response.Error error = subscriptionReply.getError();
         log.error("Subscription request returned error: {}", error.getMessage());
         subject.onError(
@@ -388,6 +463,9 @@ public class WebSocketService implements Web3jService {
         WebSocketSubscription subscription = subscriptionForId.get(subscriptionId);
 
         if (subscription != null) {
+            if (reconnectPolicy != null) {
+                trackBlockNumber(replyJson);
+            }
             sendEventToSubscriber(replyJson, subscription);
         } else {
             log.warn("No subscriber for WebSocket event with subscription id {}", subscriptionId);
@@ -398,10 +476,31 @@ public class WebSocketService implements Web3jService {
         return replyJson.get("params").get("subscription").asText();
     }
 
+    private void trackBlockNumber(JsonNode replyJson) {
+        JsonNode result = replyJson.path("params").path("result");
+        // new heads carry their number, logs the number of their block
+        JsonNode number = result.has("number") ? result.get("number") : result.get("blockNumber");
+        if (number != null && number.isTextual()) {
+            try {
+                long blockNumber = Numeric.decodeQuantity(number.asText()).longValueExact();
+                lastBlockNumber.accumulateAndGet(blockNumber, Math::max);
+            } catch (RuntimeException e) {
+                log.debug("Ignoring invalid block number {}", number.asText());
+            }
+        }
+    }
+
     @SuppressWarnings("unchecked")
     private void sendEventToSubscriber(JsonNode replyJson, WebSocketSubscription subscription) {
         Object event = objectMapper.convertValue(replyJson, subscription.getResponseType());
-        subscription.getSubject().onNext(event);
+        try {
+            if (subscription.acquire(event)) {
+                subscription.getSubject().onNext(event);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while waiting for a slow subscriber, dropping event");
+        }
     }
 
     private boolean isReply(JsonNode replyJson) {
@@ -471,31 +570,94 @@ public class WebSocketService implements Web3jService {
     @Override
     public <T extends Notification<?>> Flowable<T> subscribe(
             Request request, String unsubscribeMethod, Class<T> responseType) {
+        return subscribe(
+                request,
+                unsubscribeMethod,
+                responseType,
+                subscriptionBufferSize,
+                subscriptionOverflowPolicy);
+    }
+
+    /**
+     * Subscribe to a stream of notifications with a bounded buffer.
+     *
+     * @param request subscription request
+     * @param unsubscribeMethod method to call to unsubscribe
+     * @param responseType type of incoming notifications
+     * @param bufferSize maximum number of notifications buffered for the subscriber, or 0 to buffer
+     *     notifications without bound
+     * @param overflowPolicy what to do with a new notification when the buffer is full
+     * @param <T> type of incoming notifications
+     * @return a {@link Flowable} instance that emits incoming notifications
+     */
+    public <T extends Notification<?>> Flowable<T> subscribe(
+            Request request,
+            String unsubscribeMethod,
+            Class<T> responseType,
+            int bufferSize,
+            SubscriptionOverflowPolicy overflowPolicy) {
         // We can't use usual Observer since we can call "onError"
         // before first client is subscribed and we need to
         // preserve it
         BehaviorSubject<T> subject = BehaviorSubject.create();
+        WebSocketSubscription<T> subscription =
+                new WebSocketSubscription<>(subject, responseType, bufferSize, overflowPolicy);
+        subscription.setSubscribeRequest(request, unsubscribeMethod);
 
         // We need to subscribe synchronously, since if we return
         // an Flowable to a client before we got a reply
         // a client can unsubscribe before we know a subscription
         // id and this can cause a race condition
-        subscribeToEventsStream(request, subject, responseType);
+        subscribeToEventsStream(request, subscription);
+
+        Observable<T> events =
+                subject.doOnDispose(
+                        () -> {
+                            subscription.cancel();
+                            closeSubscription(subject, unsubscribeMethod);
+                        });
+        if (bufferSize <= 0 || overflowPolicy == null) {
+            return events.toFlowable(BackpressureStrategy.BUFFER);
+        }
 
-        return subject.doOnDispose(() -> closeSubscription(subject, unsubscribeMethod))
-                .toFlowable(BackpressureStrategy.BUFFER);
+        // deliver notifications off the WebSocket reader thread, requesting one at a time so
+        // that notifications are only buffered in the bounded buffer
+        Scheduler scheduler = Schedulers.from(Async.getExecutor());
+        switch (overflowPolicy) {
+            case BLOCK:
+                return events.toFlowable(BackpressureStrategy.BUFFER)
+                        .observeOn(scheduler, false, 1)
+                        .doAfterNext(subscription::release);
+            case DROP_OLDEST:
+                return bounded(events, subscription, BackpressureOverflowStrategy.DROP_OLDEST)
+                        .observeOn(scheduler, false, 1);
+            case DROP_NEWEST:
+                return bounded(events, subscription, BackpressureOverflowStrategy.DROP_LATEST)
+                        .observeOn(scheduler, false, 1);
+            default:
+                return bounded(events, subscription, BackpressureOverflowStrategy.ERROR)
+                        .observeOn(scheduler, false, 1);
+        }
+    }
+
+    private static <T> Flowable<T> bounded(
+            Observable<T> events,
+            WebSocketSubscription<T> subscription,
+            BackpressureOverflowStrategy strategy) {
+        return events.toFlowable(BackpressureStrategy.MISSING)
+                .onBackpressureBuffer(
+                        subscription.getBufferSize(), subscription::onOverflow, strategy);
     }
 
     private <T extends Notification<?>> void subscribeToEventsStream(
-            Request request, BehaviorSubject<T> subject, Class<T> responseType) {
+            Request request, WebSocketSubscription<T> subscription) {
 
-        subscriptionRequestForId.put(
-                request.getId(), new WebSocketSubscription<>(subject, responseType));
+        subscriptionRequestForId.put(request.getId(), subscription);
         try {
             send(request, EthSubscribe.class);
         } catch (IOException e) {
             log.error("Failed to subscribe to RPC events with request id {}", request.getId());
-            subject.onError(e);
+            subscription.getSubject().onError(e);
         }
     }
 
@@ -504,6 +666,10 @@ public class WebSocketService implements Web3jService {
         String subscriptionId = getSubscriptionId(subject);
         if (subscriptionId != null) {
             subscriptionForId.remove(subscriptionId);
+            if (reconnecting.get()) {
+                // the subscription ended with the connection, and won't be restored
+                return;
+            }
             unsubscribeFromEventsStream(subscriptionId, unsubscribeMethod);
         } else {
             log.warn("Trying to unsubscribe from a non-existing subscription. Race condition?");
@@ -537,13 +703,156 @@ public class WebSocketService implements Web3jService {
 
     @Override
     public void close() {
+        closed = true;
         webSocketClient.close();
         executor.shutdown();
     }
 
     void onWebSocketClose() {
-        closeOutstandingRequests();
-        closeOutstandingSubscriptions();
+        WebSocketReconnectPolicy policy = reconnectPolicy;
+        if (policy == null || closed) {
+            closeOutstandingRequests();
+            closeOutstandingSubscriptions();
+        } else if (reconnecting.compareAndSet(false, true)) {
+            closeNonRetryableRequests(policy);
+            scheduleReconnect(policy, 1);
+        }
+    }
+
+    private void closeNonRetryableRequests(WebSocketReconnectPolicy policy) {
+        requestForId.forEach(
+                (requestId, request) -> {
+                    if (request.getRequest() == null || !policy.isRetryable(request.getRequest())) {
+                        requestForId.remove(requestId);
+                        request.getOnReply()
+                                .completeExceptionally(new IOException("Connection was closed"));
+                    }
+                });
+    }
+
+    private void scheduleReconnect(WebSocketReconnectPolicy policy, int attempt) {
+        long delay = policy.delayMillis(attempt);
+        log.info("Reconnecting to WebSocket in {} ms, attempt {}", delay, attempt);
+        executor.schedule(() -> reconnect(policy, attempt), delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void reconnect(WebSocketReconnectPolicy policy, int attempt) {
+        if (closed) {
+            return;
+        }
+
+        Exception cause;
+        try {
+            if (webSocketClient.reconnectBlocking()) {
+                onReconnected();
+                return;
+            }
+            cause = new ConnectException("Failed to connect to WebSocket");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cause = e;
+        } catch (RuntimeException e) {
+            cause = e;
+        }
+
+        if (policy.hasAttemptsLeft(attempt) && !closed) {
+            scheduleReconnect(policy, attempt + 1);
+        } else {
+            log.error("Failed to reconnect to WebSocket after {} attempts", attempt, cause);
+            reconnecting.set(false);
+            WebSocketReconnectListener listener = reconnectListener;
+            if (listener != null) {
+                listener.onReconnectFailed(cause);
+            }
+            closeOutstandingRequests();
+            closeOutstandingSubscriptions();
+        }
+    }
+
+    private void onReconnected() {
+        log.info("Reconnected to WebSocket");
+        reconnecting.set(false);
+        WebSocketReconnectListener listener = reconnectListener;
+        if (listener != null) {
+            listener.onReconnected();
+        }
+
+        long lastBlock = lastBlockNumber.get();
+        resendInFlightRequests();
+        CompletableFuture<?>[] resubscribed =
+                restoreSubscriptions().toArray(new CompletableFuture<?>[0]);
+
+        if (listener != null && lastBlock >= 0) {
+            // the node's head is read once subscriptions are restored, so that no block is missed
+            CompletableFuture.allOf(resubscribed)
+                    .handle((ignored, throwable) -> null)
+                    .thenCompose(
+                            ignored ->
+                                    sendAsync(
+                                            new Request<>(
+                                                    "eth_blockNumber",
+                                                    Collections.<String>emptyList(),
+                                                    this,
+                                                    EthBlockNumber.class),
+                                            EthBlockNumber.class))
+                    .thenAccept(
+                            blockNumber -> {
+                                BigInteger head = blockNumber.getBlockNumber();
+                                BigInteger from = BigInteger.valueOf(lastBlock + 1);
+                                if (head.compareTo(from) >= 0) {
+                                    listener.onBackfillRequired(from, head);
+                                }
+                            })
+                    .exceptionally(
+                            throwable -> {
+                                log.error("Failed to get the block number to backfill", throwable);
+                                return null;
+                            });
+        }
+    }
+
+    private void resendInFlightRequests() {
+        requestForId.forEach(
+                (requestId, request) -> {
+                    try {
+                        String payload = objectMapper.writeValueAsString(request.getRequest());
+                        log.debug("Resending request: {}", payload);
+                        webSocketClient.send(payload);
+                    } catch (Exception e) {
+                        if (requestForId.remove(requestId, request)) {
+                            request.getOnReply().completeExceptionally(e);
+                        }
+                    }
+                });
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CompletableFuture<EthSubscribe>> restoreSubscriptions() {
+        List<WebSocketSubscription<?>> subscriptions = new ArrayList<>(subscriptionForId.values());
+        subscriptionForId.clear();
+
+        List<CompletableFuture<EthSubscribe>> resubscribed = new ArrayList<>();
+        for (WebSocketSubscription<?> subscription : subscriptions) {
+            Request<?, ?> original = subscription.getSubscribeRequest();
+            if (subscription.isCancelled() || original == null) {
+                continue;
+            }
+
+            Request<?, EthSubscribe> request =
+                    new Request<>(
+                            original.getMethod(), original.getParams(), this, EthSubscribe.class);
+            subscriptionRequestForId.put(request.getId(), subscription);
+            resubscribed.add(
+                    sendAsync(request, EthSubscribe.class)
+                            .whenComplete(
+                                    (reply, throwable) -> {
+                                        subscriptionRequestForId.remove(request.getId());
+                                        if (throwable != null) {
+                                            subscription.getSubject().onError(throwable);
+                                        }
+                                    }));
+        }
+        return resubscribed;
     }
 
     private void closeOutstandingRequests() {
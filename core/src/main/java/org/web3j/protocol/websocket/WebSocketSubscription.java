@@ -12,16 +12,38 @@
  */
 package org.web3j.protocol.websocket;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
 import io.reactivex.subjects.BehaviorSubject;
 
+import org.web3j.protocol.core.Request;
+
 /**
  * Objects necessary to process a new item received via a WebSocket subscription.
  *
  * @param <T> type of a data item that should be returned by a WebSocket subscription.
  */
 public class WebSocketSubscription<T> {
+    private static final long BLOCK_POLL_MILLIS = 100;
+
     private BehaviorSubject<T> subject;
     private Class<T> responseType;
+    private final int bufferSize;
+    private final SubscriptionOverflowPolicy overflowPolicy;
+    private final AtomicLong overflowCount = new AtomicLong();
+    private final Semaphore permits;
+    // Items which took a permit and have not been delivered yet
+    private final Set<T> heldItems =
+            Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    private volatile boolean cancelled;
+    // Request which created the subscription, used to restore it after a reconnection
+    private volatile Request<?, ?> subscribeRequest;
+    private volatile String unsubscribeMethod;
 
     /**
      * Creates WebSocketSubscription.
@@ -30,8 +52,30 @@ public class WebSocketSubscription<T> {
      * @param responseType type of a data item returned by a WebSocket subscription
      */
     public WebSocketSubscription(BehaviorSubject<T> subject, Class<T> responseType) {
+        this(subject, responseType, 0, null);
+    }
+
+    /**
+     * Creates a WebSocketSubscription with a bounded buffer.
+     *
+     * @param subject used to send new data items to listeners
+     * @param responseType type of a data item returned by a WebSocket subscription
+     * @param bufferSize maximum number of data items buffered for listeners, or 0 if unbounded
+     * @param overflowPolicy what to do with a new data item when the buffer is full
+     */
+    public WebSocketSubscription(
+            BehaviorSubject<T> subject,
+            Class<T> responseType,
+            int bufferSize,
+            SubscriptionOverflowPolicy overflowPolicy) {
         this.subject = subject;
         this.responseType = responseType;
+        this.bufferSize = bufferSize;
+        this.overflowPolicy = overflowPolicy;
+        this.permits =
+                overflowPolicy == SubscriptionOverflowPolicy.BLOCK && bufferSize > 0
+                        ? new Semaphore(bufferSize)
+                        : null;
     }
 
     public BehaviorSubject<T> getSubject() {
@@ -41,4 +85,86 @@ public class WebSocketSubscription<T> {
     public Class<T> getResponseType() {
         return responseType;
     }
+
+    /**
+     * @return maximum number of data items buffered for listeners, or 0 if unbounded
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public SubscriptionOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Returns the number of times the buffer of this subscription was full when a new data item
+     * arrived. Depending on the overflow policy, each overflow either dropped a data item, blocked
+     * the WebSocket reader, or failed the subscription.
+     *
+     * @return number of overflows
+     */
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+
+    void onOverflow() {
+        overflowCount.incrementAndGet();
+    }
+
+    /**
+     * Wait for space in the buffer of a subscription with the {@link
+     * SubscriptionOverflowPolicy#BLOCK} policy, the item then takes a permit until it is {@link
+     * #release(Object) released}.
+     *
+     * @param item data item about to be sent to listeners
+     * @return false if the subscription was cancelled while waiting
+     */
+    boolean acquire(T item) throws InterruptedException {
+        if (permits == null || !subject.hasObservers()) {
+            // without a subscriber the subject only keeps its latest item, nothing is queued
+            return true;
+        }
+        if (!permits.tryAcquire()) {
+            onOverflow();
+            while (!permits.tryAcquire(BLOCK_POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (cancelled) {
+                    return false;
+                }
+            }
+        }
+        heldItems.add(item);
+        return true;
+    }
+
+    /**
+     * Release the space taken in the buffer by a data item once it was delivered. Items which did
+     * not take any space, such as the latest item replayed to a new subscriber, are ignored.
+     */
+    void release(T item) {
+        if (permits != null && heldItems.remove(item)) {
+            permits.release();
+        }
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    Request<?, ?> getSubscribeRequest() {
+        return subscribeRequest;
+    }
+
+    String getUnsubscribeMethod() {
+        return unsubscribeMethod;
+    }
+
+    void setSubscribeRequest(Request<?, ?> subscribeRequest, String unsubscribeMethod) {
+        this.subscribeRequest = subscribeRequest;
+        this.unsubscribeMethod = unsubscribeMethod;
+    }
 }
@@ -25,11 +25,9 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.web3j.abi.EventEncoder;
 import org.web3j.abi.EventValues;
 import org.web3j.abi.FunctionEncoder;
 import org.web3j.abi.FunctionReturnDecoder;
-import org.web3j.abi.TypeReference;
 import org.web3j.abi.datatypes.Address;
 import org.web3j.abi.datatypes.Event;
 import org.web3j.abi.datatypes.Function;
@@ -812,24 +810,8 @@ public abstract class Contract extends ManagedTransaction {
     }
 
     public static EventValues staticExtractEventParameters(Event event, Log log) {
-        final List<String> topics = log.getTopics();
-        String encodedEventSignature = EventEncoder.encode(event);
-        if (topics == null || topics.isEmpty() || !topics.get(0).equals(encodedEventSignature)) {
-            return null;
-        }
-
-        List<Type> indexedValues = new ArrayList<>();
-        List<Type> nonIndexedValues =
-                FunctionReturnDecoder.decode(log.getData(), event.getNonIndexedParameters());
-
-        List<TypeReference<Type>> indexedParameters = event.getIndexedParameters();
-        for (int i = 0; i < indexedParameters.size(); i++) {
-            Type value =
-                    FunctionReturnDecoder.decodeIndexedValue(
-                            topics.get(i + 1), indexedParameters.get(i));
-            indexedValues.add(value);
-        }
-        return new EventValues(indexedValues, nonIndexedValues);
+        // events are typically static constants of the generated wrappers, holding their codec
+        return event.getCodec().decode(log.getTopics(), log.getData());
     }
 
     protected String resolveContractAddress(String contractAddress) {
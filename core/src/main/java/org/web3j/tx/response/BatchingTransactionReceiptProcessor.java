@@ -0,0 +1,383 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.response;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.RpcErrors;
+import org.web3j.protocol.core.methods.response.EthGetBlockReceipts;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+import org.web3j.utils.Async;
+
+/**
+ * Transaction receipt processor which resolves all pending transactions together, rather than
+ * polling for each transaction hash individually.
+ *
+ * <p>On each poll the processor checks for new blocks and fetches all of their receipts via {@code
+ * eth_getBlockReceipts}, completing every pending transaction found in them. Transactions are also
+ * checked once via a single JSON-RPC batch of {@code eth_getTransactionReceipt} requests when they
+ * are first submitted, in case they were included before the processor started watching. If the
+ * node does not support {@code eth_getBlockReceipts}, every pending transaction is checked via
+ * batched requests on each poll instead.
+ *
+ * <p>Receipts are delivered via the futures returned by {@link
+ * #waitForTransactionReceiptAsync(String)}. {@link #waitForTransactionReceipt(String)} blocks until
+ * the receipt is available, so this processor can also be used in place of {@link
+ * PollingTransactionReceiptProcessor}.
+ */
+public class BatchingTransactionReceiptProcessor extends TransactionReceiptProcessor
+        implements Closeable {
+
+    private static final Logger log =
+            LoggerFactory.getLogger(BatchingTransactionReceiptProcessor.class);
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+    /** If more blocks than this have passed since the last poll, pending hashes are batched. */
+    static final int MAX_BLOCKS_PER_POLL = 16;
+
+    private final Web3j web3j;
+    private final int pollingAttemptsPerTxHash;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduledExecutorService;
+    private final boolean shutdownExecutorOnClose;
+    private final ScheduledFuture<?> scheduledPoll;
+
+    private final Map<String, PendingReceipt> pendingReceipts = new ConcurrentHashMap<>();
+
+    private volatile boolean blockReceiptsSupported = true;
+    private volatile boolean closed;
+    private long lastBlockNumber = -1;
+
+    public BatchingTransactionReceiptProcessor(
+            Web3j web3j, long pollingFrequency, int pollingAttemptsPerTxHash) {
+        this(
+                web3j,
+                pollingFrequency,
+                pollingAttemptsPerTxHash,
+                DEFAULT_MAX_BATCH_SIZE,
+                Async.defaultExecutorService(),
+                true);
+    }
+
+    /**
+     * Create a processor which polls on the provided executor.
+     *
+     * @param web3j web3j instance to query for receipts
+     * @param pollingFrequency polling frequency in milliseconds
+     * @param pollingAttemptsPerTxHash maximum number of polls per transaction hash
+     * @param maxBatchSize maximum number of receipt requests per JSON-RPC batch
+     * @param scheduledExecutorService executor service to use for polling. <strong>You are
+     *     responsible for terminating this thread pool</strong>
+     */
+    public BatchingTransactionReceiptProcessor(
+            Web3j web3j,
+            long pollingFrequency,
+            int pollingAttemptsPerTxHash,
+            int maxBatchSize,
+            ScheduledExecutorService scheduledExecutorService) {
+        this(
+                web3j,
+                pollingFrequency,
+                pollingAttemptsPerTxHash,
+                maxBatchSize,
+                scheduledExecutorService,
+                false);
+    }
+
+    private BatchingTransactionReceiptProcessor(
+            Web3j web3j,
+            long pollingFrequency,
+            int pollingAttemptsPerTxHash,
+            int maxBatchSize,
+            ScheduledExecutorService scheduledExecutorService,
+            boolean shutdownExecutorOnClose) {
+        super(web3j);
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("Maximum batch size must be at least 1");
+        }
+        this.web3j = web3j;
+        this.pollingAttemptsPerTxHash = pollingAttemptsPerTxHash;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduledExecutorService = scheduledExecutorService;
+        this.shutdownExecutorOnClose = shutdownExecutorOnClose;
+        this.scheduledPoll =
+                scheduledExecutorService.scheduleAtFixedRate(
+                        this::poll, pollingFrequency, pollingFrequency, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public TransactionReceipt waitForTransactionReceipt(String transactionHash)
+            throws IOException, TransactionException {
+        try {
+            return waitForTransactionReceiptAsync(transactionHash).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransactionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof TransactionException) {
+                throw (TransactionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new TransactionException(cause);
+        }
+    }
+
+    /**
+     * Register a transaction hash to be resolved by the next poll. Registering the same hash again
+     * returns the same future.
+     *
+     * @param transactionHash hash of the submitted transaction
+     * @return future completed with the transaction's receipt, or exceptionally with a {@link
+     *     TransactionException} if no receipt was found within the configured number of attempts
+     */
+    public CompletableFuture<TransactionReceipt> waitForTransactionReceiptAsync(
+            String transactionHash) {
+        if (closed) {
+            CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+            future.completeExceptionally(
+                    new TransactionException("Receipt processor is closed", transactionHash));
+            return future;
+        }
+        return pendingReceipts.computeIfAbsent(
+                        key(transactionHash), k -> new PendingReceipt(transactionHash))
+                .future;
+    }
+
+    /**
+     * @return number of transactions which are waiting for a receipt
+     */
+    public int getPendingCount() {
+        return pendingReceipts.size();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduledPoll.cancel(false);
+        if (shutdownExecutorOnClose) {
+            scheduledExecutorService.shutdown();
+        }
+        for (PendingReceipt pending : pendingReceipts.values()) {
+            fail(
+                    pending,
+                    new TransactionException(
+                            "Receipt processor closed before a receipt was received for txHash: "
+                                    + pending.transactionHash,
+                            pending.transactionHash));
+        }
+    }
+
+    void poll() {
+        if (pendingReceipts.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (blockReceiptsSupported) {
+                pollNewBlocks();
+            } else {
+                fetchReceipts(new ArrayList<>(pendingReceipts.values()));
+            }
+        } catch (Exception e) {
+            log.warn("Unable to poll for transaction receipts, retrying on next poll", e);
+        }
+
+        for (PendingReceipt pending : pendingReceipts.values()) {
+            if (++pending.attempts >= pollingAttemptsPerTxHash) {
+                fail(
+                        pending,
+                        new TransactionException(
+                                "No transaction receipt for txHash: "
+                                        + pending.transactionHash
+                                        + " received after "
+                                        + pollingAttemptsPerTxHash
+                                        + " attempts",
+                                pending.transactionHash));
+            }
+        }
+    }
+
+    private void pollNewBlocks() throws IOException {
+        List<PendingReceipt> unchecked = new ArrayList<>();
+        for (PendingReceipt pending : pendingReceipts.values()) {
+            if (!pending.checked) {
+                unchecked.add(pending);
+            }
+        }
+
+        long head = web3j.ethBlockNumber().send().getBlockNumber().longValueExact();
+        if (lastBlockNumber < 0 || head - lastBlockNumber > MAX_BLOCKS_PER_POLL) {
+            // nothing to scan from yet, or too far behind to scan block by block
+            lastBlockNumber = head;
+            fetchReceipts(new ArrayList<>(pendingReceipts.values()));
+            return;
+        }
+
+        while (lastBlockNumber < head && fetchBlockReceipts(lastBlockNumber + 1)) {
+            lastBlockNumber++;
+        }
+
+        if (blockReceiptsSupported) {
+            fetchReceipts(unchecked);
+        } else {
+            fetchReceipts(new ArrayList<>(pendingReceipts.values()));
+        }
+    }
+
+    private boolean fetchBlockReceipts(long blockNumber) throws IOException {
+        EthGetBlockReceipts response =
+                web3j.ethGetBlockReceipts(
+                                DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber)))
+                        .send();
+        if (response.hasError()) {
+            if (isUnsupported(response.getError())) {
+                log.info(
+                        "eth_getBlockReceipts is not available, falling back to batched receipt "
+                                + "requests: {}",
+                        response.getError().getMessage());
+                blockReceiptsSupported = false;
+            } else {
+                // transient, such as a rate limit or a lagging node, retried on the next poll
+                log.debug(
+                        "eth_getBlockReceipts failed for block {}: {}",
+                        blockNumber,
+                        response.getError().getMessage());
+            }
+            return false;
+        } else if (!response.getBlockReceipts().isPresent()) {
+            // the block is not available from this node yet
+            return false;
+        }
+
+        for (TransactionReceipt receipt : response.getBlockReceipts().get()) {
+            complete(receipt);
+        }
+        return true;
+    }
+
+    private static boolean isUnsupported(Response.Error error) {
+        if (error.getCode() == RpcErrors.METHOD_NOT_FOUND) {
+            return true;
+        }
+        String message = error.getMessage() == null ? "" : error.getMessage().toLowerCase();
+        return message.contains("not supported")
+                || message.contains("unsupported")
+                || message.contains("method not found")
+                || message.contains("does not exist");
+    }
+
+    private void fetchReceipts(List<PendingReceipt> pending) throws IOException {
+        for (int from = 0; from < pending.size(); from += maxBatchSize) {
+            fetchReceiptBatch(pending.subList(from, Math.min(from + maxBatchSize, pending.size())));
+        }
+    }
+
+    private void fetchReceiptBatch(Collection<PendingReceipt> batch) throws IOException {
+        List<PendingReceipt> requested = new ArrayList<>(batch.size());
+        Map<Long, PendingReceipt> requestedById = new HashMap<>();
+        BatchRequest batchRequest = web3j.newBatch();
+        for (PendingReceipt pending : batch) {
+            if (!pending.future.isDone()) {
+                Request<?, EthGetTransactionReceipt> request =
+                        web3j.ethGetTransactionReceipt(pending.transactionHash);
+                requested.add(pending);
+                requestedById.put(request.getId(), pending);
+                batchRequest.add(request);
+            }
+        }
+        if (requested.isEmpty()) {
+            return;
+        }
+
+        // responses may arrive in any order, so match them by id unless the ids are ambiguous
+        boolean matchById = requestedById.size() == requested.size();
+        List<? extends Response<?>> responses = batchRequest.send().getResponses();
+        for (int i = 0; i < responses.size(); i++) {
+            EthGetTransactionReceipt response = (EthGetTransactionReceipt) responses.get(i);
+            PendingReceipt pending =
+                    matchById
+                            ? requestedById.remove(response.getId())
+                            : i < requested.size() ? requested.get(i) : null;
+            if (pending == null) {
+                continue;
+            }
+            if (response.hasError()) {
+                fail(
+                        pending,
+                        new TransactionException(
+                                "Error processing request: " + response.getError().getMessage(),
+                                pending.transactionHash));
+            } else {
+                pending.checked = true;
+                response.getTransactionReceipt().ifPresent(this::complete);
+            }
+        }
+    }
+
+    private void complete(TransactionReceipt receipt) {
+        if (receipt.getTransactionHash() == null) {
+            return;
+        }
+        PendingReceipt pending = pendingReceipts.remove(key(receipt.getTransactionHash()));
+        if (pending != null) {
+            pending.future.complete(receipt);
+        }
+    }
+
+    private void fail(PendingReceipt pending, TransactionException exception) {
+        if (pendingReceipts.remove(key(pending.transactionHash), pending)) {
+            pending.future.completeExceptionally(exception);
+        }
+    }
+
+    private static String key(String transactionHash) {
+        return transactionHash.toLowerCase();
+    }
+
+    private static class PendingReceipt {
+        private final String transactionHash;
+        private final CompletableFuture<TransactionReceipt> future = new CompletableFuture<>();
+        private volatile boolean checked;
+        private int attempts;
+
+        PendingReceipt(String transactionHash) {
+            this.transactionHash = transactionHash;
+        }
+    }
+}
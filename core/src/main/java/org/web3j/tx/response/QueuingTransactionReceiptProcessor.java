@@ -41,8 +41,33 @@ public class QueuingTransactionReceiptProcessor extends TransactionReceiptProces
 
     public QueuingTransactionReceiptProcessor(
             Web3j web3j, Callback callback, int pollingAttemptsPerTxHash, long pollingFrequency) {
+        this(
+                web3j,
+                callback,
+                pollingAttemptsPerTxHash,
+                pollingFrequency,
+                Async.defaultExecutorService());
+    }
+
+    /**
+     * Create a processor which polls for receipts on the provided executor, allowing a single
+     * thread pool to be shared between processors.
+     *
+     * @param web3j web3j instance to query for receipts
+     * @param callback callback notified of receipts and failures
+     * @param pollingAttemptsPerTxHash maximum number of polls per transaction hash
+     * @param pollingFrequency polling frequency in milliseconds
+     * @param scheduledExecutorService executor service to use for polling. <strong>You are
+     *     responsible for terminating this thread pool</strong>
+     */
+    public QueuingTransactionReceiptProcessor(
+            Web3j web3j,
+            Callback callback,
+            int pollingAttemptsPerTxHash,
+            long pollingFrequency,
+            ScheduledExecutorService scheduledExecutorService) {
         super(web3j);
-        this.scheduledExecutorService = Async.defaultExecutorService();
+        this.scheduledExecutorService = scheduledExecutorService;
         this.callback = callback;
         this.pendingTransactions = new LinkedBlockingQueue<>();
         this.pollingAttemptsPerTxHash = pollingAttemptsPerTxHash;
@@ -12,25 +12,87 @@
  */
 package org.web3j.utils;
 
+import java.util.Iterator;
+import java.util.ServiceLoader;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
-/** Async task facilitation. */
+import org.web3j.utils.spi.AsyncExecutorProvider;
+
+/**
+ * Async task facilitation.
+ *
+ * <p>Tasks are run on a cached thread pool unless an {@link AsyncExecutorProvider} SPI is found, in
+ * which case the first implementation found will be used. Setting the system property {@value
+ * #VIRTUAL_THREADS_PROPERTY} to {@code true} runs each task on its own virtual thread instead. The
+ * executor may also be replaced at runtime via {@link #setExecutor(ExecutorService)}.
+ */
 public class Async {
 
+    public static final String VIRTUAL_THREADS_PROPERTY = "org.web3j.async.virtualThreads";
+
     private Async() {}
 
-    private static final ExecutorService executor = Executors.newCachedThreadPool();
+    private static volatile ExecutorService executor = createExecutor();
 
     static {
-        Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(executor)));
+        final ExecutorService defaultExecutor = executor;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> shutdown(defaultExecutor)));
+    }
+
+    private static ExecutorService createExecutor() {
+        if (Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY)) {
+            return newVirtualThreadExecutor();
+        }
+
+        ServiceLoader<AsyncExecutorProvider> loader =
+                ServiceLoader.load(AsyncExecutorProvider.class);
+        final Iterator<AsyncExecutorProvider> iterator = loader.iterator();
+
+        return iterator.hasNext() ? iterator.next().get() : Executors.newCachedThreadPool();
+    }
+
+    /**
+     * Provide a new ExecutorService which starts a new virtual thread for each task.
+     *
+     * @return new virtual thread per task ExecutorService
+     */
+    public static ExecutorService newVirtualThreadExecutor() {
+        return Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    /**
+     * Returns the executor used to run asynchronous tasks when no executor is specified.
+     *
+     * @return the global executor
+     */
+    public static ExecutorService getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Replace the executor used to run asynchronous tasks when no executor is specified.
+     * <strong>You are responsible for terminating this thread pool</strong>.
+     *
+     * @param executorService the new global executor
+     */
+    public static void setExecutor(ExecutorService executorService) {
+        if (executorService == null) {
+            throw new IllegalArgumentException("Executor must not be null");
+        }
+        executor = executorService;
     }
 
     public static <T> CompletableFuture<T> run(Callable<T> callable) {
+        return run(callable, executor);
+    }
+
+    public static <T> CompletableFuture<T> run(Callable<T> callable, Executor executor) {
         CompletableFuture<T> result = new CompletableFuture<>();
         CompletableFuture.runAsync(
                 () -> {
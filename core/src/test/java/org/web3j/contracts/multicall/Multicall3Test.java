@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.contracts.multicall;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.DynamicArray;
+import org.web3j.abi.datatypes.DynamicBytes;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.tx.exceptions.ContractCallException;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class Multicall3Test {
+    private static final String TOKEN = "0x19e03255f667bdfd50a32722df860b1eeaf4d635";
+    private static final String BROKEN = "0x226159d592e2b063810a10ebf6dcbada94ed68b8";
+    private static final byte[] REVERT_DATA = Numeric.hexStringToByteArray("0xdeadbeef");
+
+    private Web3jService web3jService;
+    private Web3j web3j;
+    private final List<Integer> callsPerAggregate = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        web3jService = mock(Web3jService.class);
+        web3j = Web3j.build(web3jService);
+
+        when(web3jService.send(any(Request.class), eq(EthCall.class)))
+                .thenAnswer(invocation -> aggregate3(invocation.getArgument(0)));
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<EthCall> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                responses.add(aggregate3(request));
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+    }
+
+    @Test
+    void testAggregateReportsFailuresPerCall() throws Exception {
+        Multicall3 multicall = new Multicall3(web3j);
+
+        List<Multicall3.CallResult> results =
+                multicall.aggregate(
+                        Arrays.asList(
+                                Multicall3.call(TOKEN, balanceOf(1)),
+                                Multicall3.call(BROKEN, balanceOf(2)),
+                                Multicall3.call(TOKEN, balanceOf(3))));
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(BigInteger.valueOf(1), results.get(0).getValue());
+        assertFalse(results.get(1).isSuccess());
+        assertArrayEquals(REVERT_DATA, results.get(1).getReturnData());
+        assertThrows(ContractCallException.class, () -> results.get(1).getValues());
+        assertEquals(BigInteger.valueOf(3), results.get(2).getValue());
+
+        assertEquals(Collections.singletonList(3), callsPerAggregate);
+        verify(web3jService, never()).sendBatch(any(BatchRequest.class));
+    }
+
+    @Test
+    void testAggregateSplitsCallsIntoBatches() throws Exception {
+        Multicall3 multicall = new Multicall3(web3j, Multicall3.DEFAULT_ADDRESS, 2);
+
+        List<Multicall3.Call> calls = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            calls.add(Multicall3.call(TOKEN, balanceOf(i)));
+        }
+        List<Multicall3.CallResult> results = multicall.aggregate(calls);
+
+        assertEquals(5, results.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(BigInteger.valueOf(i), results.get(i).getValue());
+        }
+        assertEquals(Arrays.asList(2, 2, 1), callsPerAggregate);
+        verify(web3jService, times(1)).sendBatch(any(BatchRequest.class));
+        verify(web3jService, never()).send(any(Request.class), eq(EthCall.class));
+    }
+
+    @Test
+    void testAggregateFailsOnErrorResponse() throws Exception {
+        EthCall error = new EthCall();
+        error.setError(new Response.Error(-32000, "execution reverted"));
+        when(web3jService.send(any(Request.class), eq(EthCall.class))).thenReturn(error);
+
+        Multicall3 multicall = new Multicall3(web3j);
+        assertThrows(
+                ContractCallException.class,
+                () ->
+                        multicall.aggregate(
+                                Collections.singletonList(Multicall3.call(TOKEN, balanceOf(1)))));
+    }
+
+    private static Function balanceOf(long owner) {
+        return new Function(
+                "balanceOf",
+                Collections.singletonList(new Address(BigInteger.valueOf(owner))),
+                Collections.singletonList(new TypeReference<Uint256>() {}));
+    }
+
+    /** Executes an aggregate3 call, where balanceOf returns the owner's address as a number. */
+    @SuppressWarnings("unchecked")
+    private EthCall aggregate3(Request<?, ?> request) {
+        Transaction transaction = (Transaction) request.getParams().get(0);
+        assertEquals(Multicall3.DEFAULT_ADDRESS, transaction.getTo());
+
+        List<Type> input =
+                FunctionReturnDecoder.decode(
+                        transaction.getData().substring(10),
+                        Collections.singletonList(
+                                (TypeReference)
+                                        new TypeReference<DynamicArray<Multicall3.Call3>>() {}));
+        List<Multicall3.Call3> calls = ((DynamicArray<Multicall3.Call3>) input.get(0)).getValue();
+        callsPerAggregate.add(calls.size());
+
+        List<Multicall3.Result> results = new ArrayList<>();
+        for (Multicall3.Call3 call : calls) {
+            assertTrue(call.allowFailure);
+            if (call.target.equals(BROKEN)) {
+                results.add(new Multicall3.Result(new Bool(false), new DynamicBytes(REVERT_DATA)));
+            } else {
+                byte[] owner = Arrays.copyOfRange(call.callData, 4, call.callData.length);
+                results.add(new Multicall3.Result(new Bool(true), new DynamicBytes(owner)));
+            }
+        }
+
+        EthCall response = new EthCall();
+        response.setResult(
+                "0x"
+                        + FunctionEncoder.encodeConstructor(
+                                Collections.singletonList(
+                                        new DynamicArray<>(Multicall3.Result.class, results))));
+        return response;
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.ens;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.crypto.Hash;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthCall;
+import org.web3j.protocol.core.methods.response.EthSyncing;
+import org.web3j.protocol.core.methods.response.NetVersion;
+import org.web3j.tx.ChainIdLong;
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingEnsResolverTest {
+    private static final String RESOLVER = "0x4c641fb9bad9b60ef180c31f56051ce826d21a9a";
+    private static final String FIRST_ADDRESS = "0x19e03255f667bdfd50a32722df860b1eeaf4d635";
+    private static final String SECOND_ADDRESS = "0x226159d592e2b063810a10ebf6dcbada94ed68b8";
+
+    private static final String RESOLVER_ID = methodId("resolver(bytes32)");
+    private static final String SUPPORTS_INTERFACE_ID = methodId("supportsInterface(bytes4)");
+    private static final String ADDR_ID = methodId("addr(bytes32)");
+
+    private Web3jService web3jService;
+    private CachingEnsResolver resolver;
+    private final AtomicLong clock = new AtomicLong();
+    private final Map<String, String> nameAddresses = new HashMap<>();
+    private final List<Integer> batchSizes = new ArrayList<>();
+    // names whose address lookups fail, in a batch with an error and individually with an I/O error
+    private final Set<String> failingNames = new HashSet<>();
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        web3jService = mock(Web3jService.class);
+        Web3j web3j = Web3j.build(web3jService);
+        resolver =
+                new CachingEnsResolver(
+                        web3j, EnsResolver.DEFAULT_SYNC_THRESHOLD, 40, 100, clock::get);
+
+        nameAddresses.put(nameHash("first.eth"), FIRST_ADDRESS);
+        nameAddresses.put(nameHash("second.eth"), SECOND_ADDRESS);
+        // missing.eth has a resolver, but no address
+
+        EthSyncing ethSyncing = new EthSyncing();
+        EthSyncing.Result result = new EthSyncing.Result();
+        result.setSyncing(false);
+        ethSyncing.setResult(result);
+        when(web3jService.send(any(Request.class), eq(EthSyncing.class))).thenReturn(ethSyncing);
+
+        EthBlock.Block block = new EthBlock.Block();
+        block.setTimestamp(
+                Numeric.encodeQuantity(BigInteger.valueOf(System.currentTimeMillis() / 1000)));
+        EthBlock ethBlock = new EthBlock();
+        ethBlock.setResult(block);
+        when(web3jService.send(any(Request.class), eq(EthBlock.class))).thenReturn(ethBlock);
+
+        NetVersion netVersion = new NetVersion();
+        netVersion.setResult(Long.toString(ChainIdLong.MAINNET));
+        when(web3jService.send(any(Request.class), eq(NetVersion.class))).thenReturn(netVersion);
+
+        when(web3jService.send(any(Request.class), eq(EthCall.class)))
+                .thenAnswer(
+                        invocation -> {
+                            EthCall response = call(invocation.getArgument(0));
+                            if (response.hasError()) {
+                                throw new IOException("Connection reset");
+                            }
+                            return response;
+                        });
+        when(web3jService.sendBatch(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            batchSizes.add(batchRequest.getRequests().size());
+                            List<EthCall> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                responses.add(call(request));
+                            }
+                            return new BatchResponse(batchRequest.getRequests(), responses);
+                        });
+    }
+
+    @Test
+    void testResolveAllBatchesLookupsAndCachesResults() throws Exception {
+        Map<String, String> results =
+                resolver.resolveAll(
+                        Arrays.asList(
+                                "first.eth", "second.eth", "missing.eth", FIRST_ADDRESS, " "));
+
+        assertEquals(
+                Arrays.asList("first.eth", "second.eth", "missing.eth", FIRST_ADDRESS, " "),
+                new ArrayList<>(results.keySet()));
+        assertEquals(FIRST_ADDRESS, results.get("first.eth"));
+        assertEquals(SECOND_ADDRESS, results.get("second.eth"));
+        assertNull(results.get("missing.eth"));
+        assertEquals(FIRST_ADDRESS, results.get(FIRST_ADDRESS));
+        assertNull(results.get(" "));
+        // resolvers, interface support of the shared resolver, then addresses
+        assertEquals(Arrays.asList(3, 1, 3), batchSizes);
+
+        // everything is served from the cache, including the failed lookup
+        assertEquals(SECOND_ADDRESS, resolver.resolve("second.eth"));
+        assertThrows(EnsResolutionException.class, () -> resolver.resolve("missing.eth"));
+        resolver.resolveAll(Arrays.asList("first.eth", "missing.eth"));
+        assertEquals(3, batchSizes.size());
+        verify(web3jService, times(1)).send(any(Request.class), eq(EthSyncing.class));
+        verify(web3jService, times(1)).send(any(Request.class), eq(NetVersion.class));
+
+        // negative results expire first
+        clock.addAndGet(CachingEnsResolver.DEFAULT_NEGATIVE_TTL);
+        nameAddresses.put(nameHash("missing.eth"), SECOND_ADDRESS);
+        assertEquals(
+                SECOND_ADDRESS,
+                resolver.resolveAll(Arrays.asList("first.eth", "missing.eth")).get("missing.eth"));
+        assertEquals(Arrays.asList(3, 1, 3, 1, 1), batchSizes);
+        verify(web3jService, times(2)).send(any(Request.class), eq(EthSyncing.class));
+    }
+
+    @Test
+    void testResolveCachesIndividualLookups() throws Exception {
+        resolver.setTtl(1, TimeUnit.SECONDS);
+
+        assertEquals(FIRST_ADDRESS, resolver.resolve("first.eth"));
+        assertEquals(FIRST_ADDRESS, resolver.resolve("first.eth"));
+        verify(web3jService, times(3)).send(any(Request.class), eq(EthCall.class));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(FIRST_ADDRESS, resolver.resolve("first.eth"));
+        verify(web3jService, times(6)).send(any(Request.class), eq(EthCall.class));
+
+        resolver.clear();
+        assertEquals(
+                FIRST_ADDRESS, resolver.resolveAll(Arrays.asList("first.eth")).get("first.eth"));
+        verify(web3jService, times(2)).send(any(Request.class), eq(EthSyncing.class));
+    }
+
+    @Test
+    void testResolveAllSplitsBatches() {
+        resolver.setMaxBatchSize(2);
+
+        Map<String, String> results =
+                resolver.resolveAll(Arrays.asList("first.eth", "second.eth", "missing.eth"));
+
+        assertEquals(FIRST_ADDRESS, results.get("first.eth"));
+        assertEquals(SECOND_ADDRESS, results.get("second.eth"));
+        assertNull(results.get("missing.eth"));
+        assertEquals(Arrays.asList(2, 1, 1, 2, 1), batchSizes);
+        assertThrows(IllegalArgumentException.class, () -> resolver.setMaxBatchSize(0));
+    }
+
+    @Test
+    void testResolveAllRethrowsConnectionFailures() {
+        failingNames.add(nameHash("second.eth"));
+
+        assertThrows(
+                EnsResolutionException.class,
+                () -> resolver.resolveAll(Arrays.asList("first.eth", "second.eth")));
+
+        // the failure is not cached
+        failingNames.clear();
+        assertEquals(
+                SECOND_ADDRESS,
+                resolver.resolveAll(Arrays.asList("first.eth", "second.eth")).get("second.eth"));
+    }
+
+    private EthCall call(Request<?, ?> request) {
+        Transaction transaction = (Transaction) request.getParams().get(0);
+        String data = transaction.getData();
+        String selector = data.substring(0, 10);
+        String argument = "0x" + data.substring(10);
+
+        EthCall response = new EthCall();
+        if (selector.equals(RESOLVER_ID)) {
+            response.setResult(word(RESOLVER));
+        } else if (selector.equals(SUPPORTS_INTERFACE_ID)) {
+            response.setResult(word("0x0"));
+        } else if (selector.equals(ADDR_ID) && failingNames.contains(argument)) {
+            response.setError(new Response.Error(-32000, "execution timeout"));
+        } else if (selector.equals(ADDR_ID) && nameAddresses.containsKey(argument)) {
+            response.setResult(word(nameAddresses.get(argument)));
+        } else {
+            response.setResult("0x");
+        }
+        return response;
+    }
+
+    private static String word(String value) {
+        return Numeric.toHexStringWithPrefixZeroPadded(Numeric.toBigInt(value), 64);
+    }
+
+    private static String nameHash(String name) {
+        return NameHash.nameHash(name);
+    }
+
+    private static String methodId(String signature) {
+        return Hash.sha3String(signature).substring(0, 10);
+    }
+}
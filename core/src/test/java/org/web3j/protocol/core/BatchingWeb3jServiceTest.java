@@ -0,0 +1,176 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchingWeb3jServiceTest {
+
+    private Web3jService web3jService;
+    private ScheduledExecutorService scheduledExecutorService;
+    private BatchingWeb3jService batchingWeb3jService;
+
+    @BeforeEach
+    void setUp() {
+        web3jService = mock(Web3jService.class);
+        scheduledExecutorService = mock(ScheduledExecutorService.class);
+        batchingWeb3jService =
+                new BatchingWeb3jService(
+                        web3jService, 2, 500, TimeUnit.MICROSECONDS, scheduledExecutorService);
+    }
+
+    @Test
+    void testRequestsAreCoalescedIntoBatch() throws Exception {
+        Request<?, EthBlockNumber> first = newRequest();
+        Request<?, EthBlockNumber> second = newRequest();
+        EthBlockNumber firstResponse = newResponse(first);
+        EthBlockNumber secondResponse = newResponse(second);
+
+        // responses to a batch may arrive in any order
+        ArgumentCaptor<BatchRequest> captor = ArgumentCaptor.forClass(BatchRequest.class);
+        when(web3jService.sendBatchAsync(captor.capture()))
+                .thenAnswer(
+                        invocation ->
+                                CompletableFuture.completedFuture(
+                                        new BatchResponse(
+                                                captor.getValue().getRequests(),
+                                                Arrays.asList(secondResponse, firstResponse))));
+
+        CompletableFuture<EthBlockNumber> firstFuture =
+                batchingWeb3jService.sendAsync(first, EthBlockNumber.class);
+        assertFalse(firstFuture.isDone());
+        verify(scheduledExecutorService)
+                .schedule(any(Runnable.class), eq(500L), eq(TimeUnit.MICROSECONDS));
+
+        CompletableFuture<EthBlockNumber> secondFuture =
+                batchingWeb3jService.sendAsync(second, EthBlockNumber.class);
+
+        assertEquals(Arrays.asList(first, second), captor.getValue().getRequests());
+        assertSame(firstResponse, firstFuture.get());
+        assertSame(secondResponse, secondFuture.get());
+        verify(web3jService, never()).sendAsync(any(), any());
+    }
+
+    @Test
+    void testSingleRequestIsNotBatched() throws Exception {
+        Request<?, EthBlockNumber> request = newRequest();
+        EthBlockNumber response = new EthBlockNumber();
+        when(web3jService.sendAsync(request, EthBlockNumber.class))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        CompletableFuture<EthBlockNumber> future =
+                batchingWeb3jService.sendAsync(request, EthBlockNumber.class);
+        batchingWeb3jService.flush();
+
+        assertSame(response, future.get());
+        verify(web3jService, never()).sendBatchAsync(any());
+    }
+
+    @Test
+    void testFailedBatchFailsRequests() {
+        IOException failure = new IOException("429 Too Many Requests");
+        CompletableFuture<BatchResponse> failedBatch = new CompletableFuture<>();
+        failedBatch.completeExceptionally(failure);
+        when(web3jService.sendBatchAsync(any())).thenReturn(failedBatch);
+
+        CompletableFuture<EthBlockNumber> firstFuture =
+                batchingWeb3jService.sendAsync(newRequest(), EthBlockNumber.class);
+        CompletableFuture<EthBlockNumber> secondFuture =
+                batchingWeb3jService.sendAsync(newRequest(), EthBlockNumber.class);
+
+        ExecutionException e = assertThrows(ExecutionException.class, firstFuture::get);
+        assertSame(failure, e.getCause());
+        assertTrue(secondFuture.isCompletedExceptionally());
+        verify(web3jService, times(1)).sendBatchAsync(any());
+        verify(web3jService, never()).sendAsync(any(), any());
+    }
+
+    @Test
+    void testRequestWithoutResponseFails() throws Exception {
+        Request<?, EthBlockNumber> first = newRequest();
+        Request<?, EthBlockNumber> second = newRequest();
+        EthBlockNumber secondResponse = newResponse(second);
+        EthBlockNumber unknownResponse = new EthBlockNumber();
+        unknownResponse.setId(-1);
+
+        ArgumentCaptor<BatchRequest> captor = ArgumentCaptor.forClass(BatchRequest.class);
+        when(web3jService.sendBatchAsync(captor.capture()))
+                .thenAnswer(
+                        invocation ->
+                                CompletableFuture.completedFuture(
+                                        new BatchResponse(
+                                                captor.getValue().getRequests(),
+                                                Arrays.asList(unknownResponse, secondResponse))));
+
+        CompletableFuture<EthBlockNumber> firstFuture =
+                batchingWeb3jService.sendAsync(first, EthBlockNumber.class);
+        CompletableFuture<EthBlockNumber> secondFuture =
+                batchingWeb3jService.sendAsync(second, EthBlockNumber.class);
+
+        ExecutionException e = assertThrows(ExecutionException.class, firstFuture::get);
+        assertTrue(e.getCause() instanceof IOException);
+        assertSame(secondResponse, secondFuture.get());
+    }
+
+    @Test
+    void testCloseFlushesPendingRequests() throws Exception {
+        Request<?, EthBlockNumber> request = newRequest();
+        when(web3jService.sendAsync(request, EthBlockNumber.class))
+                .thenReturn(CompletableFuture.completedFuture(new EthBlockNumber()));
+
+        CompletableFuture<EthBlockNumber> future =
+                batchingWeb3jService.sendAsync(request, EthBlockNumber.class);
+        batchingWeb3jService.close();
+
+        future.get();
+        verify(web3jService).close();
+    }
+
+    private static EthBlockNumber newResponse(Request<?, EthBlockNumber> request) {
+        EthBlockNumber response = new EthBlockNumber();
+        response.setId(request.getId());
+        return response;
+    }
+
+    private Request<?, EthBlockNumber> newRequest() {
+        List<String> params = Collections.emptyList();
+        return new Request<>("eth_blockNumber", params, batchingWeb3jService, EthBlockNumber.class);
+    }
+}
@@ -0,0 +1,499 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthFilter;
+import org.web3j.protocol.core.methods.response.EthGetBalance;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.core.methods.response.EthSign;
+import org.web3j.protocol.core.methods.response.EthUninstallFilter;
+import org.web3j.protocol.exceptions.RateLimitExceededException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class LoadBalancingWeb3jServiceTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private Web3jService first;
+    private Web3jService second;
+
+    @BeforeEach
+    void setUp() {
+        first = mock(Web3jService.class);
+        second = mock(Web3jService.class);
+    }
+
+    @Test
+    void testLeastOutstandingRequests() {
+        LoadBalancingWeb3jService service =
+                newService(LoadBalancingWeb3jService.Strategy.LEAST_OUTSTANDING_REQUESTS);
+        doReturn(new CompletableFuture<>()).when(first).sendAsync(any(), any());
+        doReturn(new CompletableFuture<>()).when(second).sendAsync(any(), any());
+
+        for (int i = 0; i < 4; i++) {
+            service.sendAsync(blockNumberRequest(), EthBlockNumber.class);
+        }
+
+        verify(first, times(2)).sendAsync(any(), any());
+        verify(second, times(2)).sendAsync(any(), any());
+        assertEquals(2, service.getEndpoints().get(0).getOutstandingRequests());
+    }
+
+    @Test
+    void testLatencyEwmaPrefersFasterEndpoint() {
+        LoadBalancingWeb3jService service =
+                newService(LoadBalancingWeb3jService.Strategy.LATENCY_EWMA);
+        CompletableFuture<EthBlockNumber> slowReply = new CompletableFuture<>();
+        CompletableFuture<EthBlockNumber> fastReply = new CompletableFuture<>();
+        doReturn(slowReply).when(first).sendAsync(any(), any());
+        doReturn(fastReply).when(second).sendAsync(any(), any());
+        service.sendAsync(blockNumberRequest(), EthBlockNumber.class);
+        service.sendAsync(blockNumberRequest(), EthBlockNumber.class);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(2));
+        fastReply.complete(blockNumber(10));
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(18));
+        slowReply.complete(blockNumber(10));
+        assertEquals(20, service.getEndpoints().get(0).getLatencyMillis(), 0.001);
+        assertEquals(2, service.getEndpoints().get(1).getLatencyMillis(), 0.001);
+
+        doReturn(new CompletableFuture<>()).when(second).sendAsync(any(), any());
+        for (int i = 0; i < 5; i++) {
+            service.sendAsync(blockNumberRequest(), EthBlockNumber.class);
+        }
+        // 2ms * 6 outstanding is still less than 20ms * 1
+        verify(first, times(1)).sendAsync(any(), any());
+        verify(second, times(6)).sendAsync(any(), any());
+    }
+
+    @Test
+    void testFailoverOpensCircuit() throws Exception {
+        LoadBalancingWeb3jService service =
+                newService(LoadBalancingWeb3jService.Strategy.LEAST_OUTSTANDING_REQUESTS);
+        service.setCircuitBreaker(1, 10, TimeUnit.SECONDS);
+        EthBlockNumber reply = blockNumber(10);
+        doReturn(failed(new IOException("connection refused"))).when(first).sendAsync(any(), any());
+        doReturn(CompletableFuture.completedFuture(reply)).when(second).sendAsync(any(), any());
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(reply, service.send(blockNumberRequest(), EthBlockNumber.class));
+        }
+        verify(first, times(1)).sendAsync(any(), any());
+        assertTrue(service.getEndpoints().get(0).isCircuitOpen());
+
+        // half-open once the circuit has been open long enough
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        doReturn(CompletableFuture.completedFuture(reply)).when(first).sendAsync(any(), any());
+        service.send(blockNumberRequest(), EthBlockNumber.class);
+        service.send(blockNumberRequest(), EthBlockNumber.class);
+        verify(first, times(2)).sendAsync(any(), any());
+        assertFalse(service.getEndpoints().get(0).isCircuitOpen());
+    }
+
+    @Test
+    void testHalfOpenCircuitAdmitsSingleProbe() throws Exception {
+        LoadBalancingWeb3jService service =
+                newService(LoadBalancingWeb3jService.Strategy.LEAST_OUTSTANDING_REQUESTS);
+        service.setCircuitBreaker(1, 10, TimeUnit.SECONDS);
+        EthBlockNumber reply = blockNumber(10);
+        doReturn(failed(new IOException("connection refused"))).when(first).sendAsync(any(), any());
+        doReturn(CompletableFuture.completedFuture(reply)).when(second).sendAsync(any(), any());
+        service.send(blockNumberRequest(), EthBlockNumber.class);
+        assertTrue(service.getEndpoints().get(0).isCircuitOpen());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(11));
+        CompletableFuture<EthBlockNumber> probe = new CompletableFuture<>();
+        doReturn(probe).when(first).sendAsync(any(), any());
+        doReturn(new CompletableFuture<>()).when(second).sendAsync(any(), any());
+        for (int i = 0; i < 4; i++) {
+            service.sendAsync(blockNumberRequest(), EthBlockNumber.class);
+        }
+        // only the probe reaches the recovering endpoint while it is outstanding
+        verify(first, times(2)).sendAsync(any(), any());
+
+        probe.complete(reply);
+        assertFalse(service.getEndpoints().get(0).isCircuitOpen());
+        doReturn(CompletableFuture.completedFuture(reply)).when(first).sendAsync(any(), any());
+        for (int i = 0; i < 4; i++) {
+            service.send(blockNumberRequest(), EthBlockNumber.class);
+        }
+        // the second endpoint has requests outstanding, so takes no more
+        verify(first, times(6)).sendAsync(any(), any());
+    }
+
+    @Test
+    void testOnlyRetryableMethodsAreRetried() throws Exception {
+        LoadBalancingWeb3jService service =
+                newService(LoadBalancingWeb3jService.Strategy.LEAST_OUTSTANDING_REQUESTS);
+        IOException failure = new IOException("connection reset");
+        EthSign signature = new EthSign();
+        doReturn(failed(failure)).when(first).sendAsync(any(), any());
+        doReturn(CompletableFuture.completedFuture(signature)).when(second).sendAsync(any(), any());
+
+        Request<?, EthSign> request =
+                new Request<>("eth_sign", Arrays.asList("0x0", "0x0"), service, EthSign.class);
+        assertSame(
+                failure,
+                assertThrows(IOException.class, () -> service.send(request, EthSign.class)));
+        verify(second, never()).sendAsync(any(), any());
+
+        Set<String> methods = new HashSet<>(LoadBalancingWeb3jService.DEFAULT_RETRYABLE_METHODS);
+        methods.add("eth_sign");
+        service.setRetryableMethods(methods);
+        // the first endpoint is tried first again, as its request failed
+        assertSame(signature, service.send(request, EthSign.class));
+        verify(second, times(1)).sendAsync(any(), any());
+    }
+
+    @Test
+    void testTransactionsSignedByNodeAreNotRetried() {
+        LoadBalancingWeb3jService service =
+                newService(LoadBalancingWeb3jService.Strategy.LEAST_OUTSTANDING_REQUESTS);
+        IOException failure = new IOException("connection reset");
+        doReturn(failed(failure)).when(first).sendAsync(any(), any());
+        doReturn(failed(failure)).when(second).sendAsync(any(), any());
+
+        Request<?, EthSendTransaction> request =
+                new Request<>(
+                        "eth_sendTransaction",
+                        Collections.emptyList(),
+                        service,
+                        EthSendTransaction.class);
+        assertSame(
+                failure,
+                assertThrows(
+                        IOException.class, () -> service.send(request, EthSendTransaction.class)));
+        verify(first, times(1)).sendAsync(any(), any());
+        verify(second, never()).sendAsync(any(), any());
+    }
+
+    @Test
+    void testRateLimitedEndpointIsSkipped() throws Exception {
+        LoadBalancingWeb3jService service =
+                newService(LoadBalancingWeb3jService.Strategy.LEAST_OUTSTANDING_REQUESTS);
+        EthBlockNumber reply = blockNumber(10);
+        doReturn(failed(new RateLimitExceededException("429", Duration.ofSeconds(5))))
+                .when(first)
+                .sendAsync(any(), any());
+        doReturn(CompletableFuture.completedFuture(reply)).when(second).sendAsync(any(), any());
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(reply, service.send(blockNumberRequest(), EthBlockNumber.class));
+        }
+        verify(first, times(1)).sendAsync(any(), any());
+        assertFalse(service.getEndpoints().get(0).isCircuitOpen());
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        service.send(blockNumberRequest(), EthBlockNumber.class);
+        service.send(blockNumberRequest(), EthBlockNumber.class);
+        verify(first, times(2)).sendAsync(any(), any());
+    }
+
+    @Test
+    void testBlockDependentRequestsUseSyncedEndpoints() throws Exception {
+        LoadBalancingWeb3jService service =
+                newService(LoadBalancingWeb3jService.Strategy.LEAST_OUTSTANDING_REQUESTS);
+        service.setMaxBlockLag(20);
+        doReturn(CompletableFuture.completedFuture(blockNumber(100)))
+                .when(first)
+                .sendAsync(any(), any());
+        doReturn(CompletableFuture.completedFuture(blockNumber(90)))
+                .when(second)
+                .sendAsync(any(), any());
+        service.checkHealth();
+        assertEquals(100, service.getEndpoints().get(0).getLatestBlockNumber());
+        assertEquals(90, service.getEndpoints().get(1).getLatestBlockNumber());
+
+        Web3j web3j = Web3j.build(service);
+        Request<?, EthGetBalance> request =
+                web3j.ethGetBalance("0x0", DefaultBlockParameter.valueOf(BigInteger.valueOf(95)));
+        assertEquals(95, LoadBalancingWeb3jService.requiredBlock(request));
+        assertEquals(
+                96,
+                LoadBalancingWeb3jService.requiredBlock(
+                        web3j.ethGetStorageAt(
+                                "0x0",
+                                BigInteger.valueOf(200),
+                                DefaultBlockParameter.valueOf(BigInteger.valueOf(96)))));
+        assertEquals(
+                -1,
+                LoadBalancingWeb3jService.requiredBlock(
+                        web3j.ethGetBalance("0x0", DefaultBlockParameterName.LATEST)));
+        doReturn(CompletableFuture.completedFuture(new EthGetBalance()))
+                .when(first)
+                .sendAsync(any(), any());
+        for (int i = 0; i < 3; i++) {
+            service.send(request, EthGetBalance.class);
+        }
+        verify(first, times(4)).sendAsync(any(), any());
+        verify(second, times(1)).sendAsync(any(), any());
+
+        // too far behind for any request
+        service.setMaxBlockLag(5);
+        for (int i = 0; i < 3; i++) {
+            service.send(blockNumberRequest(), EthBlockNumber.class);
+        }
+        verify(first, times(7)).sendAsync(any(), any());
+        verify(second, times(1)).sendAsync(any(), any());
+    }
+
+    @Test
+    void testFilterRequestsArePinnedToCreatingEndpoint() throws Exception {
+        LoadBalancingWeb3jService service =
+                newService(LoadBalancingWeb3jService.Strategy.LEAST_OUTSTANDING_REQUESTS);
+        EthFilter newFilter = new EthFilter();
+        newFilter.setResult("0x1a");
+        doReturn(CompletableFuture.completedFuture(newFilter)).when(first).sendAsync(any(), any());
+        doReturn(CompletableFuture.completedFuture(newFilter)).when(second).sendAsync(any(), any());
+
+        service.send(
+                new Request<>(
+                        "eth_newBlockFilter", Collections.emptyList(), first, EthFilter.class),
+                EthFilter.class);
+        // the second endpoint receives the next request, unless it is pinned
+        doReturn(CompletableFuture.completedFuture(new EthLog()))
+                .when(first)
+                .sendAsync(any(), any());
+        doReturn(failed(new IOException("connection reset"))).when(second).sendAsync(any(), any());
+        for (int i = 0; i < 4; i++) {
+            service.send(
+                    filterRequest("eth_getFilterChanges", "0x001a", EthLog.class), EthLog.class);
+        }
+        verify(first, times(5)).sendAsync(any(), any());
+        verify(second, never()).sendAsync(any(), any());
+
+        // a pinned request fails rather than going to an endpoint without the filter
+        doReturn(failed(new IOException("connection reset"))).when(first).sendAsync(any(), any());
+        assertThrows(
+                IOException.class,
+                () ->
+                        service.send(
+                                filterRequest("eth_getFilterLogs", "0x1a", EthLog.class),
+                                EthLog.class));
+        verify(second, never()).sendAsync(any(), any());
+
+        doReturn(CompletableFuture.completedFuture(new EthUninstallFilter()))
+                .when(first)
+                .sendAsync(any(), any());
+        service.send(
+                filterRequest("eth_uninstallFilter", "0x1a", EthUninstallFilter.class),
+                EthUninstallFilter.class);
+        doReturn(CompletableFuture.completedFuture(new EthLog()))
+                .when(second)
+                .sendAsync(any(), any());
+        doReturn(CompletableFuture.completedFuture(new EthLog()))
+                .when(first)
+                .sendAsync(any(), any());
+        for (int i = 0; i < 2; i++) {
+            service.send(filterRequest("eth_getFilterChanges", "0x1a", EthLog.class), EthLog.class);
+        }
+        verify(second, times(1)).sendAsync(any(), any());
+    }
+
+    @Test
+    void testSlowRequestIsHedged() throws Exception {
+        LoadBalancingWeb3jService service =
+                newService(LoadBalancingWeb3jService.Strategy.LEAST_OUTSTANDING_REQUESTS);
+        HedgingPolicy policy =
+                new HedgingPolicy(
+                        Collections.singleton("eth_getBalance"), 0.95, 1, TimeUnit.MILLISECONDS, 1);
+        service.setHedgingPolicy(policy);
+
+        // the first request of each test phase hangs, later ones reply immediately
+        EthGetBalance balance = new EthGetBalance();
+        CompletableFuture<EthGetBalance> hanging = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger(HedgingPolicy.MIN_SAMPLES);
+        Answer<CompletableFuture<EthGetBalance>> answer =
+                invocation ->
+                        calls.getAndIncrement() == HedgingPolicy.MIN_SAMPLES + 1
+                                ? hanging
+                                : CompletableFuture.completedFuture(balance);
+        doAnswer(answer).when(first).sendAsync(any(), any());
+        doAnswer(answer).when(second).sendAsync(any(), any());
+
+        calls.set(0);
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES; i++) {
+            service.sendAsync(balanceRequest(), EthGetBalance.class).get();
+        }
+        assertEquals(0, policy.getHedgedRequests());
+
+        calls.set(HedgingPolicy.MIN_SAMPLES + 1);
+        CompletableFuture<EthGetBalance> reply =
+                service.sendAsync(balanceRequest(), EthGetBalance.class);
+        assertSame(balance, reply.get(2, TimeUnit.SECONDS));
+        assertEquals(1, policy.getHedgedRequests());
+        assertTrue(hanging.isCancelled());
+        assertEquals(0, service.getEndpoints().get(0).getOutstandingRequests());
+        assertEquals(0, service.getEndpoints().get(1).getOutstandingRequests());
+
+        // requests which are not allowed are never hedged
+        CompletableFuture<EthBlockNumber> blockNumber = new CompletableFuture<>();
+        doReturn(blockNumber).when(first).sendAsync(any(), any());
+        doReturn(blockNumber).when(second).sendAsync(any(), any());
+        service.sendAsync(blockNumberRequest(), EthBlockNumber.class);
+        Thread.sleep(20);
+        assertEquals(1, policy.getHedgedRequests());
+        service.close();
+    }
+
+    @Test
+    void testErrorReplyWaitsForHedge() throws Exception {
+        LoadBalancingWeb3jService service =
+                newService(LoadBalancingWeb3jService.Strategy.LEAST_OUTSTANDING_REQUESTS);
+        HedgingPolicy policy =
+                new HedgingPolicy(
+                        Collections.singleton("eth_getBalance"), 0.95, 1, TimeUnit.MILLISECONDS, 1);
+        service.setHedgingPolicy(policy);
+
+        EthGetBalance balance = new EthGetBalance();
+        EthGetBalance error = new EthGetBalance();
+        error.setError(new Response.Error(-32000, "header not found"));
+        AtomicBoolean hang = new AtomicBoolean();
+        List<CompletableFuture<EthGetBalance>> replies =
+                Collections.synchronizedList(new ArrayList<>());
+        Answer<CompletableFuture<EthGetBalance>> answer =
+                invocation -> {
+                    if (!hang.get()) {
+                        return CompletableFuture.completedFuture(balance);
+                    }
+                    CompletableFuture<EthGetBalance> reply = new CompletableFuture<>();
+                    replies.add(reply);
+                    return reply;
+                };
+        doAnswer(answer).when(first).sendAsync(any(), any());
+        doAnswer(answer).when(second).sendAsync(any(), any());
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES; i++) {
+            service.sendAsync(balanceRequest(), EthGetBalance.class).get();
+        }
+
+        hang.set(true);
+        CompletableFuture<EthGetBalance> reply =
+                service.sendAsync(balanceRequest(), EthGetBalance.class);
+        for (int i = 0; i < 200 && replies.size() < 2; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, replies.size());
+
+        // an error reply does not win over a request which may still succeed
+        replies.get(0).complete(error);
+        assertFalse(reply.isDone());
+        replies.get(1).complete(balance);
+        assertSame(balance, reply.get(2, TimeUnit.SECONDS));
+
+        // but is used once no request is left
+        replies.clear();
+        reply = service.sendAsync(balanceRequest(), EthGetBalance.class);
+        for (int i = 0; i < 200 && replies.size() < 2; i++) {
+            Thread.sleep(10);
+        }
+        replies.get(1).complete(error);
+        replies.get(0).completeExceptionally(new IOException("Connection reset"));
+        assertSame(error, reply.get(2, TimeUnit.SECONDS));
+        service.close();
+    }
+
+    @Test
+    void testHedgingBudget() throws Exception {
+        HedgingPolicy policy =
+                new HedgingPolicy(
+                        Collections.singleton("eth_getBalance"),
+                        0.5,
+                        0,
+                        TimeUnit.MILLISECONDS,
+                        0.1);
+        for (int i = 0; i < HedgingPolicy.MIN_SAMPLES; i++) {
+            assertEquals(-1, policy.onRequest("eth_getBalance"));
+            policy.onLatency("eth_getBalance", TimeUnit.MILLISECONDS.toNanos(i < 10 ? 1 : 50));
+        }
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(1), policy.onRequest("eth_getBalance"));
+        // latencies are kept per method
+        assertEquals(-1, policy.onRequest("eth_getLogs"));
+
+        // 22 requests so far add up to two hedges
+        assertTrue(policy.tryHedge());
+        assertTrue(policy.tryHedge());
+        assertFalse(policy.tryHedge());
+        assertEquals(2, policy.getHedgedRequests());
+        assertTrue(policy.isHedged(balanceRequest()));
+        assertFalse(policy.isHedged(blockNumberRequest()));
+    }
+
+    private LoadBalancingWeb3jService newService(LoadBalancingWeb3jService.Strategy strategy) {
+        return new LoadBalancingWeb3jService(Arrays.asList(first, second), strategy, clock::get);
+    }
+
+    private Request<?, EthBlockNumber> blockNumberRequest() {
+        return new Request<>(
+                "eth_blockNumber", Collections.<String>emptyList(), first, EthBlockNumber.class);
+    }
+
+    private <T extends Response<?>> Request<?, T> filterRequest(
+            String method, String filterId, Class<T> responseType) {
+        return new Request<>(method, Collections.singletonList(filterId), first, responseType);
+    }
+
+    private Request<?, EthGetBalance> balanceRequest() {
+        return new Request<>(
+                "eth_getBalance",
+                Arrays.asList("0x0", DefaultBlockParameterName.LATEST),
+                first,
+                EthGetBalance.class);
+    }
+
+    private static EthBlockNumber blockNumber(long number) {
+        EthBlockNumber response = new EthBlockNumber();
+        response.setResult("0x" + Long.toHexString(number));
+        return response;
+    }
+
+    private static <T> CompletableFuture<T> failed(Throwable throwable) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+}
@@ -0,0 +1,299 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.filters;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.request.Filter;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LogFilterMultiplexerTest {
+    private static final String ADDRESS = "0x2a98c5f40bfa3dee83431103c535f6fae9a8ad38";
+    private static final String OTHER_ADDRESS = "0x3f37a1c95bbc0aa6bf62e99b30b147e68dee7b43";
+    private static final String TOPIC =
+            "0x5a690ecd0cb15c1c1fd6b6f8a32df0d4f56cb41a54fea7e94020f013595de796";
+    private static final String OTHER_TOPIC =
+            "0xa9c6cbc4bd352a6940479f6d802a1001550581858b310d7f68f7bea51218cda6";
+
+    private Web3j web3j;
+    private ScheduledExecutorService executorService;
+    private ScheduledFuture<?> schedule;
+
+    @BeforeEach
+    public void setUp() {
+        web3j = mock(Web3j.class);
+        executorService = mock(ScheduledExecutorService.class);
+        schedule = mock(ScheduledFuture.class);
+        doReturn(schedule)
+                .when(executorService)
+                .scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any());
+    }
+
+    @Test
+    void sharesOnePollBetweenSubscriptions() throws Exception {
+        LogFilterMultiplexer multiplexer = new LogFilterMultiplexer(web3j, executorService, 1000);
+        blockNumbers(10, 12);
+        logsReturning(
+                log(ADDRESS.toUpperCase().replace("X", "x"), 11, TOPIC),
+                log(OTHER_ADDRESS, 12, OTHER_TOPIC, TOPIC),
+                log(ADDRESS, 12, OTHER_TOPIC));
+
+        List<Log> first = Collections.synchronizedList(new ArrayList<>());
+        List<Log> second = Collections.synchronizedList(new ArrayList<>());
+        multiplexer.subscribe(new EthFilter(null, null, ADDRESS).addSingleTopic(TOPIC), first::add);
+        multiplexer.subscribe(
+                new EthFilter(null, null, OTHER_ADDRESS)
+                        .addOptionalTopics(OTHER_TOPIC, "0x01")
+                        .addSingleTopic(TOPIC),
+                second::add);
+        assertEquals(2, multiplexer.getSubscriptionCount());
+
+        multiplexer.poll();
+
+        assertEquals(1, first.size());
+        assertEquals(11, first.get(0).getBlockNumber().intValue());
+        assertEquals(1, second.size());
+        assertEquals(OTHER_ADDRESS, second.get(0).getAddress());
+        verify(executorService, times(1))
+                .scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any());
+
+        EthFilter merged = requestedFilters(1).get(0);
+        assertEquals(Arrays.asList(ADDRESS, OTHER_ADDRESS), merged.getAddress());
+        assertEquals(BigInteger.valueOf(11), blockNumber(merged.getFromBlock()));
+        assertEquals(BigInteger.valueOf(12), blockNumber(merged.getToBlock()));
+        // the second topic is only required by one of the subscriptions
+        assertEquals(1, merged.getTopics().size());
+        assertEquals(3, ((Filter.ListTopic) merged.getTopics().get(0)).getValue().size());
+    }
+
+    @Test
+    void groupsSubscriptionsAndRequestsBlocksInRanges() throws Exception {
+        LogFilterMultiplexer multiplexer =
+                new LogFilterMultiplexer(web3j, executorService, 1000, 2);
+        blockNumbers(10, 15);
+        logsReturning();
+
+        multiplexer.subscribe(new EthFilter().addSingleTopic(TOPIC), log -> {});
+        multiplexer.subscribe(new EthFilter(null, null, ADDRESS).addNullTopic(), log -> {});
+        multiplexer.poll();
+
+        // a subscription without an address does not widen the request of one with an address
+        List<EthFilter> filters = requestedFilters(6);
+        assertEquals(Collections.singletonList(ADDRESS), filters.get(0).getAddress());
+        assertTrue(filters.get(0).getTopics().isEmpty());
+        assertNull(filters.get(1).getAddress());
+        assertEquals(TOPIC, filters.get(1).getTopics().get(0).getValue());
+        assertEquals(BigInteger.valueOf(13), blockNumber(filters.get(2).getFromBlock()));
+        assertEquals(BigInteger.valueOf(15), blockNumber(filters.get(5).getToBlock()));
+    }
+
+    @Test
+    void requestsAllLogsOnceForWildcardSubscription() throws Exception {
+        LogFilterMultiplexer multiplexer = new LogFilterMultiplexer(web3j, executorService, 1000);
+        blockNumbers(10, 12);
+        logsReturning(log(ADDRESS, 11, TOPIC), log(OTHER_ADDRESS, 12, OTHER_TOPIC));
+
+        List<Log> all = new ArrayList<>();
+        List<Log> first = new ArrayList<>();
+        multiplexer.subscribe(new EthFilter(), all::add);
+        multiplexer.subscribe(new EthFilter(null, null, ADDRESS), first::add);
+        multiplexer.poll();
+
+        EthFilter merged = requestedFilters(1).get(0);
+        assertNull(merged.getAddress());
+        assertTrue(merged.getTopics().isEmpty());
+        assertEquals(2, all.size());
+        assertEquals(1, first.size());
+    }
+
+    @Test
+    void splitsRangesReturningTooManyResults() throws Exception {
+        LogFilterMultiplexer multiplexer = new LogFilterMultiplexer(web3j, executorService, 1000);
+        blockNumbers(10, 12);
+        EthLog tooMany = new EthLog();
+        tooMany.setError(new Response.Error(-32005, "query returned more than 10000 results"));
+        EthLog logs = new EthLog();
+        logs.setResult(Collections.singletonList(log(ADDRESS, 12, TOPIC)));
+        Request<?, EthLog> tooManyRequest = requestReturning(tooMany);
+        Request<?, EthLog> logsRequest = requestReturning(logs);
+        doReturn(tooManyRequest, logsRequest, logsRequest).when(web3j).ethGetLogs(any());
+
+        List<Log> received = new ArrayList<>();
+        multiplexer.subscribe(new EthFilter(null, null, ADDRESS), received::add);
+        multiplexer.poll();
+
+        List<EthFilter> filters = requestedFilters(3);
+        assertEquals(BigInteger.valueOf(11), blockNumber(filters.get(1).getToBlock()));
+        assertEquals(BigInteger.valueOf(12), blockNumber(filters.get(2).getFromBlock()));
+        assertEquals(2, received.size());
+        assertEquals(1, multiplexer.getSubscriptionCount());
+    }
+
+    @Test
+    void endsSubscriptionsOfRejectedRequests() throws Exception {
+        LogFilterMultiplexer multiplexer = new LogFilterMultiplexer(web3j, executorService, 1000);
+        blockNumbers(10, 12);
+        EthLog rejected = new EthLog();
+        rejected.setError(new Response.Error(-32602, "invalid params"));
+        doReturn(requestReturning(rejected)).when(web3j).ethGetLogs(any());
+
+        List<Throwable> errors = new ArrayList<>();
+        multiplexer.subscribe(new EthFilter(null, null, ADDRESS), log -> {}, errors::add);
+        multiplexer.poll();
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0) instanceof FilterException);
+        assertEquals(0, multiplexer.getSubscriptionCount());
+        verify(schedule).cancel(false);
+    }
+
+    @Test
+    void deliversPastLogsInBackgroundBeforeNewLogs() throws Exception {
+        LogFilterMultiplexer multiplexer = new LogFilterMultiplexer(web3j, executorService, 1000);
+        blockNumbers(10, 12);
+        CompletableFuture<EthLog> pastLogs = new CompletableFuture<>();
+        EthLog newLogs = new EthLog();
+        newLogs.setResult(Collections.singletonList(log(ADDRESS, 11, TOPIC)));
+        Request<?, EthLog> request = requestReturning(newLogs);
+        doReturn(pastLogs).when(request).sendAsync();
+        doReturn(request).when(web3j).ethGetLogs(any());
+
+        List<Log> logs = Collections.synchronizedList(new ArrayList<>());
+        multiplexer.subscribe(
+                new EthFilter(DefaultBlockParameter.valueOf(BigInteger.valueOf(5)), null, ADDRESS),
+                logs::add);
+        assertEquals(1, multiplexer.getSubscriptionCount());
+
+        // logs of new blocks are held back until the past logs have been delivered
+        multiplexer.poll();
+        assertTrue(logs.isEmpty());
+
+        EthLog past = new EthLog();
+        past.setResult(Collections.singletonList(log(ADDRESS, 6, TOPIC)));
+        pastLogs.complete(past);
+
+        assertEquals(2, logs.size());
+        assertEquals(6, logs.get(0).getBlockNumber().intValue());
+        assertEquals(11, logs.get(1).getBlockNumber().intValue());
+        List<EthFilter> filters = requestedFilters(2);
+        assertEquals(BigInteger.valueOf(10), blockNumber(filters.get(0).getToBlock()));
+        assertEquals(BigInteger.valueOf(11), blockNumber(filters.get(1).getFromBlock()));
+    }
+
+    @Test
+    void deliversPastLogsAndStopsPollingWhenCancelled() throws Exception {
+        LogFilterMultiplexer multiplexer = new LogFilterMultiplexer(web3j, executorService, 1000);
+        blockNumbers(10);
+        logsReturning(log(ADDRESS, 4, TOPIC), log(ADDRESS, 5, TOPIC), log(ADDRESS, 7, TOPIC));
+
+        List<Log> logs = new ArrayList<>();
+        LogFilterMultiplexer.Subscription subscription =
+                multiplexer.subscribe(
+                        new EthFilter(
+                                DefaultBlockParameter.valueOf(BigInteger.valueOf(5)),
+                                DefaultBlockParameter.valueOf(BigInteger.valueOf(6)),
+                                ADDRESS),
+                        logs::add);
+
+        assertEquals(1, logs.size());
+        assertEquals(BigInteger.valueOf(6), blockNumber(requestedFilters(1).get(0).getToBlock()));
+
+        subscription.cancel();
+        assertEquals(0, multiplexer.getSubscriptionCount());
+        verify(schedule).cancel(false);
+
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> multiplexer.subscribe(new EthFilter("0xabc"), log -> {}));
+        assertEquals(
+                0,
+                LogFilterMultiplexer.mergeFilters(Collections.emptyList(), 1, 1)
+                        .getTopics()
+                        .size());
+    }
+
+    private void blockNumbers(long... numbers) throws IOException {
+        Request<?, ?>[] requests = new Request<?, ?>[numbers.length];
+        for (int i = 0; i < numbers.length; i++) {
+            EthBlockNumber response = new EthBlockNumber();
+            response.setResult("0x" + Long.toHexString(numbers[i]));
+            requests[i] = requestReturning(response);
+        }
+        doReturn(requests[0], (Object[]) Arrays.copyOfRange(requests, 1, requests.length))
+                .when(web3j)
+                .ethBlockNumber();
+    }
+
+    private void logsReturning(EthLog.LogResult<?>... logs) throws IOException {
+        EthLog ethLog = new EthLog();
+        ethLog.setResult(Arrays.asList(logs));
+        doReturn(requestReturning(ethLog)).when(web3j).ethGetLogs(any());
+    }
+
+    private List<EthFilter> requestedFilters(int count) {
+        ArgumentCaptor<EthFilter> captor = ArgumentCaptor.forClass(EthFilter.class);
+        verify(web3j, times(count)).ethGetLogs(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private static BigInteger blockNumber(DefaultBlockParameter parameter) {
+        return ((DefaultBlockParameterNumber) parameter).getBlockNumber();
+    }
+
+    private static <T extends Response<?>> Request requestReturning(T response) throws IOException {
+        Request request = mock(Request.class);
+        when(request.send()).thenReturn(response);
+        when(request.sendAsync()).thenReturn(CompletableFuture.completedFuture(response));
+        return request;
+    }
+
+    private static EthLog.LogObject log(String address, long blockNumber, String... topics) {
+        EthLog.LogObject log = new EthLog.LogObject();
+        log.setAddress(address);
+        log.setBlockNumber("0x" + Long.toHexString(blockNumber));
+        log.setTopics(Arrays.asList(topics));
+        return log;
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.core.filters;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import io.reactivex.subscribers.TestSubscriber;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LogScannerTest {
+    private static final String ADDRESS = "0x2a98c5f40bfa3dee83431103c535f6fae9a8ad38";
+    private static final String TOPIC =
+            "0x5a690ecd0cb15c1c1fd6b6f8a32df0d4f56cb41a54fea7e94020f013595de796";
+    private static final int MAX_RESULTS = 3;
+
+    private Web3j web3j;
+    private List<Log> chainLogs;
+    private List<long[]> requestedRanges;
+
+    @BeforeEach
+    public void setUp() {
+        web3j = mock(Web3j.class);
+        requestedRanges = new ArrayList<>();
+        // the node returns logs in reverse order, and errors with too many results
+        chainLogs =
+                Arrays.asList(log(5, 0), log(6, 1), log(6, 0), log(7, 0), log(8, 0), log(50, 0));
+        doAnswer(
+                        invocation -> {
+                            EthFilter filter = invocation.getArgument(0);
+                            long from = blockNumber(filter.getFromBlock());
+                            long to = blockNumber(filter.getToBlock());
+                            synchronized (requestedRanges) {
+                                requestedRanges.add(new long[] {from, to});
+                            }
+                            List<EthLog.LogResult> result = new ArrayList<>();
+                            for (int i = chainLogs.size() - 1; i >= 0; i--) {
+                                long blockNumber = chainLogs.get(i).getBlockNumber().longValue();
+                                if (blockNumber >= from && blockNumber <= to) {
+                                    result.add((EthLog.LogObject) chainLogs.get(i));
+                                }
+                            }
+                            EthLog ethLog = new EthLog();
+                            if (result.size() > MAX_RESULTS) {
+                                ethLog.setError(
+                                        new Response.Error(
+                                                -32005, "query returned more than 3 results"));
+                            } else {
+                                ethLog.setResult(result);
+                            }
+                            return requestReturning(ethLog);
+                        })
+                .when(web3j)
+                .ethGetLogs(any());
+    }
+
+    @Test
+    void scansRangeInOrderAndAdaptsChunkSize() {
+        LogScanner scanner = new LogScanner(web3j, 10, 40, 2, 4);
+        List<BigInteger> checkpoints = new ArrayList<>();
+
+        TestSubscriber<Log> subscriber =
+                scanner.scan(
+                                new EthFilter(null, null, ADDRESS).addSingleTopic(TOPIC),
+                                BigInteger.ZERO,
+                                BigInteger.valueOf(199),
+                                checkpoints::add)
+                        .test();
+        subscriber.awaitTerminalEvent();
+
+        subscriber.assertNoErrors();
+        subscriber.assertValueCount(chainLogs.size());
+        List<Log> logs = subscriber.values();
+        for (int i = 0; i < logs.size(); i++) {
+            assertEquals(chainLogs.get(i).getBlockNumber(), logs.get(i).getBlockNumber());
+        }
+        assertEquals(BigInteger.ZERO, logs.get(1).getLogIndex());
+
+        assertEquals(BigInteger.valueOf(199), checkpoints.get(checkpoints.size() - 1));
+        for (int i = 1; i < checkpoints.size(); i++) {
+            assertTrue(checkpoints.get(i).compareTo(checkpoints.get(i - 1)) > 0);
+        }
+
+        // the first chunk is split, and later chunks grow up to the maximum
+        assertTrue(requestedRanges.stream().anyMatch(range -> range[0] == 0 && range[1] == 4));
+        assertTrue(requestedRanges.stream().anyMatch(range -> range[1] - range[0] + 1 == 40));
+        assertFalse(requestedRanges.stream().anyMatch(range -> range[1] - range[0] + 1 > 40));
+    }
+
+    @Test
+    void failsOnSingleBlockOverLimitAndOtherErrors() throws Exception {
+        chainLogs = Arrays.asList(log(3, 0), log(3, 1), log(3, 2), log(3, 3));
+        TestSubscriber<Log> subscriber =
+                new LogScanner(web3j, 10, 10, 1, 4)
+                        .scan(new EthFilter(), BigInteger.ZERO, BigInteger.valueOf(9))
+                        .test();
+        subscriber.awaitTerminalEvent();
+        subscriber.assertError(FilterException.class);
+
+        EthLog invalid = new EthLog();
+        invalid.setError(new Response.Error(-32602, "invalid argument 0: hex string"));
+        assertFalse(LogScanner.isRangeTooLarge(invalid, null));
+        EthLog tooWide = new EthLog();
+        tooWide.setError(new Response.Error(-32000, "exceed maximum block range: 5000"));
+        assertTrue(LogScanner.isRangeTooLarge(tooWide, null));
+        assertTrue(LogScanner.isRangeTooLarge(null, new SocketTimeoutException()));
+        assertFalse(LogScanner.isRangeTooLarge(null, new IOException("connection refused")));
+    }
+
+    private static long blockNumber(Object parameter) {
+        return ((DefaultBlockParameterNumber) parameter).getBlockNumber().longValue();
+    }
+
+    private static Request requestReturning(EthLog response) {
+        Request request = mock(Request.class);
+        when(request.sendAsync()).thenReturn(CompletableFuture.completedFuture(response));
+        return request;
+    }
+
+    private static Log log(long blockNumber, long logIndex) {
+        EthLog.LogObject log = new EthLog.LogObject();
+        log.setAddress(ADDRESS);
+        log.setBlockNumber("0x" + Long.toHexString(blockNumber));
+        log.setLogIndex("0x" + Long.toHexString(logIndex));
+        log.setTopics(Arrays.asList(TOPIC));
+        return log;
+    }
+}
@@ -13,22 +13,33 @@
 package org.web3j.protocol.http;
 
 import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
 
 import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.OkHttpClient;
 import okhttp3.Protocol;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import okio.Buffer;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.methods.response.EthBlockNumber;
 import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.core.methods.response.NetVersion;
 import org.web3j.protocol.exceptions.ClientConnectionException;
+import org.web3j.protocol.exceptions.RateLimitExceededException;
+import org.web3j.protocol.exceptions.ResponseTooLargeException;
 import org.web3j.protocol.websocket.events.NewHeadsNotification;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -107,6 +118,238 @@ class HttpServiceTest {
         fail("No exception");
     }
 
+    @Test
+    void rateLimitedResponse() {
+        Response response =
+                new Response.Builder()
+                        .code(429)
+                        .message("")
+                        .header("Retry-After", "3")
+                        .body(ResponseBody.create("slow down", null))
+                        .request(new okhttp3.Request.Builder().url(HttpService.DEFAULT_URL).build())
+                        .protocol(Protocol.HTTP_1_1)
+                        .build();
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Mockito.when(httpClient.newCall(Mockito.any()))
+                .thenAnswer(
+                        invocation -> {
+                            Call call = Mockito.mock(Call.class);
+                            Mockito.when(call.execute()).thenReturn(response);
+                            return call;
+                        });
+        HttpService mockedHttpService = new HttpService(httpClient);
+
+        Request<String, EthBlockNumber> request =
+                new Request<>(
+                        "eth_blockNumber",
+                        Collections.emptyList(),
+                        mockedHttpService,
+                        EthBlockNumber.class);
+        RateLimitExceededException e =
+                assertThrows(
+                        RateLimitExceededException.class,
+                        () -> mockedHttpService.send(request, EthBlockNumber.class));
+        assertEquals("Invalid response received: 429; slow down", e.getMessage());
+        assertEquals(Optional.of(Duration.ofSeconds(3)), e.getRetryAfter());
+    }
+
+    @Test
+    void streamedResponse() throws IOException {
+        String content = "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":\"0x4b7\"}";
+        HttpService mockedHttpService = new HttpService(mockHttpClient(200, content));
+        mockedHttpService.setStreamResponses(true);
+
+        Request<String, EthBlockNumber> request =
+                new Request<>(
+                        "eth_blockNumber",
+                        Collections.emptyList(),
+                        mockedHttpService,
+                        EthBlockNumber.class);
+
+        EthBlockNumber ethBlockNumber = mockedHttpService.send(request, EthBlockNumber.class);
+        assertEquals(BigInteger.valueOf(1207), ethBlockNumber.getBlockNumber());
+    }
+
+    @Test
+    void streamedResponseWithRawResponses() throws IOException {
+        String content = "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":\"0x4b7\"}";
+        HttpService mockedHttpService = new HttpService(mockHttpClient(200, content, true), true);
+        mockedHttpService.setStreamResponses(true);
+        mockedHttpService.setMaxResponseBodySize(content.length());
+
+        Request<String, EthBlockNumber> request =
+                new Request<>(
+                        "eth_blockNumber",
+                        Collections.emptyList(),
+                        mockedHttpService,
+                        EthBlockNumber.class);
+
+        EthBlockNumber ethBlockNumber = mockedHttpService.send(request, EthBlockNumber.class);
+        assertEquals(BigInteger.valueOf(1207), ethBlockNumber.getBlockNumber());
+        assertEquals(content, ethBlockNumber.getRawResponse());
+    }
+
+    @Test
+    void responseExceedingMaxBodySize() {
+        String content = "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":\"0x4b7\"}";
+
+        for (boolean streamResponses : new boolean[] {false, true}) {
+            // with and without a Content-Length to check against
+            for (boolean unknownLength : new boolean[] {false, true}) {
+                HttpService mockedHttpService =
+                        new HttpService(mockHttpClient(200, content, unknownLength));
+                mockedHttpService.setStreamResponses(streamResponses);
+                mockedHttpService.setMaxResponseBodySize(content.length() - 1);
+
+                Request<String, EthBlockNumber> request =
+                        new Request<>(
+                                "eth_blockNumber",
+                                Collections.emptyList(),
+                                mockedHttpService,
+                                EthBlockNumber.class);
+
+                assertThrows(
+                        ResponseTooLargeException.class,
+                        () -> mockedHttpService.send(request, EthBlockNumber.class));
+            }
+        }
+    }
+
+    @Test
+    void sendAsyncEnqueuesCall() throws Exception {
+        String content = "{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":\"0x4b7\"}";
+        HttpService mockedHttpService = new HttpService(mockHttpClient(200, content));
+
+        Request<String, EthBlockNumber> request =
+                new Request<>(
+                        "eth_blockNumber",
+                        Collections.emptyList(),
+                        mockedHttpService,
+                        EthBlockNumber.class);
+
+        EthBlockNumber ethBlockNumber =
+                mockedHttpService.sendAsync(request, EthBlockNumber.class).get();
+        assertEquals(BigInteger.valueOf(1207), ethBlockNumber.getBlockNumber());
+    }
+
+    @Test
+    void sendAsyncFailure() {
+        HttpService mockedHttpService = new HttpService(mockHttpClient(400, "400 error"));
+
+        Request<String, EthBlockNumber> request =
+                new Request<>(
+                        "eth_blockNumber",
+                        Collections.emptyList(),
+                        mockedHttpService,
+                        EthBlockNumber.class);
+
+        ExecutionException e =
+                assertThrows(
+                        ExecutionException.class,
+                        () -> mockedHttpService.sendAsync(request, EthBlockNumber.class).get());
+        assertTrue(e.getCause() instanceof ClientConnectionException);
+    }
+
+    @Test
+    void sendBatchAsyncEnqueuesCall() throws Exception {
+        String content =
+                "[{\"id\":1,\"jsonrpc\":\"2.0\",\"result\":\"0x4b7\"},"
+                        + "{\"id\":2,\"jsonrpc\":\"2.0\",\"result\":\"0x4b8\"}]";
+        HttpService mockedHttpService = new HttpService(mockHttpClient(200, content));
+
+        BatchRequest batchRequest =
+                new BatchRequest(mockedHttpService)
+                        .add(
+                                new Request<>(
+                                        "eth_blockNumber",
+                                        Collections.emptyList(),
+                                        mockedHttpService,
+                                        EthBlockNumber.class))
+                        .add(
+                                new Request<>(
+                                        "eth_blockNumber",
+                                        Collections.emptyList(),
+                                        mockedHttpService,
+                                        EthBlockNumber.class));
+
+        BatchResponse batchResponse = mockedHttpService.sendBatchAsync(batchRequest).get();
+        assertEquals(
+                BigInteger.valueOf(1207),
+                ((EthBlockNumber) batchResponse.getResponses().get(0)).getBlockNumber());
+        assertEquals(
+                BigInteger.valueOf(1208),
+                ((EthBlockNumber) batchResponse.getResponses().get(1)).getBlockNumber());
+    }
+
+    @Test
+    void sendBatchMatchesResponsesById() throws Exception {
+        Request<?, EthBlockNumber> blockNumber =
+                new Request<>(
+                        "eth_blockNumber",
+                        Collections.emptyList(),
+                        httpService,
+                        EthBlockNumber.class);
+        Request<?, NetVersion> netVersion =
+                new Request<>(
+                        "net_version", Collections.emptyList(), httpService, NetVersion.class);
+        String content =
+                "[{\"id\":"
+                        + netVersion.getId()
+                        + ",\"jsonrpc\":\"2.0\",\"result\":\"1\"},"
+                        + "{\"id\":"
+                        + blockNumber.getId()
+                        + ",\"jsonrpc\":\"2.0\",\"result\":\"0x4b7\"}]";
+        HttpService mockedHttpService = new HttpService(mockHttpClient(200, content));
+
+        BatchResponse batchResponse =
+                mockedHttpService.sendBatch(
+                        new BatchRequest(mockedHttpService).add(blockNumber).add(netVersion));
+
+        assertEquals(
+                BigInteger.valueOf(1207),
+                ((EthBlockNumber) batchResponse.getResponses().get(0)).getBlockNumber());
+        assertEquals("1", ((NetVersion) batchResponse.getResponses().get(1)).getNetVersion());
+    }
+
+    private static OkHttpClient mockHttpClient(int code, String content) {
+        return mockHttpClient(code, content, false);
+    }
+
+    private static OkHttpClient mockHttpClient(int code, String content, boolean unknownLength) {
+        OkHttpClient httpClient = Mockito.mock(OkHttpClient.class);
+        Mockito.when(httpClient.newCall(Mockito.any()))
+                .thenAnswer(
+                        invocation -> {
+                            Response response =
+                                    new Response.Builder()
+                                            .code(code)
+                                            .message("")
+                                            .body(
+                                                    unknownLength
+                                                            ? ResponseBody.create(
+                                                                    new Buffer().writeUtf8(content),
+                                                                    null,
+                                                                    -1)
+                                                            : ResponseBody.create(content, null))
+                                            .request(invocation.getArgument(0))
+                                            .protocol(Protocol.HTTP_1_1)
+                                            .build();
+                            Call call = Mockito.mock(Call.class);
+                            Mockito.when(call.execute()).thenReturn(response);
+                            Mockito.doAnswer(
+                                            enqueue -> {
+                                                Callback callback = enqueue.getArgument(0);
+                                                callback.onResponse(call, response);
+                                                return null;
+                                            })
+                                    .when(call)
+                                    .enqueue(Mockito.any());
+
+                            return call;
+                        });
+        return httpClient;
+    }
+
     @Test
     void subscriptionNotSupported() {
         Request<Object, EthSubscribe> subscribeRequest =
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.protocol.ipc;
+
+import java.io.IOException;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.reactivex.Flowable;
+import io.reactivex.disposables.Disposable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.web3j.protocol.ObjectMapperFactory;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthSubscribe;
+import org.web3j.protocol.core.methods.response.NetVersion;
+import org.web3j.protocol.core.methods.response.Web3ClientVersion;
+import org.web3j.protocol.websocket.events.NewHeadsNotification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UnixIpcChannelServiceTest {
+
+    private final ObjectMapper objectMapper = ObjectMapperFactory.getObjectMapper();
+    private final BlockingQueue<JsonNode> received = new LinkedBlockingQueue<>();
+
+    private ServerSocketChannel server;
+    private SocketChannel node;
+    private UnixIpcChannelService service;
+
+    @BeforeEach
+    void setUp(@TempDir Path directory) throws IOException {
+        Path socketPath = directory.resolve("geth.ipc");
+        server = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+        server.bind(UnixDomainSocketAddress.of(socketPath));
+        service = new UnixIpcChannelService(socketPath.toString());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        service.close();
+        server.close();
+    }
+
+    @Test
+    void testRepliesAreMatchedToConcurrentRequests() throws Exception {
+        service.connect();
+        acceptNode();
+
+        CompletableFuture<Web3ClientVersion> clientVersion =
+                service.sendAsync(request("web3_clientVersion", 1), Web3ClientVersion.class);
+        CompletableFuture<NetVersion> netVersion =
+                service.sendAsync(request("net_version", 2), NetVersion.class);
+        assertEquals("web3_clientVersion", nextRequest().get("method").asText());
+        assertEquals("net_version", nextRequest().get("method").asText());
+        assertTrue(service.isWaitingForReply(1));
+        assertTrue(service.isWaitingForReply(2));
+
+        // replies in reverse order, the second one split across writes
+        String replies =
+                "{\"jsonrpc\":\"2.0\",\"id\":2,\"result\":\"59\"}"
+                        + "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":\"Geth/{\\\"}\"}\n";
+        writeToService(replies.substring(0, 50));
+        assertEquals("59", netVersion.get(2, TimeUnit.SECONDS).getNetVersion());
+        assertFalse(clientVersion.isDone());
+        writeToService(replies.substring(50));
+
+        assertEquals("Geth/{\"}", clientVersion.get(2, TimeUnit.SECONDS).getWeb3ClientVersion());
+        assertFalse(service.isWaitingForReply(1));
+    }
+
+    @Test
+    void testBatchRepliesInAnyOrder() throws Exception {
+        service.connect();
+        acceptNode();
+
+        BatchRequest batch = new BatchRequest(service);
+        batch.add(request("web3_clientVersion", 7))
+                .add(request("net_version", 8, NetVersion.class));
+        CompletableFuture<BatchResponse> reply = service.sendBatchAsync(batch);
+
+        JsonNode sent = nextRequest();
+        long batchId = sent.get(0).get("id").asLong();
+        assertEquals(8, sent.get(1).get("id").asLong());
+        assertEquals(7, batch.getRequests().get(0).getId());
+
+        writeToService(
+                "[{\"jsonrpc\":\"2.0\",\"id\":8,\"result\":\"59\"},"
+                        + "{\"jsonrpc\":\"2.0\",\"id\":"
+                        + batchId
+                        + ",\"result\":\"Geth\"}]");
+
+        BatchResponse response = reply.get(2, TimeUnit.SECONDS);
+        assertEquals(
+                "Geth",
+                ((Web3ClientVersion) response.getResponses().get(0)).getWeb3ClientVersion());
+        assertEquals(7, response.getResponses().get(0).getId());
+        assertEquals("59", ((NetVersion) response.getResponses().get(1)).getNetVersion());
+    }
+
+    @Test
+    void testSubscription() throws Exception {
+        service.connect();
+        acceptNode();
+
+        Request<?, EthSubscribe> subscribeRequest =
+                new Request<>(
+                        "eth_subscribe",
+                        Arrays.asList("newHeads", Collections.emptyMap()),
+                        service,
+                        EthSubscribe.class);
+        subscribeRequest.setId(3);
+        CompletableFuture<Flowable<NewHeadsNotification>> events =
+                CompletableFuture.supplyAsync(
+                        () ->
+                                service.subscribe(
+                                        subscribeRequest,
+                                        "eth_unsubscribe",
+                                        NewHeadsNotification.class),
+                        Executors.newSingleThreadExecutor());
+
+        assertEquals("eth_subscribe", nextRequest().get("method").asText());
+        writeToService(
+                "{\"jsonrpc\":\"2.0\",\"id\":3,\"result\":\"0xcd0c\"}\n"
+                        + "{\"jsonrpc\":\"2.0\",\"method\":\"eth_subscription\","
+                        + "\"params\":{\"subscription\":\"0xcd0c\","
+                        + "\"result\":{\"difficulty\":\"0xd9263f42a87\"}}}\n");
+
+        CompletableFuture<NewHeadsNotification> notification = new CompletableFuture<>();
+        Disposable disposable = events.get(2, TimeUnit.SECONDS).subscribe(notification::complete);
+        assertEquals(
+                "0xd9263f42a87",
+                notification.get(2, TimeUnit.SECONDS).getParams().getResult().getDifficulty());
+
+        disposable.dispose();
+        JsonNode unsubscribe = nextRequest();
+        assertEquals("eth_unsubscribe", unsubscribe.get("method").asText());
+        assertEquals("0xcd0c", unsubscribe.get("params").get(0).asText());
+    }
+
+    @Test
+    void testReconnectAfterConnectionIsClosed() throws Exception {
+        service.connect();
+        acceptNode();
+
+        CompletableFuture<Web3ClientVersion> reply =
+                service.sendAsync(request("web3_clientVersion", 1), Web3ClientVersion.class);
+        nextRequest();
+        node.close();
+
+        ExecutionException e =
+                assertThrows(ExecutionException.class, () -> reply.get(2, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof IOException);
+
+        CompletableFuture<Web3ClientVersion> retried =
+                CompletableFuture.supplyAsync(
+                        () -> {
+                            try {
+                                return service.send(
+                                        request("web3_clientVersion", 4), Web3ClientVersion.class);
+                            } catch (IOException ioException) {
+                                throw new RuntimeException(ioException);
+                            }
+                        });
+        acceptNode();
+        assertNotNull(nextRequest());
+        writeToService("{\"jsonrpc\":\"2.0\",\"id\":4,\"result\":\"Geth\"}");
+        assertEquals("Geth", retried.get(2, TimeUnit.SECONDS).getWeb3ClientVersion());
+    }
+
+    private Request<?, Web3ClientVersion> request(String method, long id) {
+        return request(method, id, Web3ClientVersion.class);
+    }
+
+    private <T extends Response<?>> Request<?, T> request(
+            String method, long id, Class<T> responseType) {
+        Request<?, T> request =
+                new Request<>(method, Collections.<String>emptyList(), service, responseType);
+        request.setId(id);
+        return request;
+    }
+
+    private void acceptNode() throws IOException {
+        SocketChannel accepted = server.accept();
+        node = accepted;
+        Thread reader =
+                new Thread(
+                        () -> {
+                            ByteBuffer buffer = ByteBuffer.allocate(1024);
+                            JsonMessageFramer framer = new JsonMessageFramer();
+                            try {
+                                while (accepted.read(buffer) >= 0) {
+                                    buffer.flip();
+                                    framer.feed(
+                                            buffer,
+                                            (bytes, offset, length) ->
+                                                    received.add(
+                                                            objectMapper.readTree(
+                                                                    bytes, offset, length)));
+                                    buffer.clear();
+                                }
+                            } catch (IOException e) {
+                                // the node was closed
+                            }
+                        });
+        reader.setDaemon(true);
+        reader.start();
+    }
+
+    private JsonNode nextRequest() throws InterruptedException {
+        JsonNode request = received.poll(2, TimeUnit.SECONDS);
+        assertNotNull(request, "no request was received");
+        return request;
+    }
+
+    private void writeToService(String message) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(message.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            node.write(buffer);
+        }
+    }
+}
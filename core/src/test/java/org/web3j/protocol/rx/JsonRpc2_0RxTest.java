@@ -16,7 +16,9 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -32,14 +34,19 @@ import org.mockito.stubbing.OngoingStubbing;
 import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.Web3j;
 import org.web3j.protocol.Web3jService;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.DefaultBlockParameter;
 import org.web3j.protocol.core.DefaultBlockParameterNumber;
+import org.web3j.protocol.core.JsonRpc2_0Web3j;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.methods.response.EthBlock;
 import org.web3j.protocol.core.methods.response.EthFilter;
 import org.web3j.protocol.core.methods.response.EthLog;
 import org.web3j.protocol.core.methods.response.EthUninstallFilter;
+import org.web3j.protocol.core.methods.response.Log;
 import org.web3j.protocol.core.methods.response.Transaction;
+import org.web3j.utils.Bloom;
 import org.web3j.utils.Numeric;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -106,6 +113,105 @@ class JsonRpc2_0RxTest {
         assertTrue(subscription.isDisposed());
     }
 
+    @Test
+    void testReplayBlocksFlowableInParallel() throws Exception {
+        when(web3jService.sendAsync(any(Request.class), eq(EthBlock.class)))
+                .thenAnswer(invocation -> delayedBlock(invocation.getArgument(0)));
+        when(web3jService.sendBatchAsync(any(BatchRequest.class)))
+                .thenAnswer(
+                        invocation -> {
+                            BatchRequest batchRequest = invocation.getArgument(0);
+                            List<EthBlock> responses = new ArrayList<>();
+                            for (Request<?, ?> request : batchRequest.getRequests()) {
+                                responses.add(delayedBlock(request).get());
+                            }
+                            return CompletableFuture.completedFuture(
+                                    new BatchResponse(batchRequest.getRequests(), responses));
+                        });
+
+        Flowable<EthBlock> flowable =
+                web3j.replayPastBlocksFlowable(
+                        new DefaultBlockParameterNumber(BigInteger.ZERO),
+                        new DefaultBlockParameterNumber(BigInteger.valueOf(6)),
+                        false,
+                        true,
+                        3,
+                        2);
+
+        List<BigInteger> results =
+                flowable.map(ethBlock -> ethBlock.getBlock().getNumber()).toList().blockingGet();
+
+        List<BigInteger> expected = new ArrayList<>();
+        for (int i = 0; i <= 6; i++) {
+            expected.add(BigInteger.valueOf(i));
+        }
+        assertEquals(expected, results);
+    }
+
+    @Test
+    void testReplayPastBlockLogsFlowableSkipsBlocksByBloom() throws Exception {
+        String address = "0x0981d9774a59a703db85f5eaa23672283ea31106";
+        Bloom bloom = new Bloom();
+        bloom.add(address);
+        List<EthBlock> ethBlocks = Arrays.asList(createBlock(0), createBlock(1), createBlock(2));
+        for (int i = 0; i < ethBlocks.size(); i++) {
+            ethBlocks.get(i).getBlock().setHash("0x" + i);
+            ethBlocks
+                    .get(i)
+                    .getBlock()
+                    .setLogsBloom(i == 1 ? bloom.toString() : new Bloom().toString());
+        }
+        OngoingStubbing<EthBlock> stubbing =
+                when(web3jService.send(any(Request.class), eq(EthBlock.class)));
+        for (EthBlock ethBlock : ethBlocks) {
+            stubbing = stubbing.thenReturn(ethBlock);
+        }
+
+        EthLog.LogObject log = new EthLog.LogObject();
+        log.setAddress(address);
+        EthLog ethLog = new EthLog();
+        ethLog.setResult(Collections.singletonList(log));
+        List<Request<?, ?>> logRequests = new ArrayList<>();
+        when(web3jService.sendAsync(any(Request.class), eq(EthLog.class)))
+                .thenAnswer(
+                        invocation -> {
+                            logRequests.add(invocation.getArgument(0));
+                            return CompletableFuture.completedFuture(ethLog);
+                        });
+
+        List<Log> results =
+                ((JsonRpc2_0Web3j) web3j)
+                        .replayPastBlockLogsFlowable(
+                                new DefaultBlockParameterNumber(BigInteger.ZERO),
+                                new DefaultBlockParameterNumber(BigInteger.valueOf(2)),
+                                new org.web3j.protocol.core.methods.request.EthFilter(
+                                        null, null, address))
+                        .toList()
+                        .blockingGet();
+
+        assertEquals(Collections.singletonList(log), results);
+        assertEquals(1, logRequests.size());
+        org.web3j.protocol.core.methods.request.EthFilter requested =
+                (org.web3j.protocol.core.methods.request.EthFilter)
+                        logRequests.get(0).getParams().get(0);
+        assertEquals("0x1", requested.getBlockHash());
+        assertEquals(Collections.singletonList(address), requested.getAddress());
+    }
+
+    private CompletableFuture<EthBlock> delayedBlock(Request<?, ?> request) {
+        int blockNumber = Numeric.decodeQuantity((String) request.getParams().get(0)).intValue();
+        // complete later blocks first to verify that ordering is preserved
+        return CompletableFuture.supplyAsync(
+                () -> {
+                    try {
+                        Thread.sleep((7 - blockNumber) * 10L);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return createBlock(blockNumber);
+                });
+    }
+
     @Test
     void testReplayBlocksDescendingFlowable() throws Exception {
 
@@ -184,8 +290,8 @@ class JsonRpc2_0RxTest {
         EthLog ethLog =
                 objectMapper.readValue(
                         "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":["
-                                + "\"0x31c2342b1e0b8ffda1507fbffddf213c4b3c1e819ff6a84b943faabb0ebf2403\""
-                                + "]}",
+                            + "\"0x31c2342b1e0b8ffda1507fbffddf213c4b3c1e819ff6a84b943faabb0ebf2403\""
+                            + "]}",
                         EthLog.class);
         EthUninstallFilter ethUninstallFilter =
                 objectMapper.readValue(
@@ -263,8 +369,8 @@ class JsonRpc2_0RxTest {
         EthLog ethLog =
                 objectMapper.readValue(
                         "{\"jsonrpc\":\"2.0\",\"id\":1,\"result\":["
-                                + "\"0x31c2342b1e0b8ffda1507fbffddf213c4b3c1e819ff6a84b943faabb0ebf2403\""
-                                + "]}",
+                            + "\"0x31c2342b1e0b8ffda1507fbffddf213c4b3c1e819ff6a84b943faabb0ebf2403\""
+                            + "]}",
                         EthLog.class);
         EthUninstallFilter ethUninstallFilter =
                 objectMapper.readValue(
@@ -13,29 +13,40 @@
 package org.web3j.protocol.websocket;
 
 import java.io.IOException;
+import java.math.BigInteger;
 import java.net.ConnectException;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import io.reactivex.Flowable;
 import io.reactivex.disposables.Disposable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.reactivestreams.Subscriber;
 import org.reactivestreams.Subscription;
 
+import org.web3j.protocol.ObjectMapperFactory;
 import org.web3j.protocol.core.BatchRequest;
 import org.web3j.protocol.core.BatchResponse;
 import org.web3j.protocol.core.DefaultIdProvider;
 import org.web3j.protocol.core.Request;
 import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.RpcMethods;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.protocol.core.methods.response.EthSign;
 import org.web3j.protocol.core.methods.response.EthSubscribe;
 import org.web3j.protocol.core.methods.response.NetVersion;
 import org.web3j.protocol.core.methods.response.Web3ClientVersion;
@@ -46,12 +57,16 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.atMostOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -401,6 +416,148 @@ class WebSocketServiceTest {
                 actualNotificationRef.get().getParams().getSubscription());
     }
 
+    @Test
+    void testBoundedSubscriptionDropsNewestEvents() throws Exception {
+        CountDownLatch subscribed = new CountDownLatch(1);
+        CountDownLatch consumerBlocked = new CountDownLatch(1);
+        CountDownLatch releaseConsumer = new CountDownLatch(1);
+        CountDownLatch eventsReceived = new CountDownLatch(3);
+        AtomicInteger received = new AtomicInteger();
+
+        runAsync(
+                () -> {
+                    subscribeToEvents(2, SubscriptionOverflowPolicy.DROP_NEWEST)
+                            .subscribe(
+                                    event -> {
+                                        consumerBlocked.countDown();
+                                        releaseConsumer.await(2, TimeUnit.SECONDS);
+                                        received.incrementAndGet();
+                                        eventsReceived.countDown();
+                                    });
+                    subscribed.countDown();
+                });
+        sendSubscriptionConfirmation();
+        assertTrue(subscribed.await(2, TimeUnit.SECONDS));
+
+        // the first event is taken by the consumer, the next two are buffered
+        sendWebSocketEvent();
+        assertTrue(consumerBlocked.await(2, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            sendWebSocketEvent();
+        }
+
+        // replies are still processed while the consumer is blocked
+        runAsync(() -> sendRequestAndIgnore());
+        sendGethVersionReplyWhenSent();
+
+        WebSocketSubscription<?> subscription =
+                service.getSubscriptionIdsMap().get("0xcd0c3e8af590364c09d0fa6a1210faf5");
+        assertEquals(3, subscription.getOverflowCount());
+
+        releaseConsumer.countDown();
+        assertTrue(eventsReceived.await(2, TimeUnit.SECONDS));
+        Thread.sleep(100);
+        assertEquals(3, received.get());
+    }
+
+    @Test
+    void testBoundedSubscriptionBlocksReader() throws Exception {
+        CountDownLatch subscribed = new CountDownLatch(1);
+        CountDownLatch releaseConsumer = new CountDownLatch(1);
+        CountDownLatch eventsSent = new CountDownLatch(1);
+        CountDownLatch eventsReceived = new CountDownLatch(2);
+
+        runAsync(
+                () -> {
+                    subscribeToEvents(1, SubscriptionOverflowPolicy.BLOCK)
+                            .subscribe(
+                                    event -> {
+                                        releaseConsumer.await(2, TimeUnit.SECONDS);
+                                        eventsReceived.countDown();
+                                    });
+                    subscribed.countDown();
+                });
+        sendSubscriptionConfirmation();
+        assertTrue(subscribed.await(2, TimeUnit.SECONDS));
+
+        runAsync(
+                () -> {
+                    try {
+                        sendWebSocketEvent();
+                        sendWebSocketEvent();
+                        eventsSent.countDown();
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+
+        assertFalse(eventsSent.await(300, TimeUnit.MILLISECONDS));
+        WebSocketSubscription<?> subscription =
+                service.getSubscriptionIdsMap().get("0xcd0c3e8af590364c09d0fa6a1210faf5");
+        assertEquals(1, subscription.getOverflowCount());
+
+        releaseConsumer.countDown();
+        assertTrue(eventsSent.await(2, TimeUnit.SECONDS));
+        assertTrue(eventsReceived.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testBlockingSubscriptionDoesNotBlockReaderWithoutSubscriber() throws Exception {
+        AtomicReference<Flowable<NewHeadsNotification>> events = new AtomicReference<>();
+        CountDownLatch subscribed = new CountDownLatch(1);
+        runAsync(
+                () -> {
+                    events.set(subscribeToEvents(1, SubscriptionOverflowPolicy.BLOCK));
+                    subscribed.countDown();
+                });
+        sendSubscriptionConfirmation();
+        assertTrue(subscribed.await(2, TimeUnit.SECONDS));
+
+        CountDownLatch eventsSent = new CountDownLatch(1);
+        runAsync(
+                () -> {
+                    try {
+                        for (int i = 0; i < 3; i++) {
+                            sendWebSocketEvent();
+                        }
+                        eventsSent.countDown();
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+        assertTrue(eventsSent.await(2, TimeUnit.SECONDS));
+
+        CountDownLatch releaseConsumer = new CountDownLatch(1);
+        CountDownLatch eventsReceived = new CountDownLatch(3);
+        events.get()
+                .subscribe(
+                        event -> {
+                            releaseConsumer.await(2, TimeUnit.SECONDS);
+                            eventsReceived.countDown();
+                        });
+
+        // the replayed latest event takes no space, so the buffer still holds a single event
+        CountDownLatch moreEventsSent = new CountDownLatch(1);
+        runAsync(
+                () -> {
+                    try {
+                        sendWebSocketEvent();
+                        sendWebSocketEvent();
+                        moreEventsSent.countDown();
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+        assertFalse(moreEventsSent.await(300, TimeUnit.MILLISECONDS));
+        WebSocketSubscription<?> subscription =
+                service.getSubscriptionIdsMap().get("0xcd0c3e8af590364c09d0fa6a1210faf5");
+        assertEquals(1, subscription.getOverflowCount());
+
+        releaseConsumer.countDown();
+        assertTrue(moreEventsSent.await(2, TimeUnit.SECONDS));
+        assertTrue(eventsReceived.await(2, TimeUnit.SECONDS));
+    }
+
     @Test
     void testSendUnsubscribeRequest() throws Exception {
         CountDownLatch unsubscribed = new CountDownLatch(1);
@@ -527,6 +684,180 @@ class WebSocketServiceTest {
                 "Subscription request failed with error: Error message", throwable.getMessage());
     }
 
+    @Test
+    void testReconnectRestoresSubscriptionsAndRetriesRequests() throws Exception {
+        runReconnectsImmediately();
+        WebSocketReconnectListener reconnectListener = mock(WebSocketReconnectListener.class);
+        service.setReconnectPolicy(new WebSocketReconnectPolicy(10, 100, 3, true));
+        service.setReconnectListener(reconnectListener);
+
+        CountDownLatch subscribed = new CountDownLatch(1);
+        CountDownLatch eventsReceived = new CountDownLatch(2);
+        List<String> subscriptionIds = new CopyOnWriteArrayList<>();
+        runAsync(
+                () -> {
+                    subscribeToEvents()
+                            .subscribe(
+                                    newHeadsNotification -> {
+                                        subscriptionIds.add(
+                                                newHeadsNotification.getParams().getSubscription());
+                                        eventsReceived.countDown();
+                                    });
+                    subscribed.countDown();
+                });
+        sendSubscriptionConfirmation();
+        assertTrue(subscribed.await(2, TimeUnit.SECONDS));
+        sendNewHeadEvent("0xcd0c3e8af590364c09d0fa6a1210faf5", "0x10");
+
+        Request<?, Web3ClientVersion> clientVersion =
+                new Request<>(
+                        "web3_clientVersion",
+                        Collections.<String>emptyList(),
+                        service,
+                        Web3ClientVersion.class);
+        clientVersion.setId(2);
+        Request<?, EthSendTransaction> transaction =
+                new Request<>(
+                        "eth_sendRawTransaction",
+                        Collections.singletonList("0x00"),
+                        service,
+                        EthSendTransaction.class);
+        transaction.setId(3);
+        CompletableFuture<Web3ClientVersion> clientVersionReply =
+                service.sendAsync(clientVersion, Web3ClientVersion.class);
+        CompletableFuture<EthSendTransaction> transactionReply =
+                service.sendAsync(transaction, EthSendTransaction.class);
+
+        service.onWebSocketClose();
+
+        verify(webSocketClient).reconnectBlocking();
+        verify(reconnectListener).onReconnected();
+        assertThrows(ExecutionException.class, transactionReply::get);
+        assertFalse(clientVersionReply.isDone());
+        verify(webSocketClient, times(2))
+                .send(startsWith("{\"jsonrpc\":\"2.0\",\"method\":\"web3_clientVersion\""));
+        verify(webSocketClient, times(1))
+                .send(startsWith("{\"jsonrpc\":\"2.0\",\"method\":\"eth_sendRawTransaction\""));
+
+        sendReply(lastSentRequestId("eth_subscribe"), "\"0xaaaa\"");
+        sendReply(lastSentRequestId("eth_blockNumber"), "\"0x14\"");
+        verify(reconnectListener)
+                .onBackfillRequired(BigInteger.valueOf(0x11), BigInteger.valueOf(0x14));
+
+        sendNewHeadEvent("0xaaaa", "0x15");
+        assertTrue(eventsReceived.await(2, TimeUnit.SECONDS));
+        assertEquals(
+                Arrays.asList("0xcd0c3e8af590364c09d0fa6a1210faf5", "0xaaaa"), subscriptionIds);
+        assertEquals(Collections.singleton("0xaaaa"), service.getSubscriptionIdsMap().keySet());
+
+        sendReply(2, "\"geth-version\"");
+        assertEquals("geth-version", clientVersionReply.get().getWeb3ClientVersion());
+    }
+
+    @Test
+    void testFailOutstandingRequestsWhenReconnectFails() throws Exception {
+        runReconnectsImmediately();
+        when(webSocketClient.reconnectBlocking()).thenReturn(false);
+        WebSocketReconnectListener reconnectListener = mock(WebSocketReconnectListener.class);
+        service.setReconnectPolicy(new WebSocketReconnectPolicy(10, 100, 2, true));
+        service.setReconnectListener(reconnectListener);
+
+        CompletableFuture<Web3ClientVersion> reply =
+                service.sendAsync(request, Web3ClientVersion.class);
+        service.onWebSocketClose();
+
+        verify(webSocketClient, times(2)).reconnectBlocking();
+        verify(reconnectListener).onReconnectFailed(any(ConnectException.class));
+        verify(reconnectListener, never()).onReconnected();
+        assertThrows(ExecutionException.class, reply::get);
+    }
+
+    @Test
+    void testReconnectDelayIsJitteredAndBounded() {
+        WebSocketReconnectPolicy policy = new WebSocketReconnectPolicy(100, 1000, 0, true);
+
+        for (int i = 0; i < 20; i++) {
+            long first = policy.delayMillis(1);
+            assertTrue(first >= 50 && first <= 100);
+            long third = policy.delayMillis(3);
+            assertTrue(third >= 200 && third <= 400);
+            long capped = policy.delayMillis(40);
+            assertTrue(capped >= 500 && capped <= 1000);
+        }
+        assertTrue(policy.hasAttemptsLeft(Integer.MAX_VALUE));
+        assertTrue(policy.isRetryable(request));
+        assertFalse(
+                policy.isRetryable(
+                        new Request<>(
+                                "eth_sendRawTransaction",
+                                Collections.singletonList("0x00"),
+                                service,
+                                EthSendTransaction.class)));
+        assertFalse(
+                policy.isRetryable(
+                        new Request<>(
+                                "eth_sign",
+                                Arrays.asList("0x00", "0x00"),
+                                service,
+                                EthSign.class)));
+
+        Set<String> methods = new HashSet<>(RpcMethods.READ_ONLY);
+        methods.add("eth_sign");
+        WebSocketReconnectPolicy extended =
+                new WebSocketReconnectPolicy(100, 1000, 0, true, methods);
+        assertTrue(
+                extended.isRetryable(
+                        new Request<>(
+                                "eth_sign",
+                                Arrays.asList("0x00", "0x00"),
+                                service,
+                                EthSign.class)));
+    }
+
+    private void runReconnectsImmediately() {
+        when(executorService.schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS)))
+                .then(
+                        invocation -> {
+                            invocation.getArgument(0, Runnable.class).run();
+                            return null;
+                        });
+    }
+
+    private long lastSentRequestId(String method) throws IOException {
+        ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+        verify(webSocketClient, atLeastOnce()).send(payloads.capture());
+        String payload = null;
+        for (String sent : payloads.getAllValues()) {
+            if (sent.contains("\"method\":\"" + method + "\"")) {
+                payload = sent;
+            }
+        }
+        return ObjectMapperFactory.getObjectMapper().readTree(payload).get("id").asLong();
+    }
+
+    private void sendReply(long id, String result) throws IOException {
+        service.onWebSocketMessage(
+                "{\"jsonrpc\":\"2.0\",\"id\":" + id + ",\"result\":" + result + "}");
+    }
+
+    private void sendNewHeadEvent(String subscriptionId, String number) throws IOException {
+        service.onWebSocketMessage(
+                "{"
+                        + "  \"jsonrpc\":\"2.0\","
+                        + "  \"method\":\"eth_subscription\","
+                        + "  \"params\":{"
+                        + "    \"subscription\":\""
+                        + subscriptionId
+                        + "\","
+                        + "    \"result\":{"
+                        + "      \"number\":\""
+                        + number
+                        + "\""
+                        + "    }"
+                        + "  }"
+                        + "}");
+    }
+
     private void runAsync(Runnable runnable) {
         Executors.newSingleThreadExecutor().execute(runnable);
     }
@@ -543,6 +874,40 @@ class WebSocketServiceTest {
         return service.subscribe(subscribeRequest, "eth_unsubscribe", NewHeadsNotification.class);
     }
 
+    private Flowable<NewHeadsNotification> subscribeToEvents(
+            int bufferSize, SubscriptionOverflowPolicy overflowPolicy) {
+        subscribeRequest =
+                new Request<>(
+                        "eth_subscribe",
+                        Arrays.asList("newHeads", Collections.emptyMap()),
+                        service,
+                        EthSubscribe.class);
+        subscribeRequest.setId(1);
+
+        return service.subscribe(
+                subscribeRequest,
+                "eth_unsubscribe",
+                NewHeadsNotification.class,
+                bufferSize,
+                overflowPolicy);
+    }
+
+    private void sendRequestAndIgnore() {
+        try {
+            service.send(request, Web3ClientVersion.class);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void sendGethVersionReplyWhenSent() throws Exception {
+        waitForRequestSent();
+        sendGethVersionReply();
+        while (service.isWaitingForReply(REQUEST_ID)) {
+            Thread.sleep(10);
+        }
+    }
+
     private void sendErrorReply() throws IOException {
         service.onWebSocketMessage(
                 "{"
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.tx.response;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthBlockNumber;
+import org.web3j.protocol.core.methods.response.EthGetBlockReceipts;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+import org.web3j.protocol.exceptions.TransactionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BatchingTransactionReceiptProcessorTest {
+    private static final String TRANSACTION_HASH = "0xabc1";
+    private static final String OTHER_TRANSACTION_HASH = "0xabc2";
+
+    private Web3j web3j;
+    private BatchRequest batchRequest;
+    private BatchingTransactionReceiptProcessor processor;
+
+    @BeforeEach
+    public void setUp() {
+        web3j = mock(Web3j.class);
+        batchRequest = mock(BatchRequest.class);
+        when(web3j.newBatch()).thenReturn(batchRequest);
+
+        ScheduledExecutorService executorService = mock(ScheduledExecutorService.class);
+        doReturn(mock(ScheduledFuture.class))
+                .when(executorService)
+                .scheduleAtFixedRate(any(Runnable.class), anyLong(), anyLong(), any());
+        processor = new BatchingTransactionReceiptProcessor(web3j, 100, 3, 100, executorService);
+    }
+
+    @Test
+    void resolvesPendingTransactionsFromBlockReceipts() throws Exception {
+        doReturn(requestReturning(blockNumber(10)), requestReturning(blockNumber(11)))
+                .when(web3j)
+                .ethBlockNumber();
+        doReturn(requestReturning(receiptResponse(null)))
+                .when(web3j)
+                .ethGetTransactionReceipt(any());
+        batchReturning(receiptResponse(null), receiptResponse(null));
+
+        CompletableFuture<TransactionReceipt> first =
+                processor.waitForTransactionReceiptAsync(TRANSACTION_HASH);
+        CompletableFuture<TransactionReceipt> second =
+                processor.waitForTransactionReceiptAsync(OTHER_TRANSACTION_HASH);
+        assertSame(first, processor.waitForTransactionReceiptAsync(TRANSACTION_HASH));
+
+        processor.poll();
+        assertFalse(first.isDone());
+        assertEquals(2, processor.getPendingCount());
+
+        TransactionReceipt receipt = receipt(TRANSACTION_HASH.toUpperCase().replace("X", "x"));
+        doReturn(requestReturning(blockReceipts(receipt, receipt("0xdef0"))))
+                .when(web3j)
+                .ethGetBlockReceipts(any());
+
+        processor.poll();
+
+        assertSame(receipt, first.get());
+        assertFalse(second.isDone());
+        assertEquals(1, processor.getPendingCount());
+        verify(web3j, times(1)).ethGetTransactionReceipt(TRANSACTION_HASH);
+        verify(web3j, times(1)).ethGetTransactionReceipt(OTHER_TRANSACTION_HASH);
+        verify(web3j, times(1)).ethGetBlockReceipts(any());
+    }
+
+    @Test
+    void fallsBackToBatchedRequestsWithoutBlockReceipts() throws Exception {
+        doReturn(requestReturning(blockNumber(10)), requestReturning(blockNumber(11)))
+                .when(web3j)
+                .ethBlockNumber();
+        doReturn(requestReturning(receiptResponse(null)))
+                .when(web3j)
+                .ethGetTransactionReceipt(any());
+        EthGetBlockReceipts unsupported = new EthGetBlockReceipts();
+        unsupported.setError(new Response.Error(-32601, "the method does not exist"));
+        doReturn(requestReturning(unsupported)).when(web3j).ethGetBlockReceipts(any());
+
+        CompletableFuture<TransactionReceipt> future =
+                processor.waitForTransactionReceiptAsync(TRANSACTION_HASH);
+
+        batchReturning(receiptResponse(null));
+        processor.poll();
+        processor.poll();
+
+        TransactionReceipt receipt = receipt(TRANSACTION_HASH);
+        batchReturning(receiptResponse(receipt));
+        processor.poll();
+
+        assertSame(receipt, future.get());
+        verify(web3j, times(3)).ethGetTransactionReceipt(TRANSACTION_HASH);
+        verify(web3j, times(1)).ethGetBlockReceipts(any());
+        verify(web3j, times(2)).ethBlockNumber();
+    }
+
+    @Test
+    void keepsBlockReceiptsAfterTransientError() throws Exception {
+        doReturn(
+                        requestReturning(blockNumber(10)),
+                        requestReturning(blockNumber(11)),
+                        requestReturning(blockNumber(11)))
+                .when(web3j)
+                .ethBlockNumber();
+        doReturn(requestReturning(receiptResponse(null)))
+                .when(web3j)
+                .ethGetTransactionReceipt(any());
+        batchReturning(receiptResponse(null));
+        EthGetBlockReceipts limited = new EthGetBlockReceipts();
+        limited.setError(new Response.Error(-32005, "header not found"));
+        TransactionReceipt receipt = receipt(TRANSACTION_HASH);
+        doReturn(requestReturning(limited), requestReturning(blockReceipts(receipt)))
+                .when(web3j)
+                .ethGetBlockReceipts(any());
+
+        CompletableFuture<TransactionReceipt> future =
+                processor.waitForTransactionReceiptAsync(TRANSACTION_HASH);
+        processor.poll();
+        processor.poll();
+        assertFalse(future.isDone());
+
+        processor.poll();
+
+        assertSame(receipt, future.get());
+        verify(web3j, times(2)).ethGetBlockReceipts(any());
+        verify(web3j, times(1)).ethGetTransactionReceipt(TRANSACTION_HASH);
+    }
+
+    @Test
+    void matchesBatchResponsesById() throws Exception {
+        doReturn(requestReturning(blockNumber(10))).when(web3j).ethBlockNumber();
+        doReturn(requestWithId(1)).when(web3j).ethGetTransactionReceipt(TRANSACTION_HASH);
+        doReturn(requestWithId(2)).when(web3j).ethGetTransactionReceipt(OTHER_TRANSACTION_HASH);
+
+        TransactionReceipt receipt = receipt(OTHER_TRANSACTION_HASH);
+        EthGetTransactionReceipt found = receiptResponse(receipt);
+        found.setId(2);
+        EthGetTransactionReceipt missing = receiptResponse(null);
+        missing.setId(1);
+        batchReturning(found, missing);
+
+        CompletableFuture<TransactionReceipt> first =
+                processor.waitForTransactionReceiptAsync(TRANSACTION_HASH);
+        CompletableFuture<TransactionReceipt> second =
+                processor.waitForTransactionReceiptAsync(OTHER_TRANSACTION_HASH);
+        processor.poll();
+
+        assertFalse(first.isDone());
+        assertSame(receipt, second.get());
+        assertEquals(1, processor.getPendingCount());
+    }
+
+    @Test
+    void failsTransactionsWhenReceiptIsNotAvailableInTime() throws Exception {
+        doReturn(requestReturning(blockNumber(10))).when(web3j).ethBlockNumber();
+        doReturn(requestReturning(receiptResponse(null)))
+                .when(web3j)
+                .ethGetTransactionReceipt(any());
+        batchReturning(receiptResponse(null));
+
+        CompletableFuture<TransactionReceipt> future =
+                processor.waitForTransactionReceiptAsync(TRANSACTION_HASH);
+
+        processor.poll();
+        processor.poll();
+        assertFalse(future.isDone());
+        processor.poll();
+
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof TransactionException);
+        assertEquals(
+                TRANSACTION_HASH, ((TransactionException) e.getCause()).getTransactionHash().get());
+        assertEquals(0, processor.getPendingCount());
+
+        processor.poll();
+        verify(web3j, times(3)).ethBlockNumber();
+    }
+
+    @Test
+    void failsTransactionsOnErrorResponse() throws Exception {
+        doReturn(requestReturning(blockNumber(10))).when(web3j).ethBlockNumber();
+        doReturn(requestReturning(receiptResponse(null)))
+                .when(web3j)
+                .ethGetTransactionReceipt(any());
+        EthGetTransactionReceipt error = new EthGetTransactionReceipt();
+        error.setError(new Response.Error(-32000, "invalid transaction hash"));
+        batchReturning(error);
+
+        CompletableFuture<TransactionReceipt> future =
+                processor.waitForTransactionReceiptAsync(TRANSACTION_HASH);
+        processor.poll();
+
+        ExecutionException e = assertThrows(ExecutionException.class, future::get);
+        assertTrue(e.getCause() instanceof TransactionException);
+        verify(web3j, never()).ethGetBlockReceipts(any());
+    }
+
+    @Test
+    void closeFailsOutstandingTransactions() {
+        CompletableFuture<TransactionReceipt> future =
+                processor.waitForTransactionReceiptAsync(TRANSACTION_HASH);
+
+        processor.close();
+
+        assertTrue(future.isCompletedExceptionally());
+        assertThrows(
+                TransactionException.class,
+                () -> processor.waitForTransactionReceipt(OTHER_TRANSACTION_HASH),
+                "closed processor should not accept new transactions");
+    }
+
+    private void batchReturning(Response<?>... responses) throws IOException {
+        when(batchRequest.send())
+                .thenReturn(new BatchResponse(Collections.emptyList(), Arrays.asList(responses)));
+    }
+
+    private static <T extends Response<?>> Request requestReturning(T response) {
+        Request request = mock(Request.class);
+        try {
+            when(request.send()).thenReturn(response);
+        } catch (IOException e) {
+            // this will never happen
+        }
+        return request;
+    }
+
+    private static Request requestWithId(long id) {
+        Request request = mock(Request.class);
+        when(request.getId()).thenReturn(id);
+        return request;
+    }
+
+    private static EthBlockNumber blockNumber(long number) {
+        EthBlockNumber response = new EthBlockNumber();
+        response.setResult("0x" + Long.toHexString(number));
+        return response;
+    }
+
+    private static EthGetBlockReceipts blockReceipts(TransactionReceipt... receipts) {
+        EthGetBlockReceipts response = new EthGetBlockReceipts();
+        response.setResult(Arrays.asList(receipts));
+        return response;
+    }
+
+    private static EthGetTransactionReceipt receiptResponse(TransactionReceipt receipt) {
+        EthGetTransactionReceipt response = new EthGetTransactionReceipt();
+        response.setResult(receipt);
+        return response;
+    }
+
+    private static TransactionReceipt receipt(String transactionHash) {
+        TransactionReceipt receipt = new TransactionReceipt();
+        receipt.setTransactionHash(transactionHash);
+        return receipt;
+    }
+}
@@ -13,11 +13,14 @@
 package org.web3j.utils;
 
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class AsyncTest {
 
@@ -39,4 +42,28 @@ class AsyncTest {
                             .get();
                 });
     }
+
+    @Test
+    void testRunWithExecutor() throws Exception {
+        ExecutorService executorService = Async.newVirtualThreadExecutor();
+        try {
+            assertTrue(Async.run(() -> Thread.currentThread().isVirtual(), executorService).get());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    void testSetExecutor() throws Exception {
+        ExecutorService original = Async.getExecutor();
+        ExecutorService executorService = Async.newVirtualThreadExecutor();
+        try {
+            Async.setExecutor(executorService);
+            assertSame(executorService, Async.getExecutor());
+            assertTrue(Async.run(() -> Thread.currentThread().isVirtual()).get());
+        } finally {
+            Async.setExecutor(original);
+            executorService.shutdown();
+        }
+    }
 }
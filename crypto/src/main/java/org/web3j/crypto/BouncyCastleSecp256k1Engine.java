@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.math.ec.ECAlgorithms;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.math.ec.FixedPointCombMultiplier;
+
+/** Curve arithmetic using Bouncy Castle's generic multipliers. */
+final class BouncyCastleSecp256k1Engine implements Secp256k1Engine {
+
+    private final ECPoint generator;
+
+    BouncyCastleSecp256k1Engine(ECDomainParameters domain) {
+        this.generator = domain.getG();
+    }
+
+    @Override
+    public ECPoint multiplyGenerator(BigInteger k) {
+        return new FixedPointCombMultiplier().multiply(generator, k);
+    }
+
+    @Override
+    public ECPoint sumOfTwoMultiplies(BigInteger a, ECPoint p, BigInteger b) {
+        return ECAlgorithms.sumOfTwoMultiplies(generator, a, p, b);
+    }
+}
@@ -22,6 +22,8 @@ import org.bouncycastle.crypto.signers.ECDSASigner;
 import org.bouncycastle.crypto.signers.HMacDSAKCalculator;
 import org.bouncycastle.jcajce.provider.asymmetric.ec.BCECPrivateKey;
 import org.bouncycastle.jcajce.provider.asymmetric.ec.BCECPublicKey;
+import org.bouncycastle.math.ec.ECPoint;
+import org.bouncycastle.util.BigIntegers;
 
 import org.web3j.utils.Numeric;
 
@@ -59,6 +61,66 @@ public class ECKeyPair {
         return new ECDSASignature(components[0], components[1]).toCanonicalised();
     }
 
+    /**
+     * Sign a hash with the private key of this key pair, producing the same signature as {@link
+     * #sign(byte[])} together with its recovery id.
+     *
+     * <p>The recovery id is taken from the nonce point R computed while signing, so unlike {@link
+     * Sign#createSignatureData(ECDSASignature, BigInteger, byte[])} no public key recovery is
+     * required to find it.
+     *
+     * @param messageHash the hash to sign
+     * @return {@link Sign.SignatureData} of the hash, with a v value of 27 or 28
+     */
+    public Sign.SignatureData signAndRecover(byte[] messageHash) {
+        BigInteger n = Sign.CURVE.getN();
+        BigInteger e = calculateE(n, messageHash);
+        HMacDSAKCalculator kCalculator = new HMacDSAKCalculator(new SHA256Digest());
+        kCalculator.init(n, privateKey, messageHash);
+
+        BigInteger r;
+        BigInteger s;
+        int recId;
+        do {
+            BigInteger k;
+            ECPoint p;
+            do {
+                k = kCalculator.nextK();
+                p = Sign.ENGINE.multiplyGenerator(k).normalize();
+                r = p.getAffineXCoord().toBigInteger().mod(n);
+            } while (r.signum() == 0);
+            s = BigIntegers.modOddInverse(n, k).multiply(e.add(privateKey.multiply(r))).mod(n);
+
+            // bit 0 is the parity of R's y coordinate, bit 1 is set if R's x coordinate
+            // exceeded the curve order and was reduced to obtain r
+            recId = p.getAffineYCoord().testBitZero() ? 1 : 0;
+            if (!p.getAffineXCoord().toBigInteger().equals(r)) {
+                recId |= 2;
+            }
+        } while (s.signum() == 0);
+
+        if (s.compareTo(Sign.HALF_CURVE_ORDER) > 0) {
+            // negating s corresponds to negating R, which flips the parity of its y coordinate
+            s = n.subtract(s);
+            recId ^= 1;
+        }
+
+        return new Sign.SignatureData(
+                Sign.getVFromRecId(recId),
+                Numeric.toBytesPadded(r, 32),
+                Numeric.toBytesPadded(s, 32));
+    }
+
+    private static BigInteger calculateE(BigInteger n, byte[] message) {
+        // as per ECDSASigner, the hash is truncated to the bit length of the curve order
+        int messageBitLength = message.length * 8;
+        BigInteger e = new BigInteger(1, message);
+        if (n.bitLength() < messageBitLength) {
+            e = e.shiftRight(messageBitLength - n.bitLength());
+        }
+        return e;
+    }
+
     public static ECKeyPair create(KeyPair keyPair) {
         BCECPrivateKey privateKey = (BCECPrivateKey) keyPair.getPrivate();
         BCECPublicKey publicKey = (BCECPublicKey) keyPair.getPublic();
@@ -13,6 +13,7 @@
 package org.web3j.crypto;
 
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.KeyPair;
 import java.security.KeyPairGenerator;
@@ -104,8 +105,8 @@ public class Keys {
                     Strings.zeros(PUBLIC_KEY_LENGTH_IN_HEX - publicKeyNoPrefix.length())
                             + publicKeyNoPrefix;
         }
-        String hash = Hash.sha3(publicKeyNoPrefix);
-        return hash.substring(hash.length() - ADDRESS_LENGTH_IN_HEX); // right most 160 bits
+        byte[] hash = Hash.sha3(Numeric.hexStringToByteArray(publicKeyNoPrefix));
+        return Numeric.toHexString(hash, hash.length - 20, 20, false); // right most 160 bits
     }
 
     public static byte[] getAddress(byte[] publicKey) {
@@ -122,14 +123,15 @@ public class Keys {
      */
     public static String toChecksumAddress(String address) {
         String lowercaseAddress = Numeric.cleanHexPrefix(address).toLowerCase();
-        String addressHash = Numeric.cleanHexPrefix(Hash.sha3String(lowercaseAddress));
+        byte[] addressHash = Hash.sha3(lowercaseAddress.getBytes(StandardCharsets.UTF_8));
 
         StringBuilder result = new StringBuilder(lowercaseAddress.length() + 2);
 
         result.append("0x");
 
         for (int i = 0; i < lowercaseAddress.length(); i++) {
-            if (Integer.parseInt(String.valueOf(addressHash.charAt(i)), 16) >= 8) {
+            int nibble = (addressHash[i / 2] >> ((i % 2 == 0) ? 4 : 0)) & 0xf;
+            if (nibble >= 8) {
                 result.append(String.valueOf(lowercaseAddress.charAt(i)).toUpperCase());
             } else {
                 result.append(lowercaseAddress.charAt(i));
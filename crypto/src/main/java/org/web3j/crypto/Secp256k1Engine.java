@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+
+import org.bouncycastle.crypto.params.ECDomainParameters;
+import org.bouncycastle.math.ec.ECPoint;
+
+/**
+ * Elliptic curve arithmetic used by {@link Sign} for public key derivation and recovery.
+ *
+ * <p>{@link BouncyCastleSecp256k1Engine} is used, with Bouncy Castle's constant-time comb
+ * multiplier for the generator and its interleaved GLV multiplication for recovery.
+ */
+interface Secp256k1Engine {
+
+    /**
+     * Implementations must run in constant time, as k may be a private key or signing nonce.
+     *
+     * @return {@code k * G}, where G is the curve generator
+     */
+    ECPoint multiplyGenerator(BigInteger k);
+
+    /**
+     * Only used with public scalars, such as during signature recovery.
+     *
+     * @return {@code a * G + b * p}, where G is the curve generator
+     */
+    ECPoint sumOfTwoMultiplies(BigInteger a, ECPoint p, BigInteger b);
+
+    static Secp256k1Engine create(ECDomainParameters domain) {
+        return new BouncyCastleSecp256k1Engine(domain);
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.security.SignatureException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk recovery of the senders of signed transactions.
+ *
+ * <p>Public key recovery dominates the cost of decoding signed transactions, so senders are
+ * recovered in parallel on a {@link ForkJoinPool}. Results are returned in the same order as the
+ * input, and a transaction which cannot be decoded or recovered is reported in its {@link Result}
+ * rather than failing the whole batch.
+ */
+public final class SenderRecovery {
+
+    private SenderRecovery() {}
+
+    /**
+     * Recover the senders of signed transactions on the common {@link ForkJoinPool}.
+     *
+     * @param transactions signed transactions
+     * @return the recovery result of each transaction, in input order
+     */
+    public static List<Result> recoverSenders(
+            List<? extends SignatureDataOperations> transactions) {
+        return recoverSenders(transactions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Recover the senders of signed transactions.
+     *
+     * @param transactions signed transactions
+     * @param pool pool to recover the senders on
+     * @return the recovery result of each transaction, in input order
+     */
+    public static List<Result> recoverSenders(
+            List<? extends SignatureDataOperations> transactions, ForkJoinPool pool) {
+        return recover(transactions.size(), i -> recoverSender(transactions.get(i)), pool);
+    }
+
+    /**
+     * Decode hex encoded signed transactions and recover their senders on the common {@link
+     * ForkJoinPool}.
+     *
+     * @param hexTransactions hex encoded signed transactions, as per {@link
+     *     TransactionDecoder#decode(String)}
+     * @return the recovery result of each transaction, in input order
+     */
+    public static List<Result> decodeAndRecoverSenders(List<String> hexTransactions) {
+        return decodeAndRecoverSenders(hexTransactions, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Decode hex encoded signed transactions and recover their senders.
+     *
+     * @param hexTransactions hex encoded signed transactions, as per {@link
+     *     TransactionDecoder#decode(String)}
+     * @param pool pool to decode and recover the senders on
+     * @return the recovery result of each transaction, in input order
+     */
+    public static List<Result> decodeAndRecoverSenders(
+            List<String> hexTransactions, ForkJoinPool pool) {
+        return recover(hexTransactions.size(), i -> decodeAndRecover(hexTransactions.get(i)), pool);
+    }
+
+    private static List<Result> recover(int size, IntFunction<Result> recovery, ForkJoinPool pool) {
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+
+        Result[] results = new Result[size];
+        pool.submit(
+                        () ->
+                                IntStream.range(0, size)
+                                        .parallel()
+                                        .forEach(i -> results[i] = recovery.apply(i)))
+                .join();
+        return Collections.unmodifiableList(Arrays.asList(results));
+    }
+
+    private static Result decodeAndRecover(String hexTransaction) {
+        RawTransaction transaction;
+        try {
+            transaction = TransactionDecoder.decode(hexTransaction);
+        } catch (RuntimeException e) {
+            return new Result(null, e);
+        }
+
+        if (!(transaction instanceof SignedRawTransaction)) {
+            return new Result(null, new SignatureException("Transaction is not signed"));
+        }
+        return recoverSender((SignedRawTransaction) transaction);
+    }
+
+    private static Result recoverSender(SignatureDataOperations transaction) {
+        try {
+            return new Result(transaction.getFrom(), null);
+        } catch (SignatureException | RuntimeException e) {
+            return new Result(null, e);
+        }
+    }
+
+    /** The sender recovered from a transaction, or the reason it could not be recovered. */
+    public static final class Result {
+        private final String from;
+        private final Exception error;
+
+        private Result(String from, Exception error) {
+            this.from = from;
+            this.error = error;
+        }
+
+        public boolean isSuccess() {
+            return error == null;
+        }
+
+        /**
+         * @return the hex encoded sender address, or null if it could not be recovered
+         */
+        public String getFrom() {
+            return from;
+        }
+
+        /**
+         * @return the reason the sender could not be recovered, or null
+         */
+        public Exception getError() {
+            return error;
+        }
+    }
+}
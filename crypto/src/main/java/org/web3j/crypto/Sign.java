@@ -22,9 +22,7 @@ import org.bouncycastle.asn1.x9.X9ECParameters;
 import org.bouncycastle.asn1.x9.X9IntegerConverter;
 import org.bouncycastle.crypto.ec.CustomNamedCurves;
 import org.bouncycastle.crypto.params.ECDomainParameters;
-import org.bouncycastle.math.ec.ECAlgorithms;
 import org.bouncycastle.math.ec.ECPoint;
-import org.bouncycastle.math.ec.FixedPointCombMultiplier;
 import org.bouncycastle.math.ec.custom.sec.SecP256K1Curve;
 
 import org.web3j.utils.Numeric;
@@ -55,6 +53,7 @@ public class Sign {
                     CURVE_PARAMS.getN(),
                     CURVE_PARAMS.getH());
     static final BigInteger HALF_CURVE_ORDER = CURVE_PARAMS.getN().shiftRight(1);
+    static final Secp256k1Engine ENGINE = Secp256k1Engine.create(CURVE);
 
     static final String MESSAGE_PREFIX = "\u0019Ethereum Signed Message:\n";
 
@@ -91,7 +90,6 @@ public class Sign {
     }
 
     public static SignatureData signMessage(byte[] message, ECKeyPair keyPair, boolean needToHash) {
-        BigInteger publicKey = keyPair.getPublicKey();
         byte[] messageHash;
         if (needToHash) {
             messageHash = Hash.sha3(message);
@@ -99,9 +97,7 @@ public class Sign {
             messageHash = message;
         }
 
-        ECDSASignature sig = keyPair.sign(messageHash);
-
-        return createSignatureData(sig, publicKey, messageHash);
+        return keyPair.signAndRecover(messageHash);
     }
 
     /**
@@ -220,10 +216,9 @@ public class Sign {
         // two possibilities. So it's encoded in the recId.
         ECPoint R = decompressKey(x, (recId & 1) == 1);
         //   1.4. If nR != point at infinity, then do another iteration of Step 1 (callers
-        //        responsibility).
-        if (!R.multiply(n).isInfinity()) {
-            return null;
-        }
+        //        responsibility). secp256k1 has a cofactor of 1, so every point on the curve has
+        //        order n and this always holds; the check is skipped as it costs a full point
+        //        multiplication.
         //   1.5. Compute e from M using Steps 2 and 3 of ECDSA signature verification.
         BigInteger e = new BigInteger(1, message);
         //   1.6. For k from 1 to 2 do the following.   (loop is outside this function via
@@ -244,7 +239,7 @@ public class Sign {
         BigInteger rInv = sig.r.modInverse(n);
         BigInteger srInv = rInv.multiply(sig.s).mod(n);
         BigInteger eInvrInv = rInv.multiply(eInv).mod(n);
-        ECPoint q = ECAlgorithms.sumOfTwoMultiplies(CURVE.getG(), eInvrInv, R, srInv);
+        ECPoint q = ENGINE.sumOfTwoMultiplies(eInvrInv, R, srInv);
 
         byte[] qBytes = q.getEncoded(false);
         // We remove the prefix
@@ -391,7 +386,7 @@ public class Sign {
         if (privKey.bitLength() > CURVE.getN().bitLength()) {
             privKey = privKey.mod(CURVE.getN());
         }
-        return new FixedPointCombMultiplier().multiply(CURVE.getG(), privKey);
+        return ENGINE.multiplyGenerator(privKey);
     }
 
     /**
@@ -120,30 +120,29 @@ public class TransactionEncoder {
     public static byte[] encode(RawTransaction rawTransaction, Sign.SignatureData signatureData) {
         List<RlpType> values = asRlpValues(rawTransaction, signatureData);
         RlpList rlpList = new RlpList(values);
-        byte[] encoded = RlpEncoder.encode(rlpList);
 
         if (rawTransaction.getType().isEip1559()
                 || rawTransaction.getType().isEip2930()
                 || rawTransaction.getType().isEip4844()
                 || rawTransaction.getType().isEip7702()) {
-            return ByteBuffer.allocate(encoded.length + 1)
-                    .put(rawTransaction.getType().getRlpType())
-                    .put(encoded)
-                    .array();
+            return encodeTyped(rawTransaction.getType().getRlpType(), rlpList);
         }
-        return encoded;
+        return RlpEncoder.encode(rlpList);
     }
 
     public static byte[] encode4844(RawTransaction rawTransaction) {
         List<RlpType> values = asRlpValues(rawTransaction, null);
         RlpList rlpList = (RlpList) values.get(0);
 
-        byte[] encoded = RlpEncoder.encode(rlpList);
+        return encodeTyped(rawTransaction.getType().getRlpType(), rlpList);
+    }
 
-        return ByteBuffer.allocate(encoded.length + 1)
-                .put(rawTransaction.getType().getRlpType())
-                .put(encoded)
-                .array();
+    /** Encode a typed transaction envelope directly into a single pre-sized array. */
+    private static byte[] encodeTyped(byte type, RlpList rlpList) {
+        byte[] encoded = new byte[RlpEncoder.encodedLength(rlpList) + 1];
+        encoded[0] = type;
+        RlpEncoder.encode(rlpList, encoded, 1);
+        return encoded;
     }
 
     private static byte[] longToBytes(long x) {
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.math.BigInteger;
+import java.security.SignatureException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SenderRecoveryTest {
+
+    @Test
+    public void testRecoverSenders() throws Exception {
+        Credentials other = Credentials.create(Keys.createEcKeyPair());
+        List<SignedRawTransaction> transactions = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Credentials credentials = i % 3 == 0 ? other : SampleKeys.CREDENTIALS;
+            transactions.add(
+                    (SignedRawTransaction)
+                            TransactionDecoder.decode(
+                                    Numeric.toHexString(
+                                            TransactionEncoder.signMessage(
+                                                    createTransaction(i), 1L, credentials))));
+            expected.add(credentials.getAddress());
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<SenderRecovery.Result> results = SenderRecovery.recoverSenders(transactions, pool);
+
+            assertEquals(expected.size(), results.size());
+            for (int i = 0; i < expected.size(); i++) {
+                assertTrue(results.get(i).isSuccess());
+                assertEquals(expected.get(i), results.get(i).getFrom());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testDecodeAndRecoverSendersReportsErrors() {
+        String signed =
+                Numeric.toHexString(
+                        TransactionEncoder.signMessage(
+                                createTransaction(1), SampleKeys.CREDENTIALS));
+        String unsigned = Numeric.toHexString(TransactionEncoder.encode(createTransaction(2)));
+
+        List<SenderRecovery.Result> results =
+                SenderRecovery.decodeAndRecoverSenders(
+                        Arrays.asList(signed, unsigned, "0xzz", signed));
+
+        assertEquals(4, results.size());
+        assertEquals(SampleKeys.ADDRESS, results.get(0).getFrom());
+        assertNull(results.get(0).getError());
+
+        assertFalse(results.get(1).isSuccess());
+        assertNull(results.get(1).getFrom());
+        assertTrue(results.get(1).getError() instanceof SignatureException);
+
+        assertFalse(results.get(2).isSuccess());
+        assertEquals(SampleKeys.ADDRESS, results.get(3).getFrom());
+    }
+
+    private static RawTransaction createTransaction(int nonce) {
+        return RawTransaction.createEtherTransaction(
+                BigInteger.valueOf(nonce),
+                BigInteger.ONE,
+                BigInteger.TEN,
+                "0x0add5355",
+                BigInteger.valueOf(nonce));
+    }
+}
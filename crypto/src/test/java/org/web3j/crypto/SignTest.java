@@ -53,6 +53,18 @@ public class SignTest {
         assertEquals(signatureData, (expected));
     }
 
+    @Test
+    public void testSignAndRecoverMatchesCreateSignatureData() {
+        for (int i = 0; i < 64; i++) {
+            byte[] messageHash = Hash.sha3(new byte[] {(byte) i});
+            ECDSASignature sig = SampleKeys.KEY_PAIR.sign(messageHash);
+
+            assertEquals(
+                    Sign.createSignatureData(sig, SampleKeys.PUBLIC_KEY, messageHash),
+                    SampleKeys.KEY_PAIR.signAndRecover(messageHash));
+        }
+    }
+
     @Test
     public void testSignedMessageToKey() throws SignatureException {
         Sign.SignatureData signatureData =
@@ -12,8 +12,11 @@
  */
 package org.web3j.rlp;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.List;
 
 import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_LIST;
 import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_STRING;
@@ -23,81 +26,235 @@ import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_STRING;
  *
  * <p>For the specification, refer to p16 of the <a href="http://gavwood.com/paper.pdf">yellow
  * paper</a> and <a href="https://github.com/ethereum/wiki/wiki/RLP">here</a>.
+ *
+ * <p>Values are encoded in two passes: the first computes the encoded length of every list, the
+ * second writes the encoding directly into its destination. This allows callers to encode into a
+ * pre-sized or reusable buffer via {@link #encode(RlpType, byte[], int)}, {@link #encode(RlpType,
+ * ByteBuffer)} or {@link #encode(RlpType, OutputStream)}.
  */
 public class RlpEncoder {
 
+    // prefix byte and up to four length bytes
+    private static final int MAX_HEADER_LENGTH = 1 + Integer.BYTES;
+
     public static byte[] encode(RlpType value) {
-        if (value instanceof RlpString) {
-            return encodeString((RlpString) value);
-        } else {
-            return encodeList((RlpList) value);
+        ListLengths listLengths = new ListLengths();
+        byte[] result = new byte[measure(value, listLengths)];
+        write(value, result, 0, listLengths);
+        return result;
+    }
+
+    /**
+     * Calculate the length of the RLP encoding of a value, without encoding it.
+     *
+     * @param value value to encode
+     * @return length of the encoding in bytes
+     */
+    public static int encodedLength(RlpType value) {
+        return measure(value, new ListLengths());
+    }
+
+    /**
+     * RLP encode a value into the provided array.
+     *
+     * @param value value to encode
+     * @param destination array to write the encoding to
+     * @param offset position in the array at which to start writing
+     * @return number of bytes written
+     * @throws IndexOutOfBoundsException if the encoding does not fit in the array
+     */
+    public static int encode(RlpType value, byte[] destination, int offset) {
+        ListLengths listLengths = new ListLengths();
+        int length = measure(value, listLengths);
+        if (offset < 0 || length > destination.length - offset) {
+            throw new IndexOutOfBoundsException(
+                    "RLP encoding of " + length + " bytes does not fit in destination");
         }
+        write(value, destination, offset, listLengths);
+        return length;
     }
 
-    private static byte[] encode(byte[] bytesValue, int offset) {
-        if (bytesValue.length == 1
-                && offset == OFFSET_SHORT_STRING
-                && bytesValue[0] >= (byte) 0x00
-                && bytesValue[0] <= (byte) 0x7f) {
-            return bytesValue;
-        } else if (bytesValue.length <= 55) {
-            byte[] result = new byte[bytesValue.length + 1];
-            result[0] = (byte) (offset + bytesValue.length);
-            System.arraycopy(bytesValue, 0, result, 1, bytesValue.length);
-            return result;
+    /**
+     * RLP encode a value into the provided buffer, starting at its current position. The position
+     * is advanced by the number of bytes written.
+     *
+     * @param value value to encode
+     * @param destination buffer to write the encoding to
+     * @return number of bytes written
+     * @throws BufferOverflowException if the encoding does not fit in the buffer
+     */
+    public static int encode(RlpType value, ByteBuffer destination) {
+        ListLengths listLengths = new ListLengths();
+        int length = measure(value, listLengths);
+        if (length > destination.remaining()) {
+            throw new BufferOverflowException();
+        }
+
+        if (destination.hasArray()) {
+            write(
+                    value,
+                    destination.array(),
+                    destination.arrayOffset() + destination.position(),
+                    listLengths);
+            destination.position(destination.position() + length);
         } else {
-            byte[] encodedStringLength = toMinimalByteArray(bytesValue.length);
-            byte[] result = new byte[bytesValue.length + encodedStringLength.length + 1];
-
-            result[0] = (byte) ((offset + 0x37) + encodedStringLength.length);
-            System.arraycopy(encodedStringLength, 0, result, 1, encodedStringLength.length);
-            System.arraycopy(
-                    bytesValue, 0, result, encodedStringLength.length + 1, bytesValue.length);
-            return result;
+            write(value, destination, new byte[MAX_HEADER_LENGTH], listLengths);
         }
+        return length;
+    }
+
+    /**
+     * RLP encode a value to the provided stream. Headers and string payloads are written to the
+     * stream as they are encountered, so the encoding is never held in memory as a whole.
+     *
+     * @param value value to encode
+     * @param outputStream stream to write the encoding to
+     * @return number of bytes written
+     * @throws IOException if the stream could not be written to
+     */
+    public static int encode(RlpType value, OutputStream outputStream) throws IOException {
+        ListLengths listLengths = new ListLengths();
+        int length = measure(value, listLengths);
+        write(value, outputStream, new byte[MAX_HEADER_LENGTH], listLengths);
+        return length;
     }
 
     static byte[] encodeString(RlpString value) {
-        return encode(value.getBytes(), OFFSET_SHORT_STRING);
+        return encode(value);
     }
 
-    private static byte[] toMinimalByteArray(int value) {
-        byte[] encoded = toByteArray(value);
+    static byte[] encodeList(RlpList value) {
+        return encode(value);
+    }
 
-        for (int i = 0; i < encoded.length; i++) {
-            if (encoded[i] != 0) {
-                return Arrays.copyOfRange(encoded, i, encoded.length);
+    /**
+     * Calculate the encoded length of a value, recording the payload length of every list in
+     * traversal order so that it does not need to be recalculated when writing.
+     */
+    private static int measure(RlpType value, ListLengths listLengths) {
+        if (value instanceof RlpString) {
+            byte[] bytesValue = ((RlpString) value).getBytes();
+            if (isSingleByte(bytesValue)) {
+                return 1;
             }
+            return headerLength(bytesValue.length) + bytesValue.length;
+        } else {
+            int index = listLengths.reserve();
+            int payloadLength = 0;
+            for (RlpType entry : ((RlpList) value).getValues()) {
+                payloadLength = Math.addExact(payloadLength, measure(entry, listLengths));
+            }
+            listLengths.set(index, payloadLength);
+            return Math.addExact(headerLength(payloadLength), payloadLength);
         }
+    }
 
-        return new byte[] {};
+    private static int write(RlpType value, byte[] destination, int pos, ListLengths listLengths) {
+        if (value instanceof RlpString) {
+            byte[] bytesValue = ((RlpString) value).getBytes();
+            if (isSingleByte(bytesValue)) {
+                destination[pos] = bytesValue[0];
+                return pos + 1;
+            }
+            pos = writeHeader(bytesValue.length, OFFSET_SHORT_STRING, destination, pos);
+            System.arraycopy(bytesValue, 0, destination, pos, bytesValue.length);
+            return pos + bytesValue.length;
+        } else {
+            pos = writeHeader(listLengths.next(), OFFSET_SHORT_LIST, destination, pos);
+            for (RlpType entry : ((RlpList) value).getValues()) {
+                pos = write(entry, destination, pos, listLengths);
+            }
+            return pos;
+        }
     }
 
-    private static byte[] toByteArray(int value) {
-        return new byte[] {
-            (byte) ((value >> 24) & 0xff),
-            (byte) ((value >> 16) & 0xff),
-            (byte) ((value >> 8) & 0xff),
-            (byte) (value & 0xff)
-        };
+    private static void write(
+            RlpType value, OutputStream outputStream, byte[] header, ListLengths listLengths)
+            throws IOException {
+        if (value instanceof RlpString) {
+            byte[] bytesValue = ((RlpString) value).getBytes();
+            if (isSingleByte(bytesValue)) {
+                outputStream.write(bytesValue[0]);
+            } else {
+                outputStream.write(
+                        header, 0, writeHeader(bytesValue.length, OFFSET_SHORT_STRING, header, 0));
+                outputStream.write(bytesValue);
+            }
+        } else {
+            outputStream.write(
+                    header, 0, writeHeader(listLengths.next(), OFFSET_SHORT_LIST, header, 0));
+            for (RlpType entry : ((RlpList) value).getValues()) {
+                write(entry, outputStream, header, listLengths);
+            }
+        }
     }
 
-    static byte[] encodeList(RlpList value) {
-        List<RlpType> values = value.getValues();
-        if (values.isEmpty()) {
-            return encode(new byte[] {}, OFFSET_SHORT_LIST);
+    private static void write(
+            RlpType value, ByteBuffer destination, byte[] header, ListLengths listLengths) {
+        if (value instanceof RlpString) {
+            byte[] bytesValue = ((RlpString) value).getBytes();
+            if (isSingleByte(bytesValue)) {
+                destination.put(bytesValue[0]);
+            } else {
+                destination.put(
+                        header, 0, writeHeader(bytesValue.length, OFFSET_SHORT_STRING, header, 0));
+                destination.put(bytesValue);
+            }
         } else {
-            byte[] result = new byte[0];
-            for (RlpType entry : values) {
-                result = concat(result, encode(entry));
+            destination.put(
+                    header, 0, writeHeader(listLengths.next(), OFFSET_SHORT_LIST, header, 0));
+            for (RlpType entry : ((RlpList) value).getValues()) {
+                write(entry, destination, header, listLengths);
             }
-            return encode(result, OFFSET_SHORT_LIST);
         }
     }
 
-    private static byte[] concat(byte[] b1, byte[] b2) {
-        byte[] result = Arrays.copyOf(b1, b1.length + b2.length);
-        System.arraycopy(b2, 0, result, b1.length, b2.length);
-        return result;
+    private static boolean isSingleByte(byte[] bytesValue) {
+        return bytesValue.length == 1 && bytesValue[0] >= (byte) 0x00;
+    }
+
+    private static int headerLength(int length) {
+        return length <= 55 ? 1 : 1 + lengthOfLength(length);
+    }
+
+    private static int lengthOfLength(int length) {
+        return Integer.BYTES - Integer.numberOfLeadingZeros(length) / Byte.SIZE;
+    }
+
+    private static int writeHeader(int length, int offset, byte[] destination, int pos) {
+        if (length <= 55) {
+            destination[pos] = (byte) (offset + length);
+            return pos + 1;
+        }
+
+        int lengthOfLength = lengthOfLength(length);
+        destination[pos] = (byte) ((offset + 0x37) + lengthOfLength);
+        for (int i = lengthOfLength; i > 0; i--) {
+            destination[pos + i] = (byte) (length & 0xff);
+            length >>>= 8;
+        }
+        return pos + lengthOfLength + 1;
+    }
+
+    /** Payload lengths of nested lists, in the order in which they are encountered. */
+    private static class ListLengths {
+        private int[] lengths = new int[8];
+        private int size = 0;
+        private int cursor = 0;
+
+        int reserve() {
+            if (size == lengths.length) {
+                lengths = Arrays.copyOf(lengths, size * 2);
+            }
+            return size++;
+        }
+
+        void set(int index, int length) {
+            lengths[index] = length;
+        }
+
+        int next() {
+            return lengths[cursor++];
+        }
     }
 }
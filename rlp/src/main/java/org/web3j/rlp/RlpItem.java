@@ -0,0 +1,333 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.web3j.utils.Numeric;
+
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_LIST;
+import static org.web3j.rlp.RlpDecoder.OFFSET_LONG_STRING;
+import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_LIST;
+import static org.web3j.rlp.RlpDecoder.OFFSET_SHORT_STRING;
+
+/**
+ * A read-only view of a single RLP encoded item within a byte array.
+ *
+ * <p>Unlike {@link RlpDecoder}, which copies every string and builds the complete {@link RlpList}
+ * tree up front, an item only records the position of its payload in the original buffer. The
+ * elements of a list are decoded lazily as they are iterated over, and string contents are only
+ * copied when requested via {@link #getBytes()}. The underlying buffer must therefore not be
+ * modified while views over it are in use.
+ *
+ * <pre>{@code
+ * RlpItem transaction = RlpItem.wrap(encodedTx);
+ * for (RlpItem field : transaction) {
+ *     ...
+ * }
+ * }</pre>
+ */
+public final class RlpItem implements Iterable<RlpItem> {
+
+    private final byte[] data;
+    private final int offset;
+    private final int payloadOffset;
+    private final int payloadLength;
+    private final boolean list;
+
+    private RlpItem(byte[] data, int offset, int payloadOffset, int payloadLength, boolean list) {
+        this.data = data;
+        this.offset = offset;
+        this.payloadOffset = payloadOffset;
+        this.payloadLength = payloadLength;
+        this.list = list;
+    }
+
+    /**
+     * Create a view of the RLP item encoded at the start of the provided array.
+     *
+     * @param rlpEncoded RLP encoded byte-array
+     * @return view of the first encoded item
+     */
+    public static RlpItem wrap(byte[] rlpEncoded) {
+        return wrap(rlpEncoded, 0, rlpEncoded.length);
+    }
+
+    /**
+     * Create a view of the RLP item encoded at the given position of the provided array.
+     *
+     * @param rlpEncoded array containing RLP encoded data
+     * @param offset position of the first byte of the encoded item
+     * @param length number of bytes available for the encoded item
+     * @return view of the encoded item
+     */
+    public static RlpItem wrap(byte[] rlpEncoded, int offset, int length) {
+        if (offset < 0 || length < 0 || offset + length > rlpEncoded.length) {
+            throw new IndexOutOfBoundsException("RLP invalid parameters while decoding");
+        }
+        return parse(rlpEncoded, offset, offset + length);
+    }
+
+    /**
+     * Create a view of the RLP item encoded at the current position of the provided buffer. The
+     * buffer's position is not modified. Heap buffers are read in place, other buffers are copied
+     * once.
+     *
+     * @param rlpEncoded buffer containing RLP encoded data
+     * @return view of the encoded item
+     */
+    public static RlpItem wrap(ByteBuffer rlpEncoded) {
+        if (rlpEncoded.hasArray()) {
+            return wrap(
+                    rlpEncoded.array(),
+                    rlpEncoded.arrayOffset() + rlpEncoded.position(),
+                    rlpEncoded.remaining());
+        }
+        byte[] copy = new byte[rlpEncoded.remaining()];
+        rlpEncoded.duplicate().get(copy);
+        return wrap(copy);
+    }
+
+    public boolean isList() {
+        return list;
+    }
+
+    public boolean isString() {
+        return !list;
+    }
+
+    /**
+     * @return the number of bytes occupied by this item, including its prefix
+     */
+    public int getEncodedLength() {
+        return payloadOffset + payloadLength - offset;
+    }
+
+    /**
+     * @return the position of this item's payload within the underlying array
+     */
+    public int getPayloadOffset() {
+        return payloadOffset;
+    }
+
+    /**
+     * @return the length of this item's payload
+     */
+    public int getPayloadLength() {
+        return payloadLength;
+    }
+
+    /**
+     * @return a read-only buffer over this item's payload, without copying it
+     */
+    public ByteBuffer getPayload() {
+        return ByteBuffer.wrap(data, payloadOffset, payloadLength).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * @return a read-only buffer over this item's complete encoding, without copying it
+     */
+    public ByteBuffer getEncoded() {
+        return ByteBuffer.wrap(data, offset, getEncodedLength()).slice().asReadOnlyBuffer();
+    }
+
+    /**
+     * @return a copy of this string's bytes
+     */
+    public byte[] getBytes() {
+        requireString();
+        return Arrays.copyOfRange(data, payloadOffset, payloadOffset + payloadLength);
+    }
+
+    public BigInteger asPositiveBigInteger() {
+        requireString();
+        if (payloadLength == 0) {
+            return BigInteger.ZERO;
+        }
+        return new BigInteger(1, data, payloadOffset, payloadLength);
+    }
+
+    /**
+     * Decode this string as an unsigned integer of at most 8 bytes.
+     *
+     * @return the decoded value
+     */
+    public long asLong() {
+        requireString();
+        if (payloadLength > Long.BYTES) {
+            throw new ArithmeticException("RLP value does not fit in a long");
+        }
+        long value = 0;
+        for (int i = payloadOffset; i < payloadOffset + payloadLength; i++) {
+            value = (value << 8) | (data[i] & 0xff);
+        }
+        return value;
+    }
+
+    public String asString() {
+        requireString();
+        return Numeric.toHexString(data, payloadOffset, payloadLength, true);
+    }
+
+    /**
+     * Count the elements of this list. This walks the list without decoding nested items.
+     *
+     * @return the number of elements in this list
+     */
+    public int size() {
+        requireList();
+        int count = 0;
+        for (int pos = payloadOffset, end = payloadOffset + payloadLength; pos < end; count++) {
+            pos += parse(data, pos, end).getEncodedLength();
+        }
+        return count;
+    }
+
+    /**
+     * Returns the element at the given index of this list.
+     *
+     * @param index index of the element
+     * @return view of the element
+     */
+    public RlpItem get(int index) {
+        requireList();
+        if (index >= 0) {
+            int end = payloadOffset + payloadLength;
+            for (int pos = payloadOffset, i = 0; pos < end; i++) {
+                RlpItem item = parse(data, pos, end);
+                if (i == index) {
+                    return item;
+                }
+                pos += item.getEncodedLength();
+            }
+        }
+        throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    /**
+     * Iterate over the elements of this list. Each element is decoded only when it is reached.
+     *
+     * @return iterator over the elements of this list
+     */
+    @Override
+    public Iterator<RlpItem> iterator() {
+        requireList();
+        return new Iterator<RlpItem>() {
+            private final int end = payloadOffset + payloadLength;
+            private int pos = payloadOffset;
+
+            @Override
+            public boolean hasNext() {
+                return pos < end;
+            }
+
+            @Override
+            public RlpItem next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                RlpItem item = parse(data, pos, end);
+                pos += item.getEncodedLength();
+                return item;
+            }
+        };
+    }
+
+    /**
+     * Materialise this item and all of its nested elements, as per {@link RlpDecoder}.
+     *
+     * @return the equivalent {@link RlpString} or {@link RlpList}
+     */
+    public RlpType toRlpType() {
+        if (!list) {
+            return RlpString.create(getBytes());
+        }
+        List<RlpType> values = new ArrayList<>();
+        for (RlpItem item : this) {
+            values.add(item.toRlpType());
+        }
+        return new RlpList(values);
+    }
+
+    private void requireList() {
+        if (!list) {
+            throw new IllegalStateException("RLP item is not a list");
+        }
+    }
+
+    private void requireString() {
+        if (list) {
+            throw new IllegalStateException("RLP item is not a string");
+        }
+    }
+
+    private static RlpItem parse(byte[] data, int pos, int end) {
+        if (pos >= end) {
+            throw new RuntimeException("RLP length mismatch");
+        }
+
+        int prefix = data[pos] & 0xff;
+        int payloadOffset;
+        int payloadLength;
+        boolean list;
+
+        if (prefix < OFFSET_SHORT_STRING) {
+            payloadOffset = pos;
+            payloadLength = 1;
+            list = false;
+        } else if (prefix <= OFFSET_LONG_STRING) {
+            payloadOffset = pos + 1;
+            payloadLength = prefix - OFFSET_SHORT_STRING;
+            list = false;
+        } else if (prefix < OFFSET_SHORT_LIST) {
+            int lengthOfLength = prefix - OFFSET_LONG_STRING;
+            payloadOffset = pos + 1 + lengthOfLength;
+            payloadLength = readLength(data, pos + 1, lengthOfLength, end);
+            list = false;
+        } else if (prefix <= OFFSET_LONG_LIST) {
+            payloadOffset = pos + 1;
+            payloadLength = prefix - OFFSET_SHORT_LIST;
+            list = true;
+        } else {
+            int lengthOfLength = prefix - OFFSET_LONG_LIST;
+            payloadOffset = pos + 1 + lengthOfLength;
+            payloadLength = readLength(data, pos + 1, lengthOfLength, end);
+            list = true;
+        }
+
+        if (payloadLength > end - payloadOffset) {
+            throw new RuntimeException("RLP length mismatch");
+        }
+        return new RlpItem(data, pos, payloadOffset, payloadLength, list);
+    }
+
+    private static int readLength(byte[] data, int pos, int lengthOfLength, int end) {
+        if (lengthOfLength > end - pos) {
+            throw new RuntimeException("RLP length mismatch");
+        }
+        long length = 0;
+        for (int i = 0; i < lengthOfLength; i++) {
+            length = (length << 8) | (data[pos + i] & 0xff);
+        }
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new RuntimeException("RLP too many bytes to decode");
+        }
+        return (int) length;
+    }
+}
@@ -12,12 +12,19 @@
  */
 package org.web3j.rlp;
 
+import java.io.ByteArrayOutputStream;
 import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class RlpEncoderTest {
 
@@ -164,4 +171,99 @@ public class RlpEncoderTest {
         System.arraycopy(encodeMe, 0, expectedEncoding, 1, encodeMe.length);
         assertArrayEquals(RlpEncoder.encode(RlpString.create(encodeMe)), (expectedEncoding));
     }
+
+    @Test
+    public void testEncodeLongList() {
+        List<RlpType> values = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            values.add(new RlpList(RlpString.create(i), RlpString.create("value" + i)));
+        }
+        RlpList list = new RlpList(values);
+
+        byte[] encoded = RlpEncoder.encode(list);
+        assertEquals(encoded.length, RlpEncoder.encodedLength(list));
+        assertArrayEquals(
+                RlpEncoder.encode(RlpDecoder.decode(encoded).getValues().get(0)), encoded);
+    }
+
+    @Test
+    public void testEncodeIntoArray() {
+        RlpList list = new RlpList(RlpString.create("cat"), RlpString.create("dog"));
+        byte[] expected = RlpEncoder.encode(list);
+
+        byte[] destination = new byte[expected.length + 1];
+        destination[0] = 0x02;
+        assertEquals(expected.length, RlpEncoder.encode(list, destination, 1));
+        assertEquals(0x02, destination[0]);
+        assertArrayEquals(expected, Arrays.copyOfRange(destination, 1, destination.length));
+
+        assertThrows(
+                IndexOutOfBoundsException.class,
+                () -> RlpEncoder.encode(list, new byte[expected.length], 1));
+    }
+
+    @Test
+    public void testEncodeIntoByteBuffer() {
+        RlpList list = new RlpList(RlpString.create("cat"), RlpString.create("dog"));
+        byte[] expected = RlpEncoder.encode(list);
+
+        ByteBuffer heap = ByteBuffer.allocate(expected.length * 2);
+        RlpEncoder.encode(list, heap);
+        RlpEncoder.encode(list, heap);
+        assertEquals(heap.capacity(), heap.position());
+        assertArrayEquals(
+                expected, Arrays.copyOfRange(heap.array(), expected.length, heap.capacity()));
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(expected.length);
+        assertEquals(expected.length, RlpEncoder.encode(list, direct));
+        byte[] written = new byte[expected.length];
+        ((ByteBuffer) direct.flip()).get(written);
+        assertArrayEquals(expected, written);
+
+        assertThrows(
+                BufferOverflowException.class,
+                () -> RlpEncoder.encode(list, ByteBuffer.allocate(expected.length - 1)));
+    }
+
+    @Test
+    public void testEncodeToOutputStream() throws Exception {
+        RlpString value = RlpString.create(BigInteger.valueOf(1024));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertEquals(3, RlpEncoder.encode(value, outputStream));
+        assertArrayEquals(RlpEncoder.encode(value), outputStream.toByteArray());
+    }
+
+    @Test
+    public void testEncodeToOutputStreamWithoutBuffering() throws Exception {
+        byte[] blob = new byte[131072];
+        Arrays.fill(blob, (byte) 0x42);
+        RlpList list =
+                new RlpList(
+                        RlpString.create(1),
+                        new RlpList(RlpString.create(blob), RlpString.create("cat")),
+                        RlpString.create(blob));
+        byte[] expected = RlpEncoder.encode(list);
+
+        int[] largestWrite = new int[1];
+        ByteArrayOutputStream outputStream =
+                new ByteArrayOutputStream() {
+                    @Override
+                    public synchronized void write(byte[] b, int off, int len) {
+                        largestWrite[0] = Math.max(largestWrite[0], len);
+                        super.write(b, off, len);
+                    }
+                };
+
+        assertEquals(expected.length, RlpEncoder.encode(list, outputStream));
+        assertArrayEquals(expected, outputStream.toByteArray());
+        // payloads are written as they are, not as part of a buffered encoding
+        assertEquals(blob.length, largestWrite[0]);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(expected.length);
+        assertEquals(expected.length, RlpEncoder.encode(list, direct));
+        byte[] written = new byte[expected.length];
+        ((ByteBuffer) direct.flip()).get(written);
+        assertArrayEquals(expected, written);
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.rlp;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.web3j.utils.Numeric;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RlpItemTest {
+
+    @Test
+    public void testString() {
+        RlpItem item = RlpItem.wrap(new byte[] {(byte) 0x83, 'd', 'o', 'g'});
+
+        assertTrue(item.isString());
+        assertArrayEquals("dog".getBytes(), item.getBytes());
+        assertEquals(1, item.getPayloadOffset());
+        assertEquals(3, item.getPayloadLength());
+        assertEquals(4, item.getEncodedLength());
+        assertEquals(RlpString.create("dog"), item.toRlpType());
+    }
+
+    @Test
+    public void testSingleByteAndEmptyString() {
+        assertEquals(0x0f, RlpItem.wrap(new byte[] {0x0f}).asLong());
+        assertEquals(
+                BigInteger.ZERO, RlpItem.wrap(new byte[] {(byte) 0x80}).asPositiveBigInteger());
+        assertEquals(0, RlpItem.wrap(new byte[] {(byte) 0x80}).getBytes().length);
+    }
+
+    @Test
+    public void testLongString() {
+        byte[] value = new byte[1024];
+        Arrays.fill(value, (byte) 0x7a);
+        byte[] encoded = RlpEncoder.encode(RlpString.create(value));
+
+        RlpItem item = RlpItem.wrap(encoded);
+        assertEquals(1024, item.getPayloadLength());
+        assertArrayEquals(value, item.getBytes());
+    }
+
+    @Test
+    public void testNumbers() {
+        BigInteger value = new BigInteger("3000000000");
+        RlpItem item = RlpItem.wrap(RlpEncoder.encode(RlpString.create(value)));
+
+        assertEquals(value, item.asPositiveBigInteger());
+        assertEquals(3000000000L, item.asLong());
+        assertEquals("0xb2d05e00", item.asString());
+    }
+
+    @Test
+    public void testNestedLists() {
+        // [ [], [[]], [ [], [[]] ] ]
+        byte[] encoded = Numeric.hexStringToByteArray("0xc7c0c1c0c3c0c1c0");
+        RlpItem item = RlpItem.wrap(encoded);
+
+        assertTrue(item.isList());
+        assertEquals(3, item.size());
+        assertEquals(0, item.get(0).size());
+        assertEquals(1, item.get(1).size());
+        assertEquals(2, item.get(2).size());
+        assertTrue(item.get(2).get(1).get(0).isList());
+
+        RlpType expected = RlpDecoder.decode(encoded).getValues().get(0);
+        assertArrayEquals(RlpEncoder.encode(expected), RlpEncoder.encode(item.toRlpType()));
+    }
+
+    @Test
+    public void testIterator() {
+        // The list [ "cat", "dog" ]
+        byte[] encoded = {(byte) 0xc8, (byte) 0x83, 'c', 'a', 't', (byte) 0x83, 'd', 'o', 'g'};
+
+        List<String> values = new ArrayList<>();
+        for (RlpItem item : RlpItem.wrap(encoded)) {
+            values.add(new String(item.getBytes()));
+        }
+        assertEquals(Arrays.asList("cat", "dog"), values);
+
+        Iterator<RlpItem> iterator = RlpItem.wrap(new byte[] {(byte) 0xc0}).iterator();
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testWrapWithOffset() {
+        // typed transaction envelope: type byte followed by the RLP list
+        byte[] encoded = {0x02, (byte) 0xc4, (byte) 0x83, 'd', 'o', 'g'};
+
+        RlpItem item = RlpItem.wrap(encoded, 1, encoded.length - 1);
+        assertEquals(1, item.size());
+        assertArrayEquals("dog".getBytes(), item.get(0).getBytes());
+        assertEquals(3, item.get(0).getPayloadOffset());
+
+        ByteBuffer payload = item.get(0).getPayload();
+        assertEquals(3, payload.remaining());
+        assertEquals('d', payload.get(0));
+    }
+
+    @Test
+    public void testWrapByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[] {0x00, (byte) 0x83, 'd', 'o', 'g'});
+        buffer.position(1);
+        assertArrayEquals("dog".getBytes(), RlpItem.wrap(buffer).getBytes());
+        assertEquals(1, buffer.position());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(4);
+        direct.put(new byte[] {(byte) 0x83, 'd', 'o', 'g'}).flip();
+        assertArrayEquals("dog".getBytes(), RlpItem.wrap(direct).getBytes());
+    }
+
+    @Test
+    public void testInvalidEncoding() {
+        assertThrows(
+                RuntimeException.class, () -> RlpItem.wrap(new byte[] {(byte) 0x83, 'd', 'o'}));
+        assertThrows(
+                RuntimeException.class,
+                () -> RlpItem.wrap(new byte[] {(byte) 0xc4, (byte) 0x83, 'd', 'o'}).size());
+        assertThrows(
+                IllegalStateException.class,
+                () -> RlpItem.wrap(new byte[] {(byte) 0xc0}).getBytes());
+        assertThrows(IndexOutOfBoundsException.class, () -> RlpItem.wrap(new byte[] {}, 0, 1));
+    }
+}
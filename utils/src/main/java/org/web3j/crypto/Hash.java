@@ -12,21 +12,26 @@
  */
 package org.web3j.crypto;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.bouncycastle.crypto.digests.SHA512Digest;
 import org.bouncycastle.crypto.macs.HMac;
 import org.bouncycastle.crypto.params.KeyParameter;
 import org.bouncycastle.jcajce.provider.digest.Blake2b;
-import org.bouncycastle.jcajce.provider.digest.Keccak;
 
 import org.web3j.utils.Numeric;
 
 /** Cryptographic hash functions. */
 public class Hash {
+    private static final ThreadLocal<Keccak256> KECCAK_256 =
+            ThreadLocal.withInitial(Keccak256::new);
+
     private Hash() {}
 
     /**
@@ -67,9 +72,53 @@ public class Hash {
      * @return hash value
      */
     public static byte[] sha3(byte[] input, int offset, int length) {
-        Keccak.DigestKeccak kecc = new Keccak.Digest256();
-        kecc.update(input, offset, length);
-        return kecc.digest();
+        return keccak256().update(input, offset, length).digest();
+    }
+
+    /**
+     * Keccak-256 hash function which writes the hash into the given buffer.
+     *
+     * @param input binary encoded input data
+     * @param offset of start of data
+     * @param length of data
+     * @param output buffer to write the hash to
+     * @param outputOffset offset in the buffer to write the 32 byte hash at
+     */
+    public static void sha3(byte[] input, int offset, int length, byte[] output, int outputOffset) {
+        keccak256().update(input, offset, length).doFinal(output, outputOffset);
+    }
+
+    /**
+     * Keccak-256 hash function over the remaining bytes of a buffer. The position of the buffer is
+     * advanced to its limit.
+     *
+     * @param input binary encoded input data
+     * @return hash value
+     */
+    public static byte[] sha3(ByteBuffer input) {
+        return keccak256().update(input).digest();
+    }
+
+    /**
+     * Keccak-256 hash function applied to each of the given inputs.
+     *
+     * @param inputs binary encoded input data
+     * @return hash value of each input, in the same order
+     */
+    public static List<byte[]> sha3Batch(List<byte[]> inputs) {
+        Keccak256 keccak = keccak256();
+        List<byte[]> hashes = new ArrayList<>(inputs.size());
+        for (byte[] input : inputs) {
+            hashes.add(keccak.update(input).digest());
+        }
+        return hashes;
+    }
+
+    private static Keccak256 keccak256() {
+        Keccak256 keccak = KECCAK_256.get();
+        // discard any input left over from a call which failed part way through
+        keccak.reset();
+        return keccak;
     }
 
     /**
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.crypto;
+
+import java.nio.ByteBuffer;
+
+import org.bouncycastle.crypto.digests.KeccakDigest;
+
+/**
+ * A reusable Keccak-256 digest.
+ *
+ * <p>Input may be supplied over any number of {@code update} calls, from byte arrays or {@link
+ * ByteBuffer}s, and the hash is written into a caller supplied buffer. The digest is reset after
+ * each hash is produced, so a single instance can be used to hash many inputs:
+ *
+ * <pre>{@code
+ * Keccak256 keccak = new Keccak256();
+ * byte[] hash = new byte[Keccak256.DIGEST_LENGTH];
+ * keccak.update(header).update(body).doFinal(hash, 0);
+ * }</pre>
+ *
+ * <p>Instances are not thread safe. {@link Hash#sha3(byte[])} and related methods use an instance
+ * per thread.
+ */
+public final class Keccak256 {
+
+    public static final int DIGEST_LENGTH = 32;
+
+    private static final int BUFFER_SIZE = 256;
+
+    private final KeccakDigest digest = new KeccakDigest(256);
+    private byte[] buffer;
+
+    public Keccak256 update(byte input) {
+        digest.update(input);
+        return this;
+    }
+
+    public Keccak256 update(byte[] input) {
+        digest.update(input, 0, input.length);
+        return this;
+    }
+
+    public Keccak256 update(byte[] input, int offset, int length) {
+        digest.update(input, offset, length);
+        return this;
+    }
+
+    /**
+     * Update the digest with the remaining bytes of a buffer, advancing its position to its limit.
+     *
+     * @param input data to add to the digest
+     * @return this digest
+     */
+    public Keccak256 update(ByteBuffer input) {
+        if (input.hasArray()) {
+            digest.update(input.array(), input.arrayOffset() + input.position(), input.remaining());
+            input.position(input.limit());
+        } else {
+            if (buffer == null) {
+                buffer = new byte[BUFFER_SIZE];
+            }
+            while (input.hasRemaining()) {
+                int length = Math.min(input.remaining(), buffer.length);
+                input.get(buffer, 0, length);
+                digest.update(buffer, 0, length);
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Write the hash of the input supplied since the last reset, and reset the digest.
+     *
+     * @param output buffer to write the hash to
+     * @param offset offset in the buffer to write {@link #DIGEST_LENGTH} bytes at
+     * @return the number of bytes written
+     */
+    public int doFinal(byte[] output, int offset) {
+        return digest.doFinal(output, offset);
+    }
+
+    /**
+     * @return the hash of the input supplied since the last reset, resetting the digest
+     */
+    public byte[] digest() {
+        byte[] output = new byte[DIGEST_LENGTH];
+        digest.doFinal(output, 0);
+        return output;
+    }
+
+    /** Discard any input supplied since the last hash was produced. */
+    public void reset() {
+        digest.reset();
+    }
+}
@@ -213,5 +213,18 @@ public class Bloom {
         return new BloomValues(new byte[] {v1, v2, v3}, new int[] {i1, i2, i3});
     }
 
+    /**
+     * @return the three bit positions set by an item, counting from the least significant bit of
+     *     the filter
+     */
+    static int[] bitPositions(byte[] item) {
+        ByteBuffer byteBuffer = ByteBuffer.wrap(Hash.sha3(item)).order(ByteOrder.BIG_ENDIAN);
+        return new int[] {
+            byteBuffer.getShort(0) & 0x7ff,
+            byteBuffer.getShort(2) & 0x7ff,
+            byteBuffer.getShort(4) & 0x7ff
+        };
+    }
+
     private record BloomValues(byte[] value, int[] index) {}
 }
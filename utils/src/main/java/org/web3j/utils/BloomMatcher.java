@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025 Web3 Labs Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.web3j.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A {@link Bloom} test for a set of log criteria, compiled once and applied to many filters.
+ *
+ * <p>The three bits set by each address and topic are computed when the matcher is created, so
+ * testing a block or transaction receipt logs bloom requires no hashing, only a word-wise
+ * comparison of the filter. A filter can only contain logs matching the criteria if it contains at
+ * least one of the addresses, and for each topic position at least one of the topics.
+ *
+ * <p>As with any bloom filter, a match may be a false positive, but a filter which does not match
+ * cannot contain a matching log.
+ */
+public final class BloomMatcher {
+
+    private static final int WORDS = 2048 / Long.SIZE;
+    private static final int HEX_LENGTH = 512;
+
+    /** For each required group, the word index and mask of each alternative's bits. */
+    private final int[][] words;
+
+    private final long[][] masks;
+
+    private BloomMatcher(List<List<byte[]>> groups) {
+        words = new int[groups.size()][];
+        masks = new long[groups.size()][];
+        for (int g = 0; g < groups.size(); g++) {
+            List<byte[]> alternatives = groups.get(g);
+            words[g] = new int[alternatives.size() * 3];
+            masks[g] = new long[alternatives.size() * 3];
+            for (int a = 0; a < alternatives.size(); a++) {
+                int[] bits = Bloom.bitPositions(alternatives.get(a));
+                for (int b = 0; b < 3; b++) {
+                    // bit 0 is the least significant bit of the last word
+                    words[g][a * 3 + b] = WORDS - 1 - bits[b] / Long.SIZE;
+                    masks[g][a * 3 + b] = 1L << (bits[b] % Long.SIZE);
+                }
+            }
+        }
+    }
+
+    /**
+     * Compile a matcher for log criteria, in the form used by {@code eth_getLogs}.
+     *
+     * @param addresses hex encoded addresses a log may be emitted by, or null or empty for any
+     *     address
+     * @param topics for each topic position, the hex encoded topics a log may have at that
+     *     position, or null or empty for any topic
+     * @return the compiled matcher
+     */
+    public static BloomMatcher of(List<String> addresses, List<List<String>> topics) {
+        List<List<byte[]>> groups = new ArrayList<>();
+        addGroup(groups, addresses);
+        if (topics != null) {
+            for (List<String> position : topics) {
+                addGroup(groups, position);
+            }
+        }
+        return new BloomMatcher(groups);
+    }
+
+    /**
+     * Compile a matcher for logs with the given topics, as per {@link Bloom#test(String,
+     * String...)}.
+     *
+     * @param topics hex encoded addresses or topics, all of which are required
+     * @return the compiled matcher
+     */
+    public static BloomMatcher allOf(String... topics) {
+        List<List<String>> required = new ArrayList<>();
+        for (String topic : topics) {
+            required.add(Collections.singletonList(topic));
+        }
+        return of(null, required);
+    }
+
+    private static void addGroup(List<List<byte[]>> groups, List<String> values) {
+        if (values == null || values.isEmpty() || values.contains(null)) {
+            return;
+        }
+        List<byte[]> group = new ArrayList<>(values.size());
+        for (String value : values) {
+            group.add(Numeric.hexStringToByteArray(value));
+        }
+        groups.add(group);
+    }
+
+    /**
+     * Test a logs bloom, such as that of a block or transaction receipt.
+     *
+     * @param logsBloom hex encoded 256 byte logs bloom
+     * @return false if the logs bloom cannot contain a matching log, true if it may, or if it is
+     *     null or malformed
+     */
+    public boolean mayMatch(String logsBloom) {
+        if (words.length == 0 || logsBloom == null) {
+            return true;
+        }
+        String hex = Numeric.cleanHexPrefix(logsBloom);
+        if (hex.length() != HEX_LENGTH) {
+            return true;
+        }
+
+        long[] filter = new long[WORDS];
+        try {
+            for (int i = 0; i < WORDS; i++) {
+                filter[i] = Long.parseUnsignedLong(hex, i * 16, i * 16 + 16, 16);
+            }
+        } catch (NumberFormatException e) {
+            return true;
+        }
+        return mayMatch(filter);
+    }
+
+    /**
+     * Test a logs bloom.
+     *
+     * @param logsBloom 256 byte logs bloom
+     * @return false if the logs bloom cannot contain a matching log, otherwise true
+     * @throws IllegalArgumentException if logsBloom is not 256 bytes long
+     */
+    public boolean mayMatch(byte[] logsBloom) {
+        if (logsBloom == null || logsBloom.length != WORDS * Long.BYTES) {
+            throw new IllegalArgumentException("logsBloom must be 256 in length");
+        }
+        long[] filter = new long[WORDS];
+        for (int i = 0; i < logsBloom.length; i++) {
+            filter[i / Long.BYTES] = (filter[i / Long.BYTES] << 8) | (logsBloom[i] & 0xff);
+        }
+        return mayMatch(filter);
+    }
+
+    private boolean mayMatch(long[] filter) {
+        for (int g = 0; g < words.length; g++) {
+            if (!anyPresent(filter, words[g], masks[g])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean anyPresent(long[] filter, int[] words, long[] masks) {
+        for (int i = 0; i < words.length; i += 3) {
+            if ((filter[words[i]] & masks[i]) != 0
+                    && (filter[words[i + 1]] & masks[i + 1]) != 0
+                    && (filter[words[i + 2]] & masks[i + 2]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -12,14 +12,26 @@
  */
 package org.web3j.crypto;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import org.web3j.utils.Numeric;
+
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.web3j.utils.Numeric.asByte;
 
 public class HashTest {
 
+    private static final String EMPTY_HASH =
+            "0xc5d2460186f7233c927e7db2dcc703c0e500b653ca82273b7bfad8045d85a470";
+    private static final String HELLO_WORLD_HASH =
+            "0x47173285a8d7341e5e972fc677286384f802f8ef42a5ec5f03bbfa254cb01fad";
+
     @Test
     public void testSha3() {
         byte[] input =
@@ -99,6 +111,37 @@ public class HashTest {
                 ("0x953d0c27f84a9649b0e121099ffa9aeb7ed83e65eaed41d3627f895790c72d41"));
     }
 
+    @Test
+    public void testSha3Streaming() {
+        byte[] expected = Numeric.hexStringToByteArray(HELLO_WORLD_HASH);
+        byte[] input = "hello world".getBytes(StandardCharsets.UTF_8);
+
+        Keccak256 keccak = new Keccak256();
+        keccak.update(input, 0, 5).update((byte) ' ').update(input, 6, 5);
+        assertArrayEquals(expected, keccak.digest());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(input.length + 2);
+        direct.put((byte) 0).put(input).flip().position(1);
+        assertArrayEquals(expected, keccak.update(direct).digest());
+        assertEquals(direct.limit(), direct.position());
+        assertArrayEquals(expected, Hash.sha3(ByteBuffer.wrap(input)));
+
+        byte[] output = new byte[Keccak256.DIGEST_LENGTH + 1];
+        Hash.sha3(input, 0, input.length, output, 1);
+        assertArrayEquals(expected, Arrays.copyOfRange(output, 1, output.length));
+    }
+
+    @Test
+    public void testSha3Batch() {
+        List<byte[]> hashes =
+                Hash.sha3Batch(
+                        Arrays.asList(new byte[0], "hello world".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, hashes.size());
+        assertEquals(EMPTY_HASH, Numeric.toHexString(hashes.get(0)));
+        assertEquals(HELLO_WORLD_HASH, Numeric.toHexString(hashes.get(1)));
+    }
+
     @Test
     public void testByte() {
         assertEquals(asByte(0x0, 0x0), ((byte) 0x0));
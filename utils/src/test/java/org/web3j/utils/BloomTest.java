@@ -2239,4 +2239,47 @@ public class BloomTest {
                 Bloom.test(ethereumSampleLogsBloom, "0x10101121", "0xffffffffffccccaa112", "0xff");
         assertFalse(result, "expected to return false (but false-positive is possible)");
     }
+
+    @Test
+    public void testBloomMatcherAgreesWithBloom() {
+        for (String topic : ethereumSampleLogs) {
+            assertTrue(BloomMatcher.allOf(topic).mayMatch(ethereumSampleLogsBloom));
+        }
+        assertFalse(
+                BloomMatcher.allOf(ethereumSampleLogs.get(0), "0xff")
+                        .mayMatch(ethereumSampleLogsBloom));
+        assertTrue(
+                BloomMatcher.allOf(ethereumSampleLogs.get(0), ethereumSampleLogs.get(1))
+                        .mayMatch(Numeric.hexStringToByteArray(ethereumSampleLogsBloom)));
+
+        Bloom bloom = new Bloom();
+        bloom.add("0x0981d9774a59a703db85f5eaa23672283ea31106");
+        assertTrue(
+                BloomMatcher.allOf("0x0981d9774a59a703db85f5eaa23672283ea31106")
+                        .mayMatch(bloom.getBytes()));
+        assertFalse(BloomMatcher.allOf("0xff").mayMatch(new Bloom().getBytesHexString()));
+    }
+
+    @Test
+    public void testBloomMatcherAlternatives() {
+        BloomMatcher matcher =
+                BloomMatcher.of(
+                        asList("0x10101121", ethereumSampleLogs.get(0)),
+                        asList(
+                                asList("0xff", ethereumSampleLogs.get(1)),
+                                null,
+                                asList(ethereumSampleLogs.get(3))));
+        assertTrue(matcher.mayMatch(ethereumSampleLogsBloom));
+
+        BloomMatcher missingTopic =
+                BloomMatcher.of(
+                        asList(ethereumSampleLogs.get(0)), asList(asList("0xff", "0x10101121")));
+        assertFalse(missingTopic.mayMatch(ethereumSampleLogsBloom));
+
+        // unusable filters cannot rule anything out
+        assertTrue(missingTopic.mayMatch((String) null));
+        assertTrue(missingTopic.mayMatch("0xffccaa"));
+        assertTrue(BloomMatcher.of(null, null).mayMatch(new Bloom().getBytesHexString()));
+        assertThrows(IllegalArgumentException.class, () -> missingTopic.mayMatch(new byte[3]));
+    }
 }